@@ -0,0 +1,84 @@
+package com.jimple.benchmark;
+
+import com.jimple.collector.MarkdownFileMapper;
+import com.jimple.corpus.CorpusGenerator;
+import com.jimple.corpus.CorpusOptions;
+import com.jimple.model.md.MarkdownFile;
+import com.jimple.model.md.MarkdownProperties;
+import com.jimple.parser.extractor.SimpleMarkdownExtractor;
+import com.jimple.parser.yml.SimpleMarkdownYmlParser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 벤치마크용 게시글 코퍼스
+ * {@link CorpusGenerator} 의 기본 옵션으로 만들므로 같은 크기에는 항상 같은 게시글이 만들어져 실행 간 결과를 비교할 수 있다.
+ */
+final class BenchmarkCorpus {
+
+    private BenchmarkCorpus() {
+    }
+
+    /**
+     * 게시글 마크다운 원문 목록 생성
+     * @param count 게시글 수
+     * @return 머리말을 포함한 마크다운 원문 목록 (비공개 게시글 포함)
+     */
+    static List<String> markdown(int count) {
+        CorpusGenerator generator = generator(count);
+        List<String> posts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            posts.add(generator.markdown(i));
+        }
+        return posts;
+    }
+
+    /**
+     * 머리말을 파싱한 공개 게시글 목록 생성 (디스크를 거치지 않음)
+     * @param count 생성할 게시글 수 (비공개 게시글은 제외되므로 결과는 이보다 적음)
+     * @return 공개 게시글 목록
+     */
+    static List<MarkdownFile> files(int count) {
+        SimpleMarkdownExtractor extractor = new SimpleMarkdownExtractor();
+        SimpleMarkdownYmlParser parser = new SimpleMarkdownYmlParser();
+        List<MarkdownFile> files = new ArrayList<>(count);
+        for (String markdown : markdown(count)) {
+            MarkdownProperties properties = parser.getProperties(extractor.extractFrontMatter(markdown));
+            if (properties.publish()) {
+                files.add(new MarkdownFile(properties, extractor.extractContent(markdown),
+                        MarkdownFileMapper.outputPath(properties)));
+            }
+        }
+        return files;
+    }
+
+    /**
+     * 게시글을 디렉토리에 마크다운 파일로 저장
+     * @param dir 저장할 디렉토리
+     * @param count 게시글 수
+     */
+    static void write(Path dir, int count) throws IOException {
+        generator(count).write(dir);
+    }
+
+    static void delete(Path dir) throws IOException {
+        if (dir == null || !Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static CorpusGenerator generator(int count) {
+        return new CorpusGenerator(new CorpusOptions().withPosts(count));
+    }
+}
@@ -0,0 +1,37 @@
+package com.jimple.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * 벤치마크 실행기
+ * JMH 명령행 옵션을 그대로 받으며, 처리량과 함께 할당률을 보고하도록 GC 프로파일러를 항상 추가한다.
+ * <pre>
+ * java -jar target/benchmarks.jar                              # 전체
+ * java -jar target/benchmarks.jar PipelineBenchmark -p posts=100  # 특정 벤치마크와 크기
+ * </pre>
+ */
+public final class Benchmarks {
+    private Benchmarks() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListProfilers()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        new Runner(new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class)
+                .build()
+        ).run();
+    }
+}
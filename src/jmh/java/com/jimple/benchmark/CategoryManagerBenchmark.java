@@ -0,0 +1,47 @@
+package com.jimple.benchmark;
+
+import com.jimple.manager.CategoryManager;
+import com.jimple.model.category.CategoryIndex;
+import com.jimple.model.md.MarkdownFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록으로 카테고리 인덱스 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CategoryManagerBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int posts;
+
+    private final CategoryManager categoryManager = new CategoryManager();
+    private List<MarkdownFile> files;
+
+    @Setup
+    public void setUp() {
+        files = BenchmarkCorpus.files(posts);
+    }
+
+    @Benchmark
+    public CategoryIndex buildCategoryIndex() {
+        return categoryManager.buildCategoryIndex(files);
+    }
+}
@@ -0,0 +1,57 @@
+package com.jimple.benchmark;
+
+import com.jimple.generator.converter.SimpleMd2HtmlConverter;
+import com.jimple.model.md.MarkdownFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 본문 100개를 HTML 로 변환 (문자열 생성과 스트리밍)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MarkdownConverterBenchmark {
+    private static final int POSTS = 100;
+
+    private final SimpleMd2HtmlConverter converter = new SimpleMd2HtmlConverter();
+    private List<String> bodies;
+
+    @Setup
+    public void setUp() {
+        bodies = BenchmarkCorpus.files(POSTS).stream().map(MarkdownFile::contents).toList();
+    }
+
+    @Benchmark
+    public void convertToString(Blackhole blackhole) {
+        for (String body : bodies) {
+            blackhole.consume(converter.convertBodyToHtml(body));
+        }
+    }
+
+    @Benchmark
+    public void convertStreaming(Blackhole blackhole) throws IOException {
+        Writer out = Writer.nullWriter();
+        for (String body : bodies) {
+            converter.convertBodyToHtml(body, out);
+        }
+        blackhole.consume(out);
+    }
+}
@@ -0,0 +1,80 @@
+package com.jimple.benchmark;
+
+import com.jimple.model.md.MarkdownProperties;
+import com.jimple.parser.extractor.SimpleMarkdownExtractor;
+import com.jimple.parser.yml.SimpleMarkdownYmlParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 마크다운 파일 100개의 머리말/본문 추출과 머리말 파싱
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MarkdownExtractorBenchmark {
+    private static final int POSTS = 100;
+
+    private final SimpleMarkdownExtractor extractor = new SimpleMarkdownExtractor();
+    private final SimpleMarkdownYmlParser parser = new SimpleMarkdownYmlParser();
+    private Path sourceDir;
+    private List<Path> files;
+    private List<String> frontMatters;
+
+    @Setup
+    public void setUp() throws IOException {
+        sourceDir = Files.createTempDirectory("jimple-bench-md");
+        BenchmarkCorpus.write(sourceDir, POSTS);
+        try (Stream<Path> paths = Files.list(sourceDir)) {
+            files = paths.sorted().toList();
+        }
+        frontMatters = files.stream().map(extractor::readFrontMatter).toList();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkCorpus.delete(sourceDir);
+    }
+
+    @Benchmark
+    public void readFrontMatter(Blackhole blackhole) {
+        for (Path file : files) {
+            blackhole.consume(extractor.readFrontMatter(file));
+        }
+    }
+
+    @Benchmark
+    public void extractContent(Blackhole blackhole) {
+        for (Path file : files) {
+            blackhole.consume(extractor.extractContent(extractor.extractFullContents(file)));
+        }
+    }
+
+    @Benchmark
+    public void parseFrontMatter(Blackhole blackhole) {
+        for (String frontMatter : frontMatters) {
+            MarkdownProperties properties = parser.getProperties(frontMatter);
+            blackhole.consume(properties);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.jimple.benchmark;
+
+import com.jimple.collector.MarkdownFileMapper;
+import com.jimple.finder.SimpleMarkdownFinder;
+import com.jimple.generator.SimpleMarkdownGenerator;
+import com.jimple.generator.converter.SimpleMd2HtmlConverter;
+import com.jimple.manager.ResultManager;
+import com.jimple.model.build.BuildOptions;
+import com.jimple.model.build.OutputFormat;
+import com.jimple.model.config.BlogProperties;
+import com.jimple.parser.extractor.SimpleMarkdownExtractor;
+import com.jimple.parser.template.SimpleTemplateEngine;
+import com.jimple.parser.yml.SimpleMarkdownYmlParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 디스크의 마크다운 디렉토리에서 결과 디렉토리까지 전체 빌드({@link ResultManager#processAndSaveResults})
+ * 한 번의 빌드가 길기 때문에 반복마다 한 번씩 실행하여 시간을 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PipelineBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int posts;
+
+    // 1=순차, 0=가상 스레드
+    @Param({"1", "0"})
+    public int threads;
+
+    @Param({"pretty", "minify"})
+    public String format;
+
+    private Path sourceDir;
+    private Path resultDir;
+    private ResultManager manager;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        sourceDir = Files.createTempDirectory("jimple-bench-src");
+        resultDir = Files.createTempDirectory("jimple-bench-out");
+        BenchmarkCorpus.write(sourceDir, posts);
+
+        BuildOptions options = new BuildOptions().withThreads(threads).withOutputFormat(OutputFormat.from(format));
+        manager = new ResultManager(
+                new SimpleMarkdownFinder(),
+                new MarkdownFileMapper(new SimpleMarkdownYmlParser(), new SimpleMarkdownExtractor()),
+                new SimpleMarkdownGenerator(new SimpleMd2HtmlConverter(), new BlogProperties(), new SimpleTemplateEngine()),
+                resultDir,
+                options
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        BenchmarkCorpus.delete(sourceDir);
+        BenchmarkCorpus.delete(resultDir);
+    }
+
+    @Benchmark
+    public void processAndSaveResults() {
+        manager.processAndSaveResults(sourceDir);
+    }
+}
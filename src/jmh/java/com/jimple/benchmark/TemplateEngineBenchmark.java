@@ -0,0 +1,69 @@
+package com.jimple.benchmark;
+
+import com.jimple.parser.template.CompiledTemplate;
+import com.jimple.parser.template.SimpleTemplateEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 템플릿 렌더링 (변환이 끝난 본문 HTML 을 넣음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TemplateEngineBenchmark {
+    private final SimpleTemplateEngine templateEngine = new SimpleTemplateEngine();
+    private CompiledTemplate template;
+    private Map<String, Object> data;
+
+    @Setup
+    public void setUp() throws IOException {
+        template = templateEngine.loadCompiledTemplate("templates/article.html");
+
+        String content = BenchmarkCorpus.files(1).getFirst().contents();
+        data = new HashMap<>();
+        data.put("title", "벤치마크 게시글");
+        data.put("date", LocalDate.of(2024, 1, 1));
+        data.put("content", "<p>" + content.replace("\n\n", "</p>\n<p>") + "</p>");
+        data.put("description", "템플릿 렌더링 벤치마크");
+        data.put("thumbnailUrl", "https://example.com/thumbnail.png");
+        data.put("blogTitle", "블로그");
+        data.put("topTitle", "블로그");
+        data.put("footerText", "© 2024");
+        data.put("mainMenu", "<li><a href=\"index.html\">홈</a></li>");
+        data.put("menuPosition", "left");
+        data.put("profile", "<div class=\"profile\">프로필</div>");
+        data.put("showDate", true);
+        data.put("jimpleCssUrl", "assets/jimple.css");
+    }
+
+    @Benchmark
+    public String renderToString() {
+        return templateEngine.render(template, data);
+    }
+
+    @Benchmark
+    public Writer renderStreaming() throws IOException {
+        Writer out = Writer.nullWriter();
+        templateEngine.render(template, data, out);
+        return out;
+    }
+}
@@ -2,30 +2,62 @@ package com.jimple;
 
 import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
 import com.jimple.collector.MarkdownFileMapper;
+import com.jimple.corpus.CorpusGenerator;
+import com.jimple.corpus.CorpusOptions;
 import com.jimple.finder.MarkdownFinder;
 import com.jimple.finder.SimpleMarkdownFinder;
 import com.jimple.generator.MarkdownGenerator;
 import com.jimple.generator.SimpleMarkdownGenerator;
+import com.jimple.generator.asset.SiteAssets;
+import com.jimple.generator.converter.CachingMd2HtmlConverter;
+import com.jimple.generator.converter.ConverterCache;
+import com.jimple.generator.converter.Md2HtmlConverter;
+import com.jimple.generator.converter.ProfilingMd2HtmlConverter;
 import com.jimple.generator.converter.SimpleMd2HtmlConverter;
+import com.jimple.manager.GzipSidecarWriter;
+import com.jimple.manager.MemorySiteOutput;
+import com.jimple.manager.OutputChange;
+import com.jimple.manager.ProfilingSiteOutput;
 import com.jimple.manager.ResultManager;
+import com.jimple.manager.SiteOutput;
+import com.jimple.manager.StagedResultDirectory;
+import com.jimple.manager.SyncSiteOutput;
 import com.jimple.model.Properties;
+import com.jimple.model.build.BuildOptions;
+import com.jimple.model.build.OutputFormat;
 import com.jimple.model.config.BlogProperties;
 import com.jimple.parser.extractor.SimpleMarkdownExtractor;
 import com.jimple.parser.template.SimpleTemplateEngine;
+import com.jimple.parser.template.TemplateRepository;
 import com.jimple.parser.yml.ConfigYmlParser;
 import com.jimple.parser.yml.SimpleMarkdownYmlParser;
+import com.jimple.profiler.BuildProfiler;
+import com.jimple.profiler.BuildReport;
+import com.jimple.server.DevServer;
+import com.jimple.server.OnDemandSite;
+import com.jimple.server.PageCache;
+import com.jimple.server.SiteContent;
+import com.jimple.watcher.SiteWatcher;
 
 import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.Objects;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 
 public class Main {
     private static final String VERSION = "0.0.1";
     private static final String DEFAULT_RESULT_DIR = "jimple-result";
+    private static final int DEFAULT_SERVE_PORT = 8080;
+    // 빌드 보고서 요약에 출력할 가장 느린 페이지 수
+    private static final int SLOWEST_PAGE_COUNT = 10;
 
     public static void main(String[] args) {
         // 명령줄 인수 처리
@@ -40,6 +72,9 @@ public class Main {
             case "help" -> printHelp();
             case "version" -> System.out.println("Jimple v" + VERSION);
             case "run" -> runCommand(args);
+            case "watch" -> watchCommand(args);
+            case "serve" -> serveCommand(args);
+            case "corpus" -> corpusCommand(args);
             default -> {
                 System.out.println("알 수 없는 명령: " + command);
                 printHelp();
@@ -60,63 +95,493 @@ public class Main {
             return;
         }
 
-        Path resultDir = (args.length > 2 && !args[2].startsWith("--"))
-                ? Paths.get(args[2])
-                : Paths.get(DEFAULT_RESULT_DIR);
-
-        Path configPath = null;
-        for (int i = 2; i < args.length; i++) {
-            if (args[i].equals("--config") && i + 1 < args.length) {
-                configPath = Paths.get(args[i + 1]);
-                break;
-            }
-        }
+        Path resultDir = findResultDir(args);
+        Path configPath = findConfigPath(args);
 
-        if (configPath == null) {
-            configPath = Path.of("");
+        BuildOptions buildOptions;
+        try {
+            buildOptions = parseBuildOptions(args);
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            printHelp();
+            return;
         }
 
         // 설정 파일 로드
-        Properties blogProperties;
-        ConfigYmlParser configParser = new ConfigYmlParser(new YAMLMapper());
+        Properties blogProperties = loadBlogProperties(configPath);
+
+        boolean gzip = hasFlag(args, "--gzip");
+        boolean clean = hasFlag(args, "--clean");
+        Path changeListFile = findChangeListFile(args);
+        Path profileReportFile = findProfileReportFile(args);
+        BuildProfiler profiler = profileReportFile != null ? BuildProfiler.create() : BuildProfiler.disabled();
+        StagedResultDirectory staged = null;
 
         try {
-            if (Files.exists(configPath)) {
-                String configContent = Files.readString(configPath);
-                blogProperties = configParser.getProperties(configContent);
-                System.out.println("설정 파일을 로드했습니다: " + configPath);
+            Path buildDir = resultDir;
+            if (hasFlag(args, "--staged")) {
+                // 새 세대 디렉터리에 빌드한 뒤 한 번에 교체 (--clean 이면 빈 디렉터리에서 시작)
+                System.out.println("    새 세대 디렉터리 준비...");
+                staged = StagedResultDirectory.prepare(resultDir, !clean);
+                buildDir = staged.stagingDir();
+                System.out.println("    새 세대 디렉터리: " + buildDir);
+            } else if (buildOptions.incremental()) {
+                System.out.println("    증분 빌드: 기존 결과 디렉터리를 유지합니다");
+            } else if (clean) {
+                System.out.println("    기존 결과 디렉터리 삭제...");
+                cleanupResultDirectory(resultDir);
+                System.out.println("    기존 결과 디렉터리 삭제 완료");
             } else {
-                blogProperties = configParser.getProperties("");
-                System.out.println("설정 파일이 없어 기본 설정을 사용합니다.");
+                System.out.println("    기존 결과와 비교하여 바뀐 파일만 갱신합니다");
             }
-        } catch (IOException e) {
-            System.err.println("설정 파일 로드 중 오류 발생: " + e.getMessage());
-            blogProperties = configParser.getProperties("");
-        }
 
+            // 내용이 같은 파일은 다시 쓰지 않아 수정 시각이 유지됨
+            SyncSiteOutput output = new SyncSiteOutput(buildDir);
+            SiteOutput siteOutput = profiler.enabled() ? new ProfilingSiteOutput(output, profiler) : output;
 
-        try {
-            System.out.println("    기존 결과 디렉터리 삭제...");
-            cleanupResultDirectory(resultDir);
-            System.out.println("    기존 결과 디렉터리 삭제 완료");
             System.out.println("    assets 디렉터리 복사...");
-            copyAssets(resultDir);
+            SiteAssets assets = SiteAssets.load(hasFlag(args, "--fingerprint"));
+            profiler.phase("assets", () -> loadAssets(siteOutput, assets));
             System.out.println("    assets 디렉터리 복사 완료");
             System.out.println("📦 출력 디렉토리: " + resultDir);
             System.out.println("⚙️ 설정 파일: " + configPath);
 
             System.out.println("🏗️ 정적 사이트 생성 시작...");
 
-            ResultManager manager = createResultManager(resultDir, blogProperties);
+            ResultManager manager = createResultManager(siteOutput, blogProperties, assets, buildOptions,
+                    findTemplateDir(args), findCacheDir(args), new SimpleMarkdownFinder(), createMapper(), profiler);
             manager.processAndSaveResults(sourceDir);
 
+            // 증분 빌드는 매니페스트를 기준으로 이전 결과를 삭제하므로 전체 빌드에서만 정리
+            if (!buildOptions.incremental()) {
+                profiler.phase("orphans", () -> output.deleteOrphans(path -> gzip && GzipSidecarWriter.isSidecar(path)));
+            }
+
+            Path gzipDir = buildDir;
+            Map<String, OutputChange> gzipChanges = gzip
+                    ? profiler.phase("gzip", () -> writeGzipSidecars(gzipDir).changes())
+                    : Map.of();
+            printChangeSummary(output.changes(), gzipChanges);
+            if (changeListFile != null) {
+                output.writeChangeList(changeListFile, gzipChanges);
+                System.out.println("    변경 목록: " + changeListFile);
+            }
+
+            if (staged != null) {
+                staged.publish();
+                System.out.println("    결과 디렉터리 교체 완료: " + resultDir + " -> " + buildDir.getFileName());
+            }
+
+            if (profiler.enabled()) {
+                writeProfileReport(profiler, profileReportFile);
+            }
+
             System.out.println("✅ 정적 사이트가 성공적으로 생성되었습니다!");
         } catch (Exception e) {
             System.err.println("❌ 사이트 생성 중 오류 발생: " + e.getMessage());
             e.printStackTrace();
+            // 교체 전에 실패하면 기존 결과 디렉터리는 그대로 유지됨
+            if (staged != null) {
+                staged.discard();
+            }
+            System.exit(1);
+        }
+
+    }
+
+    private static void watchCommand(String[] args) {
+        if (args.length < 2) {
+            System.out.println("소스 디렉터리를 지정해주세요.");
+            printHelp();
+            return;
+        }
+
+        Path sourceDir = Paths.get(args[1]);
+        if (!Files.isDirectory(sourceDir)) {
+            System.out.println("유효한 소스 디렉터리를 지정해주세요: " + sourceDir);
+            return;
+        }
+
+        Path resultDir = findResultDir(args);
+        Path configPath = findConfigPath(args);
+
+        BuildOptions buildOptions;
+        try {
+            // 감시 모드는 항상 매니페스트를 기준으로 바뀐 출력만 다시 생성
+            buildOptions = parseBuildOptions(args).withIncremental(true);
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            printHelp();
+            return;
+        }
+
+        Properties blogProperties = loadBlogProperties(configPath);
+
+        try {
+            // 내용이 같은 파일은 다시 쓰지 않아 변경 때마다 수정 시각이 바뀌지 않음
+            SiteOutput output = new SyncSiteOutput(resultDir);
+            SiteAssets assets = SiteAssets.load(hasFlag(args, "--fingerprint"));
+            loadAssets(output, assets);
+
+            MarkdownFinder finder = new SimpleMarkdownFinder();
+            MarkdownFileMapper mapper = createMapper();
+            ResultManager manager = createResultManager(output, blogProperties, assets, buildOptions,
+                    findTemplateDir(args), findCacheDir(args), finder, mapper, BuildProfiler.disabled());
+            SiteWatcher watcher = new SiteWatcher(sourceDir, finder, mapper, manager);
+
+            boolean gzip = hasFlag(args, "--gzip");
+
+            System.out.println("🏗️ 정적 사이트 생성 시작...");
+            watcher.buildAll();
+            if (gzip) {
+                writeGzipSidecars(resultDir);
+            }
+            System.out.println("✅ 정적 사이트가 생성되었습니다: " + resultDir);
+            System.out.println("👀 변경 감시 중: " + sourceDir + " (종료: Ctrl+C)");
+
+            if (gzip) {
+                watcher.watch(() -> writeGzipSidecars(resultDir));
+            } else {
+                watcher.watch();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.out.println("감시를 종료합니다.");
+        } catch (Exception e) {
+            System.err.println("❌ 감시 중 오류 발생: " + e.getMessage());
+            e.printStackTrace();
             System.exit(1);
         }
+    }
+
+    private static void serveCommand(String[] args) {
+        if (args.length < 2) {
+            System.out.println("소스 디렉터리를 지정해주세요.");
+            printHelp();
+            return;
+        }
+
+        Path sourceDir = Paths.get(args[1]);
+        if (!Files.isDirectory(sourceDir)) {
+            System.out.println("유효한 소스 디렉터리를 지정해주세요: " + sourceDir);
+            return;
+        }
+
+        Path configPath = findConfigPath(args);
+
+        BuildOptions buildOptions;
+        int port;
+        try {
+            // 메모리 출력도 매니페스트를 기준으로 바뀐 출력만 다시 생성
+            buildOptions = parseBuildOptions(args).withIncremental(true);
+            port = findPort(args);
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            printHelp();
+            return;
+        }
+
+        Properties blogProperties = loadBlogProperties(configPath);
+        if (hasFlag(args, "--lazy")) {
+            long pageCacheBytes;
+            try {
+                pageCacheBytes = findPageCacheBytes(args);
+            } catch (IllegalArgumentException e) {
+                System.out.println(e.getMessage());
+                printHelp();
+                return;
+            }
+            serveOnDemand(sourceDir, blogProperties, buildOptions, port, pageCacheBytes, args);
+            return;
+        }
+
+        MemorySiteOutput output = new MemorySiteOutput();
+
+        try (DevServer server = new DevServer(output, new InetSocketAddress(InetAddress.getLoopbackAddress(), port))) {
+            SiteAssets assets = SiteAssets.load(hasFlag(args, "--fingerprint"));
+            loadAssets(output, assets);
+
+            MarkdownFinder finder = new SimpleMarkdownFinder();
+            MarkdownFileMapper mapper = createMapper();
+            ResultManager manager = createResultManager(output, blogProperties, assets, buildOptions,
+                    findTemplateDir(args), findCacheDir(args), finder, mapper, BuildProfiler.disabled());
+            SiteWatcher watcher = new SiteWatcher(sourceDir, finder, mapper, manager);
+
+            System.out.println("🏗️ 정적 사이트 생성 시작...");
+            watcher.buildAll();
+            server.start();
+            System.out.println("🌐 개발 서버: http://localhost:" + server.port() + "/");
+            System.out.println("👀 변경 감시 중: " + sourceDir + " (종료: Ctrl+C)");
+
+            watcher.watch(server::notifyReload);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.out.println("개발 서버를 종료합니다.");
+        } catch (Exception e) {
+            System.err.println("❌ 개발 서버 실행 중 오류 발생: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 벤치마크와 대규모 테스트를 위한 합성 게시글 코퍼스 생성
+     */
+    private static void corpusCommand(String[] args) {
+        if (args.length < 2 || args[1].startsWith("--")) {
+            System.out.println("코퍼스를 생성할 디렉터리를 지정해주세요.");
+            printHelp();
+            return;
+        }
+
+        Path outputDir = Paths.get(args[1]);
+        CorpusOptions options;
+        try {
+            options = parseCorpusOptions(args);
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            printHelp();
+            return;
+        }
+
+        try {
+            System.out.println("📝 합성 게시글 " + options.posts() + "개 생성 (시드 " + options.seed() + ", 카테고리 깊이 "
+                    + options.categoryDepth() + ", 하위 " + options.categoryFanOut() + "개, 초안 비율 "
+                    + options.draftRatio() + ")");
+            new CorpusGenerator(options).write(outputDir);
+            System.out.println("✅ 코퍼스가 생성되었습니다: " + outputDir);
+        } catch (IOException e) {
+            System.err.println("❌ 코퍼스 생성 중 오류 발생: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * 미리 렌더링하지 않고 머리말 인덱스만 만든 뒤 요청받은 페이지만 렌더링하여 제공
+     * 인덱스는 시작 시점 기준이므로 파일 변경은 감시하지 않는다.
+     */
+    private static void serveOnDemand(Path sourceDir, Properties blogProperties, BuildOptions buildOptions, int port,
+                                      long pageCacheBytes, String[] args) {
+        MemorySiteOutput assetOutput = new MemorySiteOutput();
+
+        try {
+            SiteAssets assets = SiteAssets.load(hasFlag(args, "--fingerprint"));
+            loadAssets(assetOutput, assets);
+
+            System.out.println("🗂️ 머리말 인덱스 생성...");
+            OnDemandSite site = OnDemandSite.index(sourceDir, new SimpleMarkdownFinder(), createMapper(),
+                    createGenerator(blogProperties, assets, findTemplateDir(args), findCacheDir(args)),
+                    buildOptions.outputFormat(), buildOptions.categoryPageSize(), new PageCache(pageCacheBytes));
+            System.out.println("    게시글 " + site.postCount() + "개 인덱스 완료");
+
+            SiteContent content = path -> {
+                byte[] asset = assetOutput.get(path);
+                return asset != null ? asset : site.get(path);
+            };
+
+            try (DevServer server = new DevServer(content, new InetSocketAddress(InetAddress.getLoopbackAddress(), port),
+                    false)) {
+                server.start();
+                System.out.println("🌐 개발 서버 (요청 시 렌더링): http://localhost:" + server.port() + "/ (종료: Ctrl+C)");
+                Thread.currentThread().join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.out.println("개발 서버를 종료합니다.");
+        } catch (Exception e) {
+            System.err.println("❌ 개발 서버 실행 중 오류 발생: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 결과 디렉터리의 HTML/JSON/CSS 파일마다 .gz 파일을 CPU 코어 수만큼 병렬로 생성
+     */
+    private static GzipSidecarWriter.Summary writeGzipSidecars(Path resultDir) {
+        try (ExecutorService executor = new ForkJoinPool()) {
+            GzipSidecarWriter.Summary summary = new GzipSidecarWriter().compressAll(resultDir, executor);
+            System.out.println("    gzip 파일 생성: " + summary.written() + "개 (변경 없음 " + summary.upToDate()
+                    + "개, 건너뜀 " + summary.skipped() + "개)");
+            return summary;
+        }
+    }
+
+    /**
+     * 빌드 보고서를 저장하고 단계별 시간과 가장 느린 페이지 요약 출력
+     */
+    private static void writeProfileReport(BuildProfiler profiler, Path reportFile) throws IOException {
+        BuildReport report = profiler.report(SLOWEST_PAGE_COUNT);
+        report.write(reportFile);
+
+        System.out.printf("⏱️ 빌드 프로파일: 전체 %.1fms, 페이지 %d개, 기록 %,d바이트%n",
+                report.totalMillis(), report.pageCount(), report.bytesWritten());
+        report.phases().forEach((name, millis) -> System.out.printf("    %-14s %10.1fms%n", name, millis));
+        report.stages().forEach((name, stage) -> System.out.printf("    %-14s %10.1fms (스레드 합계)%n", name, stage.millis()));
+        for (BuildReport.Page page : report.slowestPages()) {
+            System.out.printf("    %10.1fms  %s%n", page.millis(), page.path());
+        }
+        System.out.println("    빌드 보고서: " + reportFile);
+    }
+
+    private static void printChangeSummary(Map<String, OutputChange> changes, Map<String, OutputChange> gzipChanges) {
+        Map<String, OutputChange> all = new HashMap<>(changes);
+        all.putAll(gzipChanges);
+
+        Map<OutputChange, Long> counts = new EnumMap<>(OutputChange.class);
+        for (OutputChange change : all.values()) {
+            counts.merge(change, 1L, Long::sum);
+        }
+        System.out.println("    변경된 파일: 추가 " + counts.getOrDefault(OutputChange.ADDED, 0L)
+                + "개, 수정 " + counts.getOrDefault(OutputChange.MODIFIED, 0L)
+                + "개, 삭제 " + counts.getOrDefault(OutputChange.DELETED, 0L) + "개");
+    }
+
+    private static boolean hasFlag(String[] args, String flag) {
+        for (int i = 2; i < args.length; i++) {
+            if (args[i].equals(flag)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static Path findResultDir(String[] args) {
+        return (args.length > 2 && !args[2].startsWith("--"))
+                ? Paths.get(args[2])
+                : Paths.get(DEFAULT_RESULT_DIR);
+    }
+
+    private static Path findConfigPath(String[] args) {
+        for (int i = 2; i < args.length; i++) {
+            if (args[i].equals("--config") && i + 1 < args.length) {
+                return Paths.get(args[i + 1]);
+            }
+        }
+
+        return Path.of("");
+    }
+
+    private static Path findTemplateDir(String[] args) {
+        for (int i = 2; i < args.length; i++) {
+            if (args[i].equals("--templates") && i + 1 < args.length) {
+                return Paths.get(args[i + 1]);
+            }
+        }
+
+        return null;
+    }
+
+    private static int findPort(String[] args) {
+        for (int i = 2; i < args.length; i++) {
+            if (args[i].equals("--port")) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("--port 옵션에 값을 지정해주세요.");
+                }
+                try {
+                    int port = Integer.parseInt(args[i + 1]);
+                    if (port < 0 || port > 65535) {
+                        throw new IllegalArgumentException("--port 값은 0 이상 65535 이하여야 합니다: " + args[i + 1]);
+                    }
+                    return port;
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("--port 값이 올바르지 않습니다: " + args[i + 1]);
+                }
+            }
+        }
+
+        return DEFAULT_SERVE_PORT;
+    }
+
+    /**
+     * 요청 시 렌더링 모드의 페이지 캐시 크기 (--page-cache 는 MB 단위)
+     */
+    private static long findPageCacheBytes(String[] args) {
+        for (int i = 2; i < args.length; i++) {
+            if (args[i].equals("--page-cache")) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("--page-cache 옵션에 값을 지정해주세요.");
+                }
+                try {
+                    long megabytes = Long.parseLong(args[i + 1]);
+                    if (megabytes < 1) {
+                        throw new IllegalArgumentException("--page-cache 값은 1 이상이어야 합니다: " + args[i + 1]);
+                    }
+                    return megabytes * 1024 * 1024;
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("--page-cache 값이 올바르지 않습니다: " + args[i + 1]);
+                }
+            }
+        }
+
+        return PageCache.DEFAULT_MAX_BYTES;
+    }
+
+    /**
+     * 빌드 보고서 파일 (--profile 이 없으면 null)
+     */
+    private static Path findProfileReportFile(String[] args) {
+        Path reportFile = null;
+
+        for (int i = 2; i < args.length; i++) {
+            if (args[i].equals("--profile") && reportFile == null) {
+                reportFile = Paths.get(BuildReport.DEFAULT_FILE_NAME);
+            }
+            if (args[i].equals("--profile-report") && i + 1 < args.length) {
+                reportFile = Paths.get(args[i + 1]);
+            }
+        }
+
+        return reportFile;
+    }
+
+    /**
+     * 변경 목록을 기록할 파일 (지정하지 않으면 null)
+     */
+    private static Path findChangeListFile(String[] args) {
+        for (int i = 2; i < args.length; i++) {
+            if (args[i].equals("--changed-list") && i + 1 < args.length) {
+                return Paths.get(args[i + 1]);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * 변환 캐시 디렉터리 (--no-cache 이면 null)
+     */
+    private static Path findCacheDir(String[] args) {
+        Path cacheDir = Paths.get(ConverterCache.DEFAULT_DIR);
+
+        for (int i = 2; i < args.length; i++) {
+            if (args[i].equals("--no-cache")) {
+                return null;
+            }
+            if (args[i].equals("--cache-dir") && i + 1 < args.length) {
+                cacheDir = Paths.get(args[i + 1]);
+            }
+        }
+
+        return cacheDir;
+    }
+
+    private static Properties loadBlogProperties(Path configPath) {
+        ConfigYmlParser configParser = new ConfigYmlParser(new YAMLMapper());
 
+        try {
+            if (Files.exists(configPath)) {
+                String configContent = Files.readString(configPath);
+                Properties blogProperties = configParser.getProperties(configContent);
+                System.out.println("설정 파일을 로드했습니다: " + configPath);
+                return blogProperties;
+            } else {
+                System.out.println("설정 파일이 없어 기본 설정을 사용합니다.");
+                return configParser.getProperties("");
+            }
+        } catch (IOException e) {
+            System.err.println("설정 파일 로드 중 오류 발생: " + e.getMessage());
+            return configParser.getProperties("");
+        }
     }
 
     private static void printHelp() {
@@ -125,24 +590,166 @@ public class Main {
         System.out.println("  help      도움말 표시");
         System.out.println("  version   버전 정보 표시");
         System.out.println("  run       마크다운 파일을 처리하여 HTML로 변환");
-        System.out.println("            사용법: run <소스디렉터리> [결과디렉터리]");
+        System.out.println("            사용법: run <소스디렉터리> [결과디렉터리] [options]");
+        System.out.println("  watch     파일 변경을 감시하며 바뀐 결과만 다시 생성");
+        System.out.println("            사용법: watch <소스디렉터리> [결과디렉터리] [options]");
+        System.out.println("  serve     결과를 메모리에 생성하여 개발 서버로 제공하고, 변경 시 브라우저를 새로고침");
+        System.out.println("            사용법: serve <소스디렉터리> [--port <포트>] [--lazy] [options]");
+        System.out.println("  corpus    벤치마크/대규모 테스트용 합성 게시글 생성 (같은 시드면 같은 결과)");
+        System.out.println("            사용법: corpus <출력디렉터리> [--posts <n>] [--seed <n>] [--depth <n>] [--fan-out <n>]"
+                + " [--draft-ratio <0~1>]");
+        System.out.println("Options (run):");
+        System.out.println("  --config <파일>     블로그 설정 파일 경로");
+        System.out.println("  --threads <n|auto>  페이지 렌더링 스레드 수 (기본 1, auto=가상 스레드)");
+        System.out.println("  --incremental       변경된 게시글만 다시 생성 (결과 디렉터리 유지)");
+        System.out.println("  --clean             결과 디렉터리를 모두 삭제한 뒤 생성 (기본은 바뀐 파일만 갱신)");
+        System.out.println("  --staged            새 세대 디렉터리에 빌드한 뒤 결과 디렉터리 링크를 한 번에 교체 (run)");
+        System.out.println("  --changed-list <파일> 추가/수정/삭제된 파일 목록을 \"A|M|D<탭>경로\" 형식으로 기록 (run)");
+        System.out.println("  --format <형식>     HTML 출력 형식: pretty(기본), minify, none");
+        System.out.println("  --category-page-size <n> 카테고리 JSON 한 페이지의 게시글 수 (기본 "
+                + BuildOptions.DEFAULT_CATEGORY_PAGE_SIZE + ", 0=나누지 않음)");
+        System.out.println("  --templates <디렉터리> 템플릿 덮어쓰기 디렉터리 (예: <디렉터리>/templates/article.html)");
+        System.out.println("  --cache-dir <디렉터리> 본문 변환 캐시 디렉터리 (기본 " + ConverterCache.DEFAULT_DIR + ")");
+        System.out.println("  --no-cache          본문 변환 캐시를 사용하지 않음");
+        System.out.println("  --fingerprint       에셋 파일명에 내용 해시를 넣고 asset-manifest.json 생성 (immutable 캐시용)");
+        System.out.println("  --profile           단계별 시간과 페이지별 렌더링 시간/크기/할당량을 "
+                + BuildReport.DEFAULT_FILE_NAME + " 에 기록 (run)");
+        System.out.println("  --profile-report <파일> 빌드 보고서 파일 경로 (--profile 포함)");
+        System.out.println("  --gzip              HTML/JSON/CSS 파일마다 미리 압축한 .gz 파일 생성 (run, watch)");
+        System.out.println("  --port <포트>       개발 서버 포트 (serve, 기본 " + DEFAULT_SERVE_PORT + ")");
+        System.out.println("  --lazy              미리 렌더링하지 않고 요청받은 페이지만 렌더링 (serve, 변경 감시 없음)");
+        System.out.println("  --page-cache <MB>   --lazy 에서 렌더링한 페이지를 보관할 최대 크기 (기본 "
+                + PageCache.DEFAULT_MAX_BYTES / (1024 * 1024) + ")");
     }
 
-    private static ResultManager createResultManager(Path resultDir, Properties config) {
-        MarkdownFileMapper mapper = new MarkdownFileMapper(
-                new SimpleMarkdownYmlParser(),
-                new SimpleMarkdownExtractor()
-        );
-        
-        MarkdownGenerator generator = new SimpleMarkdownGenerator(
-                new SimpleMd2HtmlConverter(),
+    private static BuildOptions parseBuildOptions(String[] args) {
+        BuildOptions options = new BuildOptions();
+
+        for (int i = 2; i < args.length; i++) {
+            if (args[i].equals("--threads")) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("--threads 옵션에 값을 지정해주세요.");
+                }
+                options = options.withThreads(parseThreads(args[++i]));
+            } else if (args[i].equals("--incremental")) {
+                options = options.withIncremental(true);
+            } else if (args[i].equals("--format")) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("--format 옵션에 값을 지정해주세요.");
+                }
+                options = options.withOutputFormat(OutputFormat.from(args[++i]));
+            } else if (args[i].equals("--category-page-size")) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("--category-page-size 옵션에 값을 지정해주세요.");
+                }
+                options = options.withCategoryPageSize(parseCategoryPageSize(args[++i]));
+            }
+        }
+
+        return options;
+    }
+
+    private static int parseCategoryPageSize(String value) {
+        try {
+            int pageSize = Integer.parseInt(value);
+            if (pageSize < 0) {
+                throw new IllegalArgumentException("--category-page-size 값은 0 이상이어야 합니다: " + value);
+            }
+            return pageSize;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--category-page-size 값이 올바르지 않습니다: " + value);
+        }
+    }
+
+    private static CorpusOptions parseCorpusOptions(String[] args) {
+        CorpusOptions options = new CorpusOptions();
+
+        for (int i = 2; i < args.length; i++) {
+            String option = args[i];
+            if (!option.equals("--posts") && !option.equals("--seed") && !option.equals("--depth")
+                    && !option.equals("--fan-out") && !option.equals("--draft-ratio")) {
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException(option + " 옵션에 값을 지정해주세요.");
+            }
+
+            String value = args[++i];
+            try {
+                options = switch (option) {
+                    case "--posts" -> options.withPosts(Integer.parseInt(value));
+                    case "--seed" -> options.withSeed(Long.parseLong(value));
+                    case "--depth" -> options.withCategories(Integer.parseInt(value), options.categoryFanOut());
+                    case "--fan-out" -> options.withCategories(options.categoryDepth(), Integer.parseInt(value));
+                    default -> options.withDraftRatio(Double.parseDouble(value));
+                };
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(option + " 값이 올바르지 않습니다: " + value);
+            }
+        }
+
+        return options;
+    }
+
+    private static int parseThreads(String value) {
+        if (value.equals("auto")) {
+            return BuildOptions.VIRTUAL_THREADS;
+        }
+
+        try {
+            int threads = Integer.parseInt(value);
+            if (threads < 1) {
+                throw new IllegalArgumentException("--threads 값은 1 이상이어야 합니다: " + value);
+            }
+            return threads;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--threads 값이 올바르지 않습니다: " + value);
+        }
+    }
+
+    private static ResultManager createResultManager(SiteOutput output, Properties config, SiteAssets assets,
+                                                     BuildOptions options, Path templateDir, Path cacheDir,
+                                                     MarkdownFinder finder, MarkdownFileMapper mapper,
+                                                     BuildProfiler profiler) {
+        return new ResultManager(finder, mapper, createGenerator(config, assets, templateDir, cacheDir, profiler), output,
+                options, profiler);
+    }
+
+    private static MarkdownGenerator createGenerator(Properties config, SiteAssets assets, Path templateDir,
+                                                     Path cacheDir) {
+        return createGenerator(config, assets, templateDir, cacheDir, BuildProfiler.disabled());
+    }
+
+    private static MarkdownGenerator createGenerator(Properties config, SiteAssets assets, Path templateDir,
+                                                     Path cacheDir, BuildProfiler profiler) {
+        // 캐시 조회를 포함한 본문 변환 전체를 변환 시간으로 측정
+        Md2HtmlConverter converter = createConverter(cacheDir);
+        if (profiler.enabled()) {
+            converter = new ProfilingMd2HtmlConverter(converter, profiler);
+        }
+
+        // 덮어쓰기 디렉터리가 없으면 클래스패스 템플릿만 사용
+        return new SimpleMarkdownGenerator(
+                converter,
                 (BlogProperties) config,
-                new SimpleTemplateEngine()
+                new SimpleTemplateEngine(new TemplateRepository(templateDir)),
+                assets.templateVariables()
         );
+    }
 
-        MarkdownFinder finder = new SimpleMarkdownFinder();
+    private static Md2HtmlConverter createConverter(Path cacheDir) {
+        Md2HtmlConverter converter = new SimpleMd2HtmlConverter();
+        if (cacheDir == null) {
+            return converter;
+        }
+        return new CachingMd2HtmlConverter(converter, ConverterCache.open(cacheDir, ConverterCache.DEFAULT_MAX_BYTES));
+    }
 
-        return new ResultManager(finder, mapper, generator, resultDir);
+    private static MarkdownFileMapper createMapper() {
+        return new MarkdownFileMapper(
+                new SimpleMarkdownYmlParser(),
+                new SimpleMarkdownExtractor()
+        );
     }
 
     private static void cleanupResultDirectory(Path resultDir) {
@@ -164,27 +771,15 @@ public class Main {
     }
 
 
-    private static void copyAssets(Path resultDir) {
+    /**
+     * 에셋 파일을 출력 대상에 저장 (빌드, 감시 모드, 개발 서버 공통)
+     */
+    private static void loadAssets(SiteOutput output, SiteAssets assets) {
         try {
-            Files.createDirectories(resultDir.resolve("assets"));
-            Files.createDirectories(resultDir.resolve("assets/fonts"));
-
-            Map<String, String> assetMap = Map.ofEntries(
-                    Map.entry("/jimple.css", "assets/jimple.css"),
-                    Map.entry("/index.css", "assets/index.css"),
-                    Map.entry("/list.css", "assets/list.css"),
-                    Map.entry("/fonts/IBMPlexSansKR-Regular-subset.woff2", "assets/fonts/IBMPlexSansKR-Regular.woff2"),
-                    Map.entry("/fonts/IBMPlexSansKR-Bold-subset.woff2", "assets/fonts/IBMPlexSansKR-Bold.woff2")
-            );
-
-            for (Map.Entry<String, String> entry : assetMap.entrySet()) {
-                Files.copy(
-                        Objects.requireNonNull(Main.class.getResourceAsStream(entry.getKey())),
-                        resultDir.resolve(entry.getValue())
-                );
+            for (Map.Entry<String, byte[]> entry : assets.files().entrySet()) {
+                output.write(entry.getKey(), entry.getValue());
             }
-
-        } catch (IOException | NullPointerException e) {
+        } catch (IOException e) {
             throw new RuntimeException("에셋 파일 복사 중 오류 발생", e);
         }
     }
@@ -3,13 +3,20 @@ package com.jimple.collector;
 import com.jimple.model.md.MarkdownFile;
 import com.jimple.model.md.MarkdownProperties;
 import com.jimple.parser.extractor.MarkdownExtractor;
+import com.jimple.parser.extractor.MarkdownSource;
 import com.jimple.parser.yml.SimpleMarkdownYmlParser;
+import com.jimple.profiler.MarkdownReadEvent;
 
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 public class MarkdownFileMapper {
@@ -21,9 +28,84 @@ public class MarkdownFileMapper {
         this.extractor = Objects.requireNonNull(extractor);
     }
 
+    /**
+     * 게시 대상 마크다운 파일만 읽어 게시일 역순으로 반환
+     * 각 파일의 머리말만 먼저 읽어 게시 여부와 날짜를 확인하고,
+     * 게시 대상 파일만 머리말을 읽은 곳에서 이어서 본문을 읽으므로 초안은 본문을 읽거나 파싱하지 않는다.
+     * @param markdownFiles 마크다운 파일 경로 목록
+     * @return 게시 대상 파일 목록 (수정 가능한 리스트)
+     */
     public List<MarkdownFile> collectPublishedMarkdownFiles(List<Path> markdownFiles) {
+        List<MarkdownFile> published = new ArrayList<>();
+
+        for (Path path : markdownFiles) {
+            MarkdownFile file = readPublished(path);
+            if (file != null) {
+                published.add(file);
+            }
+        }
+
+        return selectPublished(published);
+    }
+
+    /**
+     * 게시 대상 마크다운 파일을 executor 에서 병렬로 읽어 게시일 역순으로 반환
+     * 파일마다 머리말 확인과 본문 읽기를 하나의 작업으로 실행하고, 결과는 완료 순서가 아닌 입력 순서대로 모은 뒤
+     * 순차 수집과 같은 안정 정렬을 적용하므로 게시일이 같은 파일의 순서까지 스레드 수와 관계없이 같다.
+     * 실패한 파일이 있으면 입력 순서상 첫 번째 실패를 그대로 다시 던지고 남은 작업은 취소한다.
+     * @param markdownFiles 마크다운 파일 경로 목록
+     * @param executor 파일 읽기 작업을 실행할 executor (종료는 호출한 쪽에서 담당)
+     * @return 게시 대상 파일 목록 (수정 가능한 리스트)
+     */
+    public List<MarkdownFile> collectPublishedMarkdownFiles(List<Path> markdownFiles, ExecutorService executor) {
+        List<Future<MarkdownFile>> futures = new ArrayList<>(markdownFiles.size());
+        for (Path path : markdownFiles) {
+            futures.add(executor.submit(() -> readPublished(path)));
+        }
+
+        List<MarkdownFile> published = new ArrayList<>();
+        try {
+            for (Future<MarkdownFile> future : futures) {
+                MarkdownFile file = future.get();
+                if (file != null) {
+                    published.add(file);
+                }
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException("마크다운 파일을 읽는 중 오류가 발생했습니다", e.getCause());
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("마크다운 파일 수집이 중단되었습니다", e);
+        }
+
+        return selectPublished(published);
+    }
+
+    /**
+     * 파일의 머리말만 읽어 속성 반환 (본문은 읽지 않음)
+     * @param path 마크다운 파일 경로
+     * @return 마크다운 속성
+     */
+    public MarkdownProperties readProperties(Path path) {
+        return parser.getProperties(extractor.readFrontMatter(path));
+    }
+
+    /**
+     * 이미 생성된 마크다운 파일 중 게시 대상만 게시일 역순으로 정렬하여 반환
+     * 안정 정렬이므로 게시일이 같은 파일은 입력 순서를 유지한다.
+     * @param markdownFiles 마크다운 파일 목록
+     * @return 게시 대상 파일 목록 (수정 가능한 리스트)
+     */
+    public List<MarkdownFile> selectPublished(Collection<MarkdownFile> markdownFiles) {
         return markdownFiles.stream()
-                .map(this::generateMarkdownFile)
                 .sorted(Comparator.comparing(MarkdownFile::getPublishDate, Comparator.nullsLast(LocalDate::compareTo)).reversed())
                 .filter(MarkdownFile::isPublish)
                 .collect(Collectors.toList());
@@ -35,8 +117,45 @@ public class MarkdownFileMapper {
         String contents = extractor.extractContent(fullContents);
 
         MarkdownProperties properties = parser.getProperties(frontmatter);
-        String filePath = properties.title().replaceAll("\\s+", "-").concat(".html");
 
-        return new MarkdownFile(properties, contents, filePath);
+        return createMarkdownFile(properties, contents);
+    }
+
+    /**
+     * 머리말을 먼저 확인하고 게시 대상인 경우에만 같은 파일에서 이어서 본문을 읽어 마크다운 파일 생성
+     * @return 게시 대상이 아니면 null
+     */
+    private MarkdownFile readPublished(Path path) {
+        MarkdownReadEvent event = new MarkdownReadEvent();
+        event.begin();
+
+        MarkdownProperties properties;
+        String contents;
+        try (MarkdownSource source = extractor.open(path)) {
+            properties = parser.getProperties(source.frontMatter());
+            contents = properties.publish() ? source.content() : null;
+        }
+
+        if (event.shouldCommit()) {
+            event.path = String.valueOf(path);
+            event.published = properties.publish();
+            event.contentChars = contents == null ? 0 : contents.length();
+            event.commit();
+        }
+
+        return contents == null ? null : createMarkdownFile(properties, contents);
+    }
+
+    /**
+     * 게시글이 저장될 결과 디렉토리 기준 HTML 경로 (제목의 공백을 '-' 로 바꾼 이름)
+     * @param properties 마크다운 속성
+     * @return HTML 파일 경로
+     */
+    public static String outputPath(MarkdownProperties properties) {
+        return properties.title().replaceAll("\\s+", "-").concat(".html");
+    }
+
+    private MarkdownFile createMarkdownFile(MarkdownProperties properties, String contents) {
+        return new MarkdownFile(properties, contents, outputPath(properties));
     }
 }
\ No newline at end of file
@@ -0,0 +1,206 @@
+package com.jimple.corpus;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+/**
+ * 실제 블로그와 비슷한 형태의 합성 마크다운 게시글을 만드는 생성기
+ * 비공개 원고 없이 대규모 빌드를 재현하기 위한 것으로, 머리말에는 파서가 읽는 publish/title/date/description/
+ * thumbnailUrl/path 를 모두 넣고, 본문에는 한글 문단과 목록, 표, 코드 블록, 링크를 섞는다.
+ * <p>
+ * 본문 크기는 짧은 글이 대부분이고 아주 긴 글이 드물게 섞인 분포를 따르므로, 게시글 수가 늘 때 큰 글에서만 드러나는
+ * 비선형 지연도 재현할 수 있다. 게시글마다 시드와 번호로 만든 난수를 쓰므로 같은 옵션이면 생성 순서와 관계없이
+ * 항상 같은 내용이 만들어진다. 제목 끝에 번호가 들어가므로 출력 파일명이 겹치지 않는다.
+ */
+public class CorpusGenerator {
+    // 게시일은 이 날짜부터 과거로 분포 (실행 날짜와 관계없이 같은 결과를 만들기 위해 고정)
+    private static final LocalDate LATEST_DATE = LocalDate.of(2024, 12, 31);
+    private static final int DATE_RANGE_DAYS = 5 * 365;
+
+    private static final String[] WORDS = {
+            "스프링", "자바", "가상", "스레드", "캐시", "성능", "빌드", "템플릿", "마크다운", "카테고리",
+            "정적", "사이트", "생성기", "메모리", "할당", "측정", "결과", "디렉토리", "파일", "요청",
+            "서버", "배포", "설정", "테스트", "리팩터링", "데이터베이스", "인덱스", "트랜잭션", "네트워크", "보안",
+            "여행", "독서", "기록", "회고", "오늘", "주말", "커피", "산책", "사진", "음악"
+    };
+    private static final String[] ENDINGS = {"입니다.", "했습니다.", "합니다.", "이었다.", "하자.", "일까?"};
+    private static final String[] CATEGORY_NAMES = {
+            "개발", "일상", "독서", "여행", "Java", "Spring", "JVM", "Web", "DB", "도구", "회고", "사진"
+    };
+
+    private final CorpusOptions options;
+
+    public CorpusGenerator(CorpusOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * 게시글 번호에 해당하는 파일명 (post-00001.md 처럼 번호순으로 정렬됨)
+     * @param index 0부터 시작하는 게시글 번호
+     */
+    public String fileName(int index) {
+        int width = String.valueOf(Math.max(options.posts() - 1, 0)).length();
+        return String.format("post-%0" + width + "d.md", index);
+    }
+
+    /**
+     * 게시글 하나의 마크다운 원문 생성
+     * @param index 0부터 시작하는 게시글 번호
+     * @return 머리말을 포함한 마크다운
+     */
+    public String markdown(int index) {
+        SplittableRandom random = new SplittableRandom(options.seed() * 0x9E3779B97F4A7C15L + index);
+        StringBuilder sb = new StringBuilder(1024);
+
+        boolean draft = random.nextDouble() < options.draftRatio();
+        String title = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + index;
+
+        sb.append("---\n");
+        sb.append("publish: ").append(!draft).append('\n');
+        // 일부 제목은 따옴표로 감싸 두 가지 문법을 모두 거치게 함
+        if (random.nextInt(4) == 0) {
+            sb.append("title: '").append(title).append("'\n");
+        } else {
+            sb.append("title: ").append(title).append('\n');
+        }
+        sb.append("date: ").append(LATEST_DATE.minusDays(random.nextInt(DATE_RANGE_DAYS))).append('\n');
+        if (random.nextInt(5) != 0) {
+            sb.append("description: ").append(sentence(random, 6 + random.nextInt(10))).append('\n');
+        }
+        if (random.nextInt(3) == 0) {
+            sb.append("thumbnailUrl: https://example.com/images/").append(index).append(".png\n");
+        }
+        String path = categoryPath(random);
+        if (!path.isEmpty()) {
+            sb.append("path: ").append(path).append('\n');
+        }
+        sb.append("---\n\n");
+
+        appendBody(sb, random);
+        return sb.toString();
+    }
+
+    /**
+     * 모든 게시글을 디렉토리에 마크다운 파일로 저장
+     * @param dir 저장할 디렉토리 (없으면 생성)
+     * @throws IOException 저장 실패 시
+     */
+    public void write(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        for (int i = 0; i < options.posts(); i++) {
+            Files.writeString(dir.resolve(fileName(i)), markdown(i));
+        }
+    }
+
+    /**
+     * 깊이 1 ~ 최대 깊이의 카테고리 경로 (각 단계는 하위 카테고리 수 중 하나)
+     */
+    private String categoryPath(SplittableRandom random) {
+        if (options.categoryDepth() == 0) {
+            return "";
+        }
+
+        int depth = 1 + random.nextInt(options.categoryDepth());
+        StringBuilder path = new StringBuilder();
+        for (int level = 0; level < depth; level++) {
+            int child = random.nextInt(options.categoryFanOut());
+            if (level > 0) {
+                path.append('/');
+            }
+            path.append(CATEGORY_NAMES[child % CATEGORY_NAMES.length]);
+            if (child >= CATEGORY_NAMES.length) {
+                path.append(child / CATEGORY_NAMES.length + 1);
+            }
+        }
+        return path.toString();
+    }
+
+    /**
+     * 짧은 글 60%, 중간 30%, 긴 글 9%, 아주 긴 글 1% 비율의 본문
+     */
+    private static void appendBody(StringBuilder sb, SplittableRandom random) {
+        int roll = random.nextInt(100);
+        int sections;
+        if (roll < 60) {
+            sections = 1 + random.nextInt(2);
+        } else if (roll < 90) {
+            sections = 3 + random.nextInt(4);
+        } else if (roll < 99) {
+            sections = 8 + random.nextInt(8);
+        } else {
+            sections = 40 + random.nextInt(40);
+        }
+
+        for (int section = 0; section < sections; section++) {
+            sb.append("## ").append(sentence(random, 2 + random.nextInt(3))).append("\n\n");
+
+            for (int paragraph = 1 + random.nextInt(3); paragraph > 0; paragraph--) {
+                appendParagraph(sb, random);
+            }
+
+            switch (random.nextInt(5)) {
+                case 0 -> appendTable(sb, random);
+                case 1 -> appendCode(sb, random);
+                case 2 -> appendList(sb, random);
+                default -> {
+                }
+            }
+        }
+    }
+
+    private static void appendParagraph(StringBuilder sb, SplittableRandom random) {
+        for (int i = 2 + random.nextInt(5); i > 0; i--) {
+            sb.append(sentence(random, 4 + random.nextInt(8)));
+            switch (random.nextInt(10)) {
+                case 0 -> sb.append(" **").append(WORDS[random.nextInt(WORDS.length)]).append("**");
+                case 1 -> sb.append(" `").append(WORDS[random.nextInt(WORDS.length)]).append("()`");
+                case 2 -> sb.append(" [링크](https://example.com/").append(random.nextInt(1000)).append(')');
+                default -> {
+                }
+            }
+            sb.append(' ').append(ENDINGS[random.nextInt(ENDINGS.length)]).append(' ');
+        }
+        sb.append("\n\n");
+    }
+
+    private static void appendTable(StringBuilder sb, SplittableRandom random) {
+        sb.append("| 항목 | 설명 | 값 |\n| --- | --- | ---: |\n");
+        for (int row = 2 + random.nextInt(6); row > 0; row--) {
+            sb.append("| ").append(WORDS[random.nextInt(WORDS.length)])
+                    .append(" | ").append(sentence(random, 3))
+                    .append(" | ").append(random.nextInt(10_000)).append(" |\n");
+        }
+        sb.append('\n');
+    }
+
+    private static void appendCode(StringBuilder sb, SplittableRandom random) {
+        sb.append("```java\n");
+        sb.append("public class Example").append(random.nextInt(100)).append(" {\n");
+        for (int line = 2 + random.nextInt(10); line > 0; line--) {
+            sb.append("    int value").append(line).append(" = ").append(random.nextInt(1000))
+                    .append("; // ").append(WORDS[random.nextInt(WORDS.length)]).append('\n');
+        }
+        sb.append("}\n```\n\n");
+    }
+
+    private static void appendList(StringBuilder sb, SplittableRandom random) {
+        for (int item = 2 + random.nextInt(5); item > 0; item--) {
+            sb.append("- ").append(sentence(random, 3 + random.nextInt(5))).append('\n');
+        }
+        sb.append('\n');
+    }
+
+    private static String sentence(SplittableRandom random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sentence.toString();
+    }
+}
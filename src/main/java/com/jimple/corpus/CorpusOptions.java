@@ -0,0 +1,67 @@
+package com.jimple.corpus;
+
+/**
+ * 합성 게시글 코퍼스 생성 옵션
+ * @param posts 생성할 게시글 수 (초안 포함)
+ * @param seed 난수 시드 (같은 옵션이면 항상 같은 파일을 생성)
+ * @param categoryDepth 카테고리 경로의 최대 깊이 (0 이면 모든 게시글이 루트 카테고리)
+ * @param categoryFanOut 카테고리마다 하위 카테고리 수
+ * @param draftRatio 초안(publish: false) 비율 (0 이상 1 이하)
+ */
+public record CorpusOptions(
+        int posts,
+        long seed,
+        int categoryDepth,
+        int categoryFanOut,
+        double draftRatio
+) {
+    public static final long DEFAULT_SEED = 42;
+
+    public CorpusOptions {
+        if (posts < 0) {
+            throw new IllegalArgumentException("posts must be zero or positive");
+        }
+        if (categoryDepth < 0) {
+            throw new IllegalArgumentException("categoryDepth must be zero or positive");
+        }
+        if (categoryFanOut < 1) {
+            throw new IllegalArgumentException("categoryFanOut must be positive");
+        }
+        if (!(draftRatio >= 0 && draftRatio <= 1)) {
+            throw new IllegalArgumentException("draftRatio must be between 0 and 1");
+        }
+    }
+
+    // 기본 생성자 (게시글 100개, 깊이 3, 카테고리마다 4개, 초안 10%)
+    public CorpusOptions() {
+        this(100, DEFAULT_SEED, 3, 4, 0.1);
+    }
+
+    /**
+     * 게시글 수만 변경한 옵션 반환
+     */
+    public CorpusOptions withPosts(int posts) {
+        return new CorpusOptions(posts, seed, categoryDepth, categoryFanOut, draftRatio);
+    }
+
+    /**
+     * 시드만 변경한 옵션 반환
+     */
+    public CorpusOptions withSeed(long seed) {
+        return new CorpusOptions(posts, seed, categoryDepth, categoryFanOut, draftRatio);
+    }
+
+    /**
+     * 카테고리 깊이와 하위 카테고리 수만 변경한 옵션 반환
+     */
+    public CorpusOptions withCategories(int categoryDepth, int categoryFanOut) {
+        return new CorpusOptions(posts, seed, categoryDepth, categoryFanOut, draftRatio);
+    }
+
+    /**
+     * 초안 비율만 변경한 옵션 반환
+     */
+    public CorpusOptions withDraftRatio(double draftRatio) {
+        return new CorpusOptions(posts, seed, categoryDepth, categoryFanOut, draftRatio);
+    }
+}
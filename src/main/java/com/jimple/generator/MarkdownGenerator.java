@@ -3,10 +3,42 @@ package com.jimple.generator;
 import com.jimple.model.generator.GenerateType;
 import com.jimple.model.md.MarkdownFile;
 
+import java.io.IOException;
+
 public interface MarkdownGenerator {
     String generateToHtml(MarkdownFile file);
     String generateToHtml(MarkdownFile file, GenerateType type);
     String generateMainPage(MarkdownFile file, MarkdownFile latestFile);
     String generateLatestArticle(MarkdownFile file);
     String generateArchivePage(MarkdownFile file);
+
+    /**
+     * 게시글/목록 페이지를 출력 대상에 바로 기록
+     * 기본 구현은 문자열 결과를 기록하며, 구현체는 페이지 전체를 문자열로 만들지 않도록 재정의한다.
+     * @throws IOException 출력 실패 시
+     */
+    default void generateToHtml(MarkdownFile file, GenerateType type, Appendable out) throws IOException {
+        out.append(generateToHtml(file, type));
+    }
+
+    /**
+     * 메인 페이지를 출력 대상에 바로 기록
+     * @throws IOException 출력 실패 시
+     */
+    default void generateMainPage(MarkdownFile file, MarkdownFile latestFile, Appendable out) throws IOException {
+        out.append(generateMainPage(file, latestFile));
+    }
+
+    /**
+     * 아카이브 페이지를 출력 대상에 바로 기록
+     * @throws IOException 출력 실패 시
+     */
+    default void generateArchivePage(MarkdownFile file, Appendable out) throws IOException {
+        out.append(generateArchivePage(file));
+    }
+
+    /**
+     * 생성 결과에 영향을 주는 템플릿과 설정의 해시 (증분 빌드 판단용)
+     */
+    String fingerprint();
 }
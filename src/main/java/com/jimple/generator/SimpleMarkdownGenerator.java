@@ -1,32 +1,68 @@
 package com.jimple.generator;
 
+import com.jimple.generator.asset.SiteAssets;
 import com.jimple.generator.converter.Md2HtmlConverter;
 import com.jimple.model.config.BlogProperties;
 import com.jimple.model.generator.GenerateType;
 import com.jimple.model.md.MarkdownFile;
 import com.jimple.model.md.MarkdownProperties;
+import com.jimple.parser.template.CompiledTemplate;
 import com.jimple.parser.template.SimpleTemplateEngine;
+import com.jimple.parser.template.TemplateFragment;
+import com.jimple.util.Hashes;
+import com.jimple.util.LayeredMap;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 public class SimpleMarkdownGenerator implements MarkdownGenerator {
+    // 페이지 생성에 사용하는 템플릿 목록
+    private static final List<String> TEMPLATE_PATHS = List.of(
+            "templates/article.html",
+            "templates/list.html",
+            "templates/index.html",
+            "templates/archive.html",
+            "templates/latest-article.html",
+            "templates/profile.html"
+    );
+
+    // 템플릿을 읽을 수 없을 때 사용하는 기본 페이지
+    private static final CompiledTemplate FALLBACK_TEMPLATE = CompiledTemplate.compile(
+            "<!DOCTYPE html><html><head><title>{{title}}</title></head><body>{{content}}</body></html>");
+
     private final Md2HtmlConverter converter;
     private final BlogProperties config;
     private final SimpleTemplateEngine templateEngine;
+    // 템플릿 변수 이름 -> 에셋 URL (예: jimpleCssUrl -> assets/jimple.1a2b3c4d.css)
+    private final Map<String, String> assetUrls;
+
+    // 빌드 동안 공유하는 템플릿 데이터 (프로필 템플릿이 바뀌면 다시 생성)
+    private volatile SharedTemplateData sharedTemplateData;
 
     public SimpleMarkdownGenerator(Md2HtmlConverter converter, BlogProperties config, SimpleTemplateEngine templateEngine) {
+        this(converter, config, templateEngine, SiteAssets.defaultTemplateVariables());
+    }
+
+    /**
+     * @param assetUrls 템플릿에서 에셋을 참조할 변수와 URL ({@link SiteAssets#templateVariables()})
+     */
+    public SimpleMarkdownGenerator(Md2HtmlConverter converter, BlogProperties config, SimpleTemplateEngine templateEngine,
+                                   Map<String, String> assetUrls) {
         this.converter = converter;
         this.templateEngine = templateEngine;
         this.config = config;
+        this.assetUrls = Map.copyOf(assetUrls);
     }
 
     @Override
     public String generateLatestArticle(MarkdownFile file) {
         try {
-            String latestArticleTemplate = templateEngine.loadTemplate("templates/latest-article.html");
+            CompiledTemplate latestArticleTemplate = templateEngine.loadCompiledTemplate("templates/latest-article.html");
 
             Map<String, Object> latestArticleData = new HashMap<>();
             latestArticleData.put("dateString", file.properties().date().toString());
@@ -40,7 +76,7 @@ public class SimpleMarkdownGenerator implements MarkdownGenerator {
             latestArticleData.put("urlString", file.path());
             latestArticleData.put("thumbnailUrl", file.properties().thumbnailUrl());
 
-            return templateEngine.processTemplate(latestArticleTemplate, latestArticleData);
+            return templateEngine.render(latestArticleTemplate, latestArticleData);
         } catch (IOException e) {
             return "";
         }
@@ -55,16 +91,11 @@ public class SimpleMarkdownGenerator implements MarkdownGenerator {
             try {
                 String mainPageTemplate = templateEngine.loadTemplate("templates/index.html");
 
-                // 프로필 데이터 준비
-                Map<String, Object> mainPageData;
-                mainPageData = prepareTemplateData(file, mainPageTemplate);
-                mainPageData.put("logo", config.logo());
-                mainPageData.put("title", config.layout().welcome().title());
-                mainPageData.put("comment", config.layout().welcome().comment());
-                mainPageData.put("latestArticleHtml", generateLatestArticle(latestFile));
+                // 메인 페이지 데이터 준비
+                Map<String, Object> mainPageData = prepareMainPageData(file, latestFile, mainPageTemplate);
 
                 // 템플릿 적용
-                result = templateEngine.processTemplate(mainPageTemplate, mainPageData);
+                result = templateEngine.render(templateEngine.loadCompiledTemplate("templates/index.html"), mainPageData);
             } catch (IOException e) {
                 result = "";
             }
@@ -73,6 +104,26 @@ public class SimpleMarkdownGenerator implements MarkdownGenerator {
         return result;
     }
 
+    @Override
+    public void generateMainPage(MarkdownFile file, MarkdownFile latestFile, Appendable out) throws IOException {
+        if(!config.layout().welcome().show()) {
+            return;
+        }
+
+        String mainPageTemplate;
+        CompiledTemplate compiledTemplate;
+        try {
+            mainPageTemplate = templateEngine.loadTemplate("templates/index.html");
+            compiledTemplate = templateEngine.loadCompiledTemplate("templates/index.html");
+        } catch (IOException e) {
+            // 문자열 생성과 마찬가지로 템플릿이 없으면 빈 페이지
+            return;
+        }
+
+        Map<String, Object> mainPageData = prepareMainPageData(file, latestFile, mainPageTemplate);
+        templateEngine.render(compiledTemplate, mainPageData, out);
+    }
+
     @Override
     public String generateArchivePage(MarkdownFile file) {
         try {
@@ -80,12 +131,27 @@ public class SimpleMarkdownGenerator implements MarkdownGenerator {
             
             Map<String, Object> archiveData = prepareTemplateData(file, archiveTemplate);
             
-            return templateEngine.processTemplate(archiveTemplate, archiveData);
+            return templateEngine.render(templateEngine.loadCompiledTemplate("templates/archive.html"), archiveData);
         } catch (IOException | RuntimeException e) {
             return "";
         }
     }
 
+    @Override
+    public void generateArchivePage(MarkdownFile file, Appendable out) throws IOException {
+        CompiledTemplate archiveTemplate;
+        Map<String, Object> archiveData;
+        try {
+            archiveTemplate = templateEngine.loadCompiledTemplate("templates/archive.html");
+            archiveData = prepareTemplateData(file, templateEngine.loadTemplate("templates/archive.html"));
+        } catch (IOException | RuntimeException e) {
+            // 출력을 시작하기 전에 실패하면 문자열 생성과 마찬가지로 빈 페이지
+            return;
+        }
+
+        templateEngine.render(archiveTemplate, archiveData, out);
+    }
+
     @Override
     public String generateToHtml(MarkdownFile file, GenerateType type) {
         // 마크다운을 HTML로 변환
@@ -101,15 +167,66 @@ public class SimpleMarkdownGenerator implements MarkdownGenerator {
         };
     }
 
+    @Override
+    public void generateToHtml(MarkdownFile file, GenerateType type, Appendable out) throws IOException {
+        // 본문은 문자열로 만들지 않고 템플릿의 {{content}} 위치에서 바로 변환하여 기록
+        TemplateFragment content = body -> converter.convertBodyToHtml(file.contents(), body);
+        Map<String, Object> templateData = prepareTemplateData(file, content);
+
+        CompiledTemplate template;
+        try {
+            String templatePath = type == GenerateType.LIST ? "templates/list.html" : "templates/article.html";
+            template = templateEngine.loadCompiledTemplate(templatePath);
+        } catch (IOException e) {
+            // 기본 템플릿으로 대체
+            FALLBACK_TEMPLATE.render(templateData, out);
+            return;
+        }
+
+        templateEngine.render(template, templateData, out);
+    }
+
     public String generateToHtml(MarkdownFile file) {
         return generateToHtml(file, GenerateType.ARTICLE);
     }
 
+    @Override
+    public String fingerprint() {
+        StringBuilder sb = new StringBuilder(String.valueOf(config));
+        // 에셋 파일명이 바뀌면 모든 페이지의 참조도 바뀜
+        sb.append('\0').append(new TreeMap<>(assetUrls));
+
+        for (String templatePath : TEMPLATE_PATHS) {
+            sb.append('\0').append(templatePath).append('\0');
+            try {
+                sb.append(templateEngine.loadTemplate(templatePath));
+            } catch (IOException e) {
+                sb.append("<missing>");
+            }
+        }
+
+        return Hashes.sha256(sb.toString());
+    }
+
+    /**
+     * 메인 페이지 템플릿 데이터 준비
+     */
+    private Map<String, Object> prepareMainPageData(MarkdownFile file, MarkdownFile latestFile, String mainPageTemplate) {
+        Map<String, Object> mainPageData = prepareTemplateData(file, mainPageTemplate);
+        mainPageData.put("logo", config.logo());
+        mainPageData.put("title", config.layout().welcome().title());
+        mainPageData.put("comment", config.layout().welcome().comment());
+        mainPageData.put("latestArticleHtml", generateLatestArticle(latestFile));
+        return mainPageData;
+    }
+
     /**
      * 템플릿 데이터 준비
+     * 게시글마다 달라지는 값만 새로 담고, 설정 값과 메뉴/프로필 조각은 빌드 동안 공유하는 하위 계층에서 조회한다.
+     * @param htmlContent 본문 HTML (문자열 또는 바로 기록할 TemplateFragment)
      */
-    private Map<String, Object> prepareTemplateData(MarkdownFile file, String htmlContent) {
-        Map<String, Object> data = new HashMap<>();
+    private Map<String, Object> prepareTemplateData(MarkdownFile file, Object htmlContent) {
+        Map<String, Object> data = new LayeredMap<>(sharedTemplateData());
 
         // 문서 메타데이터
         data.put("title", file.properties().title());
@@ -118,6 +235,34 @@ public class SimpleMarkdownGenerator implements MarkdownGenerator {
         data.put("description", file.properties().description());
         data.put("thumbnailUrl", file.properties().thumbnailUrl());
 
+        return data;
+    }
+
+    /**
+     * 게시글과 무관한 공유 템플릿 데이터 반환
+     * 프로필 템플릿이 바뀌지 않는 한 처음 만든 데이터를 재사용하며, 여러 스레드에서 동시에 호출해도 안전하다.
+     */
+    private Map<String, Object> sharedTemplateData() {
+        CompiledTemplate profileTemplate;
+        try {
+            profileTemplate = templateEngine.loadCompiledTemplate("templates/profile.html");
+        } catch (IOException e) {
+            throw new RuntimeException("템플릿 로드 중 오류 발생");
+        }
+
+        // 저장소는 템플릿이 바뀌지 않는 한 같은 인스턴스를 반환하므로 참조 비교로 충분하다
+        SharedTemplateData current = sharedTemplateData;
+        if (current == null || current.profileTemplate() != profileTemplate) {
+            current = new SharedTemplateData(profileTemplate, createSharedTemplateData(profileTemplate));
+            sharedTemplateData = current;
+        }
+
+        return current.values();
+    }
+
+    private Map<String, Object> createSharedTemplateData(CompiledTemplate profileTemplate) {
+        Map<String, Object> data = new HashMap<>();
+
         // 블로그 기본 정보
         data.put("blogTitle", config.title());
         data.put("blogDescription", config.description());
@@ -137,15 +282,14 @@ public class SimpleMarkdownGenerator implements MarkdownGenerator {
         data.put("showDate", config.customization().showDate());
         data.put("footerText", config.customization().footerText());
 
+        // 에셋 URL (지문 모드에서는 내용 해시가 들어간 파일명)
+        data.putAll(assetUrls);
+
         // 메뉴 및 프로필 섹션 생성
-        try {
-            data.put("mainMenu", generateMenuSection());
-            data.put("profile", generateProfileSection(config));
-        } catch (IOException e) {
-            throw new RuntimeException("템플릿 로드 중 오류 발생");
-        }
+        data.put("mainMenu", generateMenuSection());
+        data.put("profile", generateProfileSection(config, profileTemplate));
 
-        return data;
+        return Collections.unmodifiableMap(data);
     }
 
     /**
@@ -153,15 +297,11 @@ public class SimpleMarkdownGenerator implements MarkdownGenerator {
      */
     private String applyArticleTemplate(Map<String, Object> data) {
         try {
-            String template = templateEngine.loadTemplate("templates/article.html");
-            return templateEngine.processTemplate(template, data);
+            CompiledTemplate template = templateEngine.loadCompiledTemplate("templates/article.html");
+            return templateEngine.render(template, data);
         } catch (IOException e) {
             // 기본 템플릿으로 대체
-            return String.format(
-                    "<!DOCTYPE html><html><head><title>%s</title></head><body>%s</body></html>",
-                    data.get("title"),
-                    data.get("content")
-            );
+            return FALLBACK_TEMPLATE.render(data);
         }
     }
 
@@ -170,15 +310,11 @@ public class SimpleMarkdownGenerator implements MarkdownGenerator {
      */
     private String applyListTemplate(Map<String, Object> data) {
         try {
-            String template = templateEngine.loadTemplate("templates/list.html");
-            return templateEngine.processTemplate(template, data);
+            CompiledTemplate template = templateEngine.loadCompiledTemplate("templates/list.html");
+            return templateEngine.render(template, data);
         } catch (IOException e) {
             // 기본 템플릿으로 대체
-            return String.format(
-                    "<!DOCTYPE html><html><head><title>%s</title></head><body>%s</body></html>",
-                    data.get("title"),
-                    data.get("content")
-            );
+            return FALLBACK_TEMPLATE.render(data);
         }
     }
 
@@ -199,10 +335,7 @@ public class SimpleMarkdownGenerator implements MarkdownGenerator {
     /**
      * 프로필 섹션 생성
      */
-    private String generateProfileSection(BlogProperties blogProps) throws IOException {
-        // 프로필 템플릿 로드
-        String profileTemplate = templateEngine.loadTemplate("templates/profile.html");
-
+    private String generateProfileSection(BlogProperties blogProps, CompiledTemplate profileTemplate) {
         // 프로필 데이터 준비
         Map<String, Object> profileData = new HashMap<>();
         profileData.put("nameString", blogProps.profile().name());
@@ -211,7 +344,7 @@ public class SimpleMarkdownGenerator implements MarkdownGenerator {
         profileData.put("emailString", blogProps.profile().email());
 
         // 템플릿 적용
-        return templateEngine.processTemplate(profileTemplate, profileData);
+        return templateEngine.render(profileTemplate, profileData);
     }
 
     /**
@@ -229,4 +362,12 @@ public class SimpleMarkdownGenerator implements MarkdownGenerator {
                 .map(line -> "<p class=\"article-description\">" + line + "</p>")
                 .collect(Collectors.joining("\n"));
     }
-}
\ No newline at end of file
+
+    /**
+     * 빌드 동안 공유하는 템플릿 데이터
+     * @param profileTemplate 프로필 섹션을 만들 때 사용한 템플릿
+     * @param values 설정 값과 메뉴/프로필 조각 (읽기 전용)
+     */
+    private record SharedTemplateData(CompiledTemplate profileTemplate, Map<String, Object> values) {
+    }
+}
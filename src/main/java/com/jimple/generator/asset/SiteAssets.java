@@ -0,0 +1,187 @@
+package com.jimple.generator.asset;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jimple.util.Hashes;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 사이트에 함께 배포하는 CSS/폰트 에셋과 템플릿에서 사용할 에셋 URL
+ * 지문(fingerprint) 모드에서는 각 파일 내용의 해시를 파일명에 넣어(예: assets/jimple.1a2b3c4d.css)
+ * 내용이 바뀌면 URL 도 바뀌게 하므로, 서버가 에셋을 Cache-Control: immutable 로 제공할 수 있다.
+ * <p>
+ * 템플릿은 고정된 경로 대신 {@code {{jimpleCssUrl}}} 같은 변수로 에셋을 참조하고,
+ * CSS 안의 url(...) 참조도 최종 파일명으로 바꾼 뒤 해시를 계산하므로 폰트가 바뀌면 CSS 의 URL 도 함께 바뀐다.
+ * 지문 모드에서는 원래 경로와 최종 경로의 대응을 {@link #MANIFEST_FILE} 로 함께 출력한다.
+ */
+public final class SiteAssets {
+    public static final String MANIFEST_FILE = "asset-manifest.json";
+
+    private static final int HASH_LENGTH = 8;
+    private static final Pattern CSS_URL = Pattern.compile("url\\(\\s*(['\"]?)([^'\")]+)\\1\\s*\\)");
+
+    // CSS 가 참조하는 폰트를 먼저 처리해야 CSS 의 참조를 최종 파일명으로 바꿀 수 있음
+    private static final List<Asset> ASSETS = List.of(
+            new Asset("fonts/IBMPlexSansKR-Regular-subset.woff2", "assets/fonts/IBMPlexSansKR-Regular.woff2", null),
+            new Asset("fonts/IBMPlexSansKR-Bold-subset.woff2", "assets/fonts/IBMPlexSansKR-Bold.woff2", null),
+            new Asset("jimple.css", "assets/jimple.css", "jimpleCssUrl"),
+            new Asset("index.css", "assets/index.css", "indexCssUrl"),
+            new Asset("list.css", "assets/list.css", "listCssUrl")
+    );
+
+    private static final ObjectMapper manifestMapper = new ObjectMapper();
+
+    private final boolean fingerprinted;
+    // 원래 경로 -> 최종 경로 (결과 디렉토리 기준)
+    private final Map<String, String> paths;
+    // 최종 경로 -> 파일 내용
+    private final Map<String, byte[]> files;
+
+    private SiteAssets(boolean fingerprinted, Map<String, String> paths, Map<String, byte[]> files) {
+        this.fingerprinted = fingerprinted;
+        this.paths = Collections.unmodifiableMap(paths);
+        this.files = Collections.unmodifiableMap(files);
+    }
+
+    /**
+     * 클래스패스의 에셋을 읽어 최종 파일명과 내용 결정
+     * @param fingerprint 파일 내용의 해시를 파일명에 넣을지 여부
+     * @return 사이트 에셋
+     * @throws RuntimeException 에셋 리소스를 읽을 수 없는 경우
+     */
+    public static SiteAssets load(boolean fingerprint) {
+        // 클래스패스 리소스 -> 최종 경로 (CSS 참조 변환용)
+        Map<String, String> resourcePaths = new LinkedHashMap<>();
+        Map<String, String> paths = new LinkedHashMap<>();
+        Map<String, byte[]> files = new LinkedHashMap<>();
+
+        for (Asset asset : ASSETS) {
+            byte[] contents = readResource(asset.resource());
+            if (asset.outputPath().endsWith(".css")) {
+                contents = rewriteCssUrls(new String(contents, StandardCharsets.UTF_8), asset.outputPath(), resourcePaths)
+                        .getBytes(StandardCharsets.UTF_8);
+            }
+
+            String path = fingerprint ? fingerprintedPath(asset.outputPath(), contents) : asset.outputPath();
+            resourcePaths.put(asset.resource(), path);
+            paths.put(asset.outputPath(), path);
+            files.put(path, contents);
+        }
+
+        return new SiteAssets(fingerprint, paths, files);
+    }
+
+    /**
+     * 지문 없이 고정된 경로를 사용하는 에셋의 템플릿 변수 (리소스를 읽지 않음)
+     */
+    public static Map<String, String> defaultTemplateVariables() {
+        Map<String, String> variables = new LinkedHashMap<>();
+        for (Asset asset : ASSETS) {
+            if (asset.templateVariable() != null) {
+                variables.put(asset.templateVariable(), asset.outputPath());
+            }
+        }
+        return Collections.unmodifiableMap(variables);
+    }
+
+    /**
+     * 템플릿에서 사용할 에셋 URL 변수 (예: jimpleCssUrl -> assets/jimple.1a2b3c4d.css)
+     */
+    public Map<String, String> templateVariables() {
+        Map<String, String> variables = new LinkedHashMap<>();
+        for (Asset asset : ASSETS) {
+            if (asset.templateVariable() != null) {
+                variables.put(asset.templateVariable(), paths.get(asset.outputPath()));
+            }
+        }
+        return Collections.unmodifiableMap(variables);
+    }
+
+    /**
+     * 결과 디렉토리에 저장할 파일 (최종 경로 -> 내용, 지문 모드에서는 매니페스트 포함)
+     * 반환된 배열은 수정하면 안 된다.
+     */
+    public Map<String, byte[]> files() {
+        if (!fingerprinted) {
+            return files;
+        }
+
+        Map<String, byte[]> withManifest = new LinkedHashMap<>(files);
+        withManifest.put(MANIFEST_FILE, manifestJson().getBytes(StandardCharsets.UTF_8));
+        return Collections.unmodifiableMap(withManifest);
+    }
+
+    /**
+     * 원래 경로 -> 최종 경로 매니페스트 JSON (경로순)
+     */
+    public String manifestJson() {
+        try {
+            return manifestMapper.writeValueAsString(new TreeMap<>(paths));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("에셋 매니페스트를 생성할 수 없습니다", e);
+        }
+    }
+
+    public boolean fingerprinted() {
+        return fingerprinted;
+    }
+
+    /**
+     * CSS 의 url(...) 참조 중 에셋 리소스를 가리키는 것을 CSS 최종 위치 기준의 상대 경로로 변경
+     * CSS 리소스는 클래스패스 루트에 있으므로 참조 경로가 곧 리소스 경로이다.
+     */
+    private static String rewriteCssUrls(String css, String cssOutputPath, Map<String, String> resourcePaths) {
+        String cssDir = cssOutputPath.substring(0, cssOutputPath.lastIndexOf('/') + 1);
+
+        Matcher matcher = CSS_URL.matcher(css);
+        StringBuilder result = new StringBuilder(css.length());
+        while (matcher.find()) {
+            String target = resourcePaths.get(matcher.group(2));
+            String replacement = target == null || !target.startsWith(cssDir)
+                    ? matcher.group()
+                    : "url(" + matcher.group(1) + target.substring(cssDir.length()) + matcher.group(1) + ")";
+            matcher.appendReplacement(result, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(result);
+
+        return result.toString();
+    }
+
+    /**
+     * 확장자 앞에 내용 해시를 넣은 경로 (예: assets/jimple.css -> assets/jimple.1a2b3c4d.css)
+     */
+    private static String fingerprintedPath(String path, byte[] contents) {
+        String hash = Hashes.sha256(contents).substring(0, HASH_LENGTH);
+        int dot = path.lastIndexOf('.');
+        return path.substring(0, dot) + "." + hash + path.substring(dot);
+    }
+
+    private static byte[] readResource(String resource) {
+        try (InputStream is = SiteAssets.class.getResourceAsStream("/" + resource)) {
+            if (is == null) {
+                throw new RuntimeException("에셋 파일을 찾을 수 없습니다: " + resource);
+            }
+            return is.readAllBytes();
+        } catch (IOException e) {
+            throw new RuntimeException("에셋 파일을 읽을 수 없습니다: " + resource, e);
+        }
+    }
+
+    /**
+     * @param resource 클래스패스 리소스 경로
+     * @param outputPath 결과 디렉토리 기준 경로 (지문을 넣기 전)
+     * @param templateVariable 템플릿에 URL 을 노출할 변수 이름 (없으면 null)
+     */
+    private record Asset(String resource, String outputPath, String templateVariable) {
+    }
+}
@@ -0,0 +1,120 @@
+package com.jimple.generator.converter;
+
+import com.jimple.model.md.MarkdownProperties;
+import com.jimple.profiler.MarkdownConversionEvent;
+import com.jimple.util.Hashes;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * 본문 변환 결과를 {@link ConverterCache} 에 저장하여 재사용하는 변환기
+ * 캐시 키는 변환기 식별 문자열과 마크다운 본문의 해시이므로, 본문이나 변환기 설정이 바뀌면 자동으로 다시 변환한다.
+ * 캐시에 있는 본문은 원래 변환기를 전혀 호출하지 않는다.
+ */
+public class CachingMd2HtmlConverter implements Md2HtmlConverter {
+    private final Md2HtmlConverter delegate;
+    private final ConverterCache cache;
+    private final String keyPrefix;
+
+    /**
+     * @param delegate 실제 변환기
+     * @param cache 변환 결과 캐시
+     */
+    public CachingMd2HtmlConverter(Md2HtmlConverter delegate, ConverterCache cache) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Objects.requireNonNull(cache);
+        this.keyPrefix = delegate.fingerprint() + '\0';
+    }
+
+    @Override
+    public String convertBodyToHtml(String markdown) {
+        if (markdown == null || markdown.isEmpty()) {
+            return delegate.convertBodyToHtml(markdown);
+        }
+
+        MarkdownConversionEvent event = new MarkdownConversionEvent();
+        event.begin();
+        String key = Hashes.sha256(keyPrefix + markdown);
+        String html = cache.get(key);
+        if (html == null) {
+            // 실제 변환은 원래 변환기가 기록함
+            html = delegate.convertBodyToHtml(markdown);
+            cache.put(key, html);
+        } else if (event.shouldCommit()) {
+            event.markdownChars = markdown.length();
+            event.htmlChars = html.length();
+            event.cacheHit = true;
+            event.commit();
+        }
+        return html;
+    }
+
+    /**
+     * 캐시에 있으면 저장된 결과를 기록하고, 없으면 원래 변환기의 스트리밍 결과를 출력 대상과 캐시 항목에 함께 기록
+     * 본문 HTML 만 캐시 항목으로 모으므로 페이지 전체는 여전히 문자열로 만들지 않는다.
+     * 변환이 끝까지 완료된 경우에만 캐시에 저장한다.
+     */
+    @Override
+    public void convertBodyToHtml(String markdown, Appendable out) throws IOException {
+        if (markdown == null || markdown.isEmpty()) {
+            delegate.convertBodyToHtml(markdown, out);
+            return;
+        }
+
+        MarkdownConversionEvent event = new MarkdownConversionEvent();
+        event.begin();
+        String key = Hashes.sha256(keyPrefix + markdown);
+        String html = cache.get(key);
+        if (html == null) {
+            StringBuilder entry = new StringBuilder();
+            delegate.convertBodyToHtml(markdown, new TeeAppendable(out, entry));
+            cache.put(key, entry.toString());
+            return;
+        }
+
+        out.append(html);
+        if (event.shouldCommit()) {
+            event.markdownChars = markdown.length();
+            event.htmlChars = html.length();
+            event.cacheHit = true;
+            event.commit();
+        }
+    }
+
+    @Override
+    public String convertHeaderToHtml(MarkdownProperties properties) {
+        return delegate.convertHeaderToHtml(properties);
+    }
+
+    @Override
+    public String fingerprint() {
+        return delegate.fingerprint();
+    }
+
+    /**
+     * 출력 대상에 기록하는 내용을 캐시 항목에도 복사하는 Appendable
+     */
+    private record TeeAppendable(Appendable out, StringBuilder copy) implements Appendable {
+        @Override
+        public Appendable append(CharSequence csq) throws IOException {
+            out.append(csq);
+            copy.append(csq);
+            return this;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) throws IOException {
+            out.append(csq, start, end);
+            copy.append(csq, start, end);
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) throws IOException {
+            out.append(c);
+            copy.append(c);
+            return this;
+        }
+    }
+}
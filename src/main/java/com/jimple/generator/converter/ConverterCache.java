@@ -0,0 +1,231 @@
+package com.jimple.generator.converter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 변환 결과를 디스크에 저장하는 크기 제한 LRU 캐시
+ * 키(해시)마다 {@code <캐시 디렉토리>/<키 앞 2자리>/<키>.html} 파일 하나에 결과를 저장하며,
+ * 파일의 수정 시각을 마지막 사용 시각으로 사용하여 빌드가 바뀌어도 사용 순서를 유지한다.
+ * 저장된 전체 크기가 최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 삭제한다.
+ * <p>
+ * 캐시는 빌드 결과에 영향을 주지 않는 최적화이므로 디스크 오류는 경고만 출력하고 캐시가 없는 것처럼 동작한다.
+ * 여러 스레드에서 동시에 사용해도 안전하다.
+ */
+public class ConverterCache {
+    public static final String DEFAULT_DIR = ".jimple-cache";
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+    private static final String ENTRY_SUFFIX = ".html";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path cacheDir;
+    private final long maxBytes;
+    // 키 -> 파일 크기 (접근 순서이므로 첫 항목이 가장 오래 사용하지 않은 항목)
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    private ConverterCache(Path cacheDir, long maxBytes) {
+        this.cacheDir = cacheDir;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * 캐시 디렉토리를 열어 이전에 저장된 항목을 사용 순서대로 불러옴
+     * 디렉토리가 없으면 첫 저장 시 생성한다.
+     * @param cacheDir 캐시 디렉토리
+     * @param maxBytes 저장할 최대 크기 (바이트)
+     * @return 변환 결과 캐시
+     */
+    public static ConverterCache open(Path cacheDir, long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be positive");
+        }
+
+        ConverterCache cache = new ConverterCache(cacheDir, maxBytes);
+        cache.loadEntries();
+        return cache;
+    }
+
+    /**
+     * 저장된 변환 결과 조회
+     * 찾은 항목은 가장 최근에 사용한 항목이 된다.
+     * @param key 캐시 키 (16진수 해시)
+     * @return 저장된 결과, 없으면 null
+     */
+    public String get(String key) {
+        synchronized (this) {
+            if (entries.get(key) == null) {
+                return null;
+            }
+        }
+
+        Path file = entryPath(key);
+        try {
+            String value = Files.readString(file, StandardCharsets.UTF_8);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return value;
+        } catch (NoSuchFileException e) {
+            // 다른 프로세스가 삭제한 경우
+            remove(key);
+            return null;
+        } catch (IOException e) {
+            System.err.println("변환 캐시를 읽을 수 없습니다: " + file);
+            remove(key);
+            return null;
+        }
+    }
+
+    /**
+     * 변환 결과 저장
+     * 임시 파일에 쓴 뒤 이동하므로 중단되어도 불완전한 항목이 남지 않는다.
+     * @param key 캐시 키 (16진수 해시)
+     * @param value 변환 결과
+     */
+    public void put(String key, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > maxBytes) {
+            return;
+        }
+
+        Path file = entryPath(key);
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), key, TEMP_SUFFIX);
+            try {
+                Files.write(temp, bytes);
+                moveAtomically(temp, file);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            System.err.println("변환 캐시를 저장할 수 없습니다: " + file);
+            return;
+        }
+
+        List<String> evicted = new ArrayList<>();
+        synchronized (this) {
+            Long previous = entries.put(key, (long) bytes.length);
+            totalBytes += bytes.length - (previous == null ? 0 : previous);
+
+            Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+            while (totalBytes > maxBytes && iterator.hasNext()) {
+                Map.Entry<String, Long> eldest = iterator.next();
+                if (eldest.getKey().equals(key)) {
+                    continue;
+                }
+                totalBytes -= eldest.getValue();
+                evicted.add(eldest.getKey());
+                iterator.remove();
+            }
+        }
+
+        for (String evictedKey : evicted) {
+            try {
+                Files.deleteIfExists(entryPath(evictedKey));
+            } catch (IOException e) {
+                System.err.println("변환 캐시 항목을 삭제할 수 없습니다: " + entryPath(evictedKey));
+            }
+        }
+    }
+
+    /**
+     * 저장된 항목 수
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 저장된 전체 크기 (바이트)
+     */
+    public synchronized long totalBytes() {
+        return totalBytes;
+    }
+
+    private synchronized void remove(String key) {
+        Long size = entries.remove(key);
+        if (size != null) {
+            totalBytes -= size;
+        }
+    }
+
+    private Path entryPath(String key) {
+        return cacheDir.resolve(key.substring(0, 2)).resolve(key + ENTRY_SUFFIX);
+    }
+
+    /**
+     * 캐시 디렉토리의 항목을 수정 시각 순으로 불러오고, 최대 크기를 넘는 오래된 항목은 삭제
+     */
+    private void loadEntries() {
+        if (!Files.isDirectory(cacheDir)) {
+            return;
+        }
+
+        List<StoredEntry> stored = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(cacheDir, 2)) {
+            for (Path file : paths.filter(Files::isRegularFile).toList()) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(TEMP_SUFFIX)) {
+                    // 중단된 저장이 남긴 임시 파일
+                    Files.deleteIfExists(file);
+                    continue;
+                }
+                if (!name.endsWith(ENTRY_SUFFIX)) {
+                    continue;
+                }
+
+                // 키에 해당하는 위치에 있는 파일만 항목으로 사용
+                String key = name.substring(0, name.length() - ENTRY_SUFFIX.length());
+                if (key.length() > 2 && entryPath(key).equals(file)) {
+                    stored.add(new StoredEntry(key, Files.size(file), Files.getLastModifiedTime(file)));
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("변환 캐시 디렉토리를 읽을 수 없어 빈 캐시로 시작합니다: " + cacheDir);
+            return;
+        }
+
+        stored.sort(Comparator.comparing(StoredEntry::modified));
+        for (StoredEntry entry : stored) {
+            entries.put(entry.key(), entry.size());
+            totalBytes += entry.size();
+        }
+
+        Iterator<Map.Entry<String, Long>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            totalBytes -= eldest.getValue();
+            try {
+                Files.deleteIfExists(entryPath(eldest.getKey()));
+            } catch (IOException e) {
+                System.err.println("변환 캐시 항목을 삭제할 수 없습니다: " + entryPath(eldest.getKey()));
+            }
+            iterator.remove();
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private record StoredEntry(String key, long size, FileTime modified) {
+    }
+}
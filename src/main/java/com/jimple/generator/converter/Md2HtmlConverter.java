@@ -2,7 +2,28 @@ package com.jimple.generator.converter;
 
 import com.jimple.model.md.MarkdownProperties;
 
+import java.io.IOException;
+
 public interface Md2HtmlConverter {
     String convertHeaderToHtml(MarkdownProperties properties);
     String convertBodyToHtml(String markdown);
-}
\ No newline at end of file
+
+    /**
+     * 마크다운 본문을 HTML 로 변환하여 출력 대상에 바로 기록
+     * 기본 구현은 문자열로 변환한 뒤 기록하므로, 구현체는 중간 문자열 없이 기록하도록 재정의한다.
+     * @param markdown 마크다운 본문
+     * @param out 출력 대상
+     * @throws IOException 출력 실패 시
+     */
+    default void convertBodyToHtml(String markdown, Appendable out) throws IOException {
+        out.append(convertBodyToHtml(markdown));
+    }
+
+    /**
+     * 같은 마크다운에 대해 같은 HTML 을 만드는 변환기인지 구분하는 식별 문자열
+     * 변환 결과를 캐시할 때 키에 포함되므로, 확장 기능이나 렌더링 방식이 바뀌면 값도 바뀌어야 한다.
+     */
+    default String fingerprint() {
+        return getClass().getName();
+    }
+}
@@ -0,0 +1,45 @@
+package com.jimple.generator.converter;
+
+import com.jimple.model.md.MarkdownProperties;
+import com.jimple.profiler.BuildProfiler;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * 본문 변환 시간을 {@link BuildProfiler} 의 변환 작업으로 기록하는 변환기
+ * 스트리밍 변환 중 출력 대상에 기록하는 시간은 출력 쪽 작업(정리/쓰기)이 따로 재므로 변환 시간에서 빠진다.
+ */
+public class ProfilingMd2HtmlConverter implements Md2HtmlConverter {
+    private final Md2HtmlConverter delegate;
+    private final BuildProfiler profiler;
+
+    /**
+     * @param delegate 실제 변환기
+     * @param profiler 측정 결과를 기록할 프로파일러
+     */
+    public ProfilingMd2HtmlConverter(Md2HtmlConverter delegate, BuildProfiler profiler) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.profiler = Objects.requireNonNull(profiler);
+    }
+
+    @Override
+    public String convertBodyToHtml(String markdown) {
+        return profiler.time(BuildProfiler.Stage.CONVERSION, () -> delegate.convertBodyToHtml(markdown));
+    }
+
+    @Override
+    public void convertBodyToHtml(String markdown, Appendable out) throws IOException {
+        profiler.time(BuildProfiler.Stage.CONVERSION, () -> delegate.convertBodyToHtml(markdown, out));
+    }
+
+    @Override
+    public String convertHeaderToHtml(MarkdownProperties properties) {
+        return profiler.time(BuildProfiler.Stage.CONVERSION, () -> delegate.convertHeaderToHtml(properties));
+    }
+
+    @Override
+    public String fingerprint() {
+        return delegate.fingerprint();
+    }
+}
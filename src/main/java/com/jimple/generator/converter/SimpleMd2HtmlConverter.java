@@ -1,23 +1,33 @@
 package com.jimple.generator.converter;
 
 import com.jimple.model.md.MarkdownProperties;
+import com.jimple.profiler.MarkdownConversionEvent;
 import org.commonmark.Extension;
 import org.commonmark.ext.gfm.tables.TablesExtension;
 import org.commonmark.node.Node;
 import org.commonmark.parser.Parser;
 import org.commonmark.renderer.html.HtmlRenderer;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Properties;
 
 public class SimpleMd2HtmlConverter implements Md2HtmlConverter {
+    // 변환 방식이 바뀌면 올려서 이전 캐시 결과를 사용하지 않도록 함
+    private static final int RENDER_VERSION = 1;
+    private static final String COMMONMARK_POM_PROPERTIES = "/META-INF/maven/org.commonmark/commonmark/pom.properties";
+
     private final Parser parser;
     private final HtmlRenderer renderer;
+    private final String fingerprint;
 
     public SimpleMd2HtmlConverter() {
         List<Extension> extensions = List.of(TablesExtension.create());
         this.parser = Parser.builder().extensions(extensions).build();
         this.renderer = HtmlRenderer.builder().extensions(extensions).build();
+        this.fingerprint = createFingerprint(extensions);
     }
 
     @Override
@@ -25,8 +35,78 @@ public class SimpleMd2HtmlConverter implements Md2HtmlConverter {
         if (markdown == null || markdown.isEmpty()) {
             return "";
         }
+
+        MarkdownConversionEvent event = new MarkdownConversionEvent();
+        event.begin();
+        Node document = parser.parse(markdown);
+        String html = renderer.render(document);
+        if (event.shouldCommit()) {
+            event.markdownChars = markdown.length();
+            event.htmlChars = html.length();
+            event.commit();
+        }
+        return html;
+    }
+
+    @Override
+    public void convertBodyToHtml(String markdown, Appendable out) throws IOException {
+        if (markdown == null || markdown.isEmpty()) {
+            return;
+        }
+
+        MarkdownConversionEvent event = new MarkdownConversionEvent();
+        event.begin();
         Node document = parser.parse(markdown);
-        return renderer.render(document);
+        try {
+            renderer.render(document, out);
+        } catch (RuntimeException e) {
+            // commonmark 는 출력 대상의 IOException 을 RuntimeException 으로 감싸므로 원래 예외로 되돌림
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        if (event.shouldCommit()) {
+            event.markdownChars = markdown.length();
+            event.htmlChars = -1;
+            event.commit();
+        }
+    }
+
+    @Override
+    public String fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * 변환기 버전, commonmark 버전, 확장 기능 목록으로 식별 문자열 생성
+     */
+    private static String createFingerprint(List<Extension> extensions) {
+        StringBuilder sb = new StringBuilder(SimpleMd2HtmlConverter.class.getName())
+                .append('/').append(RENDER_VERSION)
+                .append("/commonmark-").append(commonmarkVersion());
+
+        for (Extension extension : extensions) {
+            sb.append('/').append(extension.getClass().getName());
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * 클래스패스에 있는 commonmark 의 버전 (알 수 없으면 unknown)
+     */
+    private static String commonmarkVersion() {
+        try (InputStream is = Parser.class.getResourceAsStream(COMMONMARK_POM_PROPERTIES)) {
+            if (is != null) {
+                Properties properties = new Properties();
+                properties.load(is);
+                return properties.getProperty("version", "unknown");
+            }
+        } catch (IOException e) {
+            // 버전을 알 수 없어도 변환에는 영향이 없음
+        }
+        return "unknown";
     }
 
     @Override
@@ -0,0 +1,420 @@
+package com.jimple.generator.formatter;
+
+import com.jimple.model.build.OutputFormat;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * HTML 을 한 번만 훑으며 정리하거나 압축하여 다음 출력 대상에 전달하는 스트리밍 포매터
+ * DOM 을 만들지 않고 태그/텍스트/주석 단위로 토큰을 나누어 바로 기록하므로,
+ * 생성기가 조각 단위로 append 해도 페이지 전체를 메모리에 올리지 않는다.
+ * <p>
+ * pre, textarea, script, style 요소의 내용은 공백이 의미를 가지므로 그대로 기록한다.
+ * 모든 입력을 기록한 뒤에는 반드시 {@link #finish()} 를 호출해야 남은 토큰이 출력된다.
+ * 이 클래스는 스레드 안전하지 않으므로 페이지마다 새로 생성한다.
+ */
+public final class HtmlFormatter implements Appendable {
+    private static final String INDENT = "    ";
+
+    // pretty 모드에서 줄을 바꾸는 블록 요소
+    private static final Set<String> BLOCK_TAGS = Set.of(
+            "html", "head", "body", "title", "meta", "link", "base", "script", "style", "noscript", "template",
+            "div", "p", "ul", "ol", "li", "dl", "dt", "dd", "table", "caption", "colgroup", "col",
+            "thead", "tbody", "tfoot", "tr", "th", "td", "section", "article", "header", "footer", "nav", "main",
+            "aside", "h1", "h2", "h3", "h4", "h5", "h6", "pre", "blockquote", "figure", "figcaption",
+            "form", "fieldset", "hr", "address", "details", "summary"
+    );
+
+    // 닫는 태그가 없는 요소
+    private static final Set<String> VOID_TAGS = Set.of(
+            "area", "base", "br", "col", "embed", "hr", "img", "input", "link", "meta", "param", "source", "track", "wbr"
+    );
+
+    // 내용을 그대로 기록하는 요소
+    private static final Set<String> RAW_TAGS = Set.of("pre", "textarea", "script", "style");
+
+    private enum State { TEXT, TAG_START, TAG, COMMENT, RAW }
+
+    private final Appendable out;
+    private final OutputFormat format;
+
+    private State state = State.TEXT;
+    private final StringBuilder token = new StringBuilder();
+    private char quote;
+    private String rawCloseTag;
+
+    // 텍스트 공백을 하나로 합치기 위해 보류 중인 공백
+    private boolean pendingSpace;
+    // 마지막으로 기록한 토큰이 블록 태그인지 (블록 태그 앞뒤 공백은 버림)
+    private boolean afterBlock = true;
+
+    // pretty 모드 상태
+    private int depth;
+    private boolean[] hasBlockChild = new boolean[16];
+    private boolean lineStarted;
+    private boolean needNewline;
+
+    /**
+     * @param out 정리된 HTML 을 기록할 대상
+     * @param format 출력 형식 (none 이면 입력을 그대로 전달)
+     */
+    public HtmlFormatter(Appendable out, OutputFormat format) {
+        this.out = out;
+        this.format = format;
+    }
+
+    /**
+     * 문자열 전체를 정리하여 반환
+     * @param html 정리할 HTML
+     * @param format 출력 형식
+     * @return 정리된 HTML
+     */
+    public static String format(String html, OutputFormat format) {
+        if (format == OutputFormat.NONE) {
+            return html;
+        }
+
+        StringBuilder result = new StringBuilder(html.length());
+        HtmlFormatter formatter = new HtmlFormatter(result, format);
+        try {
+            formatter.append(html);
+            formatter.finish();
+        } catch (IOException e) {
+            // StringBuilder 는 IOException 을 던지지 않음
+            throw new UncheckedIOException(e);
+        }
+        return result.toString();
+    }
+
+    @Override
+    public Appendable append(CharSequence csq) throws IOException {
+        CharSequence chars = csq == null ? "null" : csq;
+        return append(chars, 0, chars.length());
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) throws IOException {
+        if (format == OutputFormat.NONE) {
+            out.append(csq, start, end);
+            return this;
+        }
+
+        CharSequence chars = csq == null ? "null" : csq;
+        for (int i = start; i < end; i++) {
+            process(chars.charAt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public Appendable append(char c) throws IOException {
+        if (format == OutputFormat.NONE) {
+            out.append(c);
+        } else {
+            process(c);
+        }
+        return this;
+    }
+
+    /**
+     * 아직 기록하지 않은 토큰을 출력 (닫히지 않은 태그는 입력 그대로 기록)
+     * @throws IOException 출력 실패 시
+     */
+    public void finish() throws IOException {
+        switch (state) {
+            case TAG_START -> writeText('<');
+            case TAG, COMMENT -> writeInline(token);
+            case RAW -> flushRawMatch();
+            case TEXT -> {
+            }
+        }
+
+        state = State.TEXT;
+        token.setLength(0);
+        pendingSpace = false;
+    }
+
+    private void process(char c) throws IOException {
+        switch (state) {
+            case TEXT -> {
+                if (c == '<') {
+                    state = State.TAG_START;
+                } else if (isWhitespace(c)) {
+                    pendingSpace = true;
+                } else {
+                    writeText(c);
+                }
+            }
+            case TAG_START -> {
+                if (Character.isLetter(c) || c == '/' || c == '!' || c == '?') {
+                    token.setLength(0);
+                    token.append('<').append(c);
+                    quote = 0;
+                    state = State.TAG;
+                } else {
+                    // 태그가 아닌 '<' 는 텍스트로 취급
+                    state = State.TEXT;
+                    writeText('<');
+                    process(c);
+                }
+            }
+            case TAG -> processTag(c);
+            case COMMENT -> {
+                token.append(c);
+                int length = token.length();
+                if (c == '>' && length >= 7 && token.charAt(length - 2) == '-' && token.charAt(length - 3) == '-') {
+                    state = State.TEXT;
+                    emitComment();
+                }
+            }
+            case RAW -> processRaw(c);
+        }
+    }
+
+    private void processTag(char c) throws IOException {
+        token.append(c);
+
+        if (quote != 0) {
+            if (c == quote) {
+                quote = 0;
+            }
+        } else if (c == '"' || c == '\'') {
+            quote = c;
+        } else if (c == '>') {
+            state = State.TEXT;
+            emitTag();
+        } else if (token.length() == 4 && "<!--".contentEquals(token)) {
+            state = State.COMMENT;
+        }
+    }
+
+    /**
+     * pre/script 등의 내용은 닫는 태그를 만날 때까지 그대로 기록
+     * 닫는 태그와 일치하는 중인 문자는 token 에 모아 두었다가 일치하지 않으면 원문 그대로 기록한다.
+     */
+    private void processRaw(char c) throws IOException {
+        if (Character.toLowerCase(c) == rawCloseTag.charAt(token.length())) {
+            token.append(c);
+            if (token.length() == rawCloseTag.length()) {
+                quote = 0;
+                state = State.TAG;
+            }
+            return;
+        }
+
+        flushRawMatch();
+        if (c == '<') {
+            token.append(c);
+        } else {
+            writeRaw(c);
+        }
+    }
+
+    private void flushRawMatch() throws IOException {
+        if (!token.isEmpty()) {
+            writeRaw(token);
+            token.setLength(0);
+        }
+    }
+
+    private void emitTag() throws IOException {
+        boolean closing = token.charAt(1) == '/';
+        String name = tagName(closing ? 2 : 1);
+        boolean declaration = token.charAt(1) == '!' || token.charAt(1) == '?';
+        boolean block = declaration || BLOCK_TAGS.contains(name);
+        boolean selfClosing = declaration || VOID_TAGS.contains(name) || token.charAt(token.length() - 2) == '/';
+
+        CharSequence tag = format == OutputFormat.MINIFY ? minifyTag(token) : token;
+
+        if (closing) {
+            if (block) {
+                writeBlockClose(tag);
+            } else {
+                writeInline(tag);
+            }
+            return;
+        }
+
+        if (block) {
+            writeBlockOpen(tag, selfClosing);
+        } else {
+            writeInline(tag);
+        }
+
+        if (!selfClosing && RAW_TAGS.contains(name)) {
+            rawCloseTag = "</" + name;
+            token.setLength(0);
+            state = State.RAW;
+        }
+    }
+
+    private void emitComment() throws IOException {
+        if (format == OutputFormat.MINIFY) {
+            // 조건부 주석만 남기고 제거
+            if (token.indexOf("<!--[if") == 0) {
+                writeInline(token);
+            }
+            return;
+        }
+
+        writeBlockOpen(token, true);
+    }
+
+    private String tagName(int start) {
+        int end = start;
+        while (end < token.length() && isNameChar(token.charAt(end))) {
+            end++;
+        }
+        return token.substring(start, end).toLowerCase(Locale.ROOT);
+    }
+
+    private void writeText(char c) throws IOException {
+        beforeInline();
+        out.append(c);
+    }
+
+    private void writeInline(CharSequence text) throws IOException {
+        beforeInline();
+        out.append(text);
+    }
+
+    /**
+     * 인라인 토큰 앞에 필요한 줄바꿈/들여쓰기 또는 보류 중인 공백 기록
+     */
+    private void beforeInline() throws IOException {
+        if (needNewline) {
+            newLine();
+            indent();
+            needNewline = false;
+        } else if (pendingSpace && !afterBlock) {
+            out.append(' ');
+        }
+
+        pendingSpace = false;
+        afterBlock = false;
+        lineStarted = true;
+    }
+
+    private void writeRaw(CharSequence text) throws IOException {
+        out.append(text);
+        lineStarted = true;
+        afterBlock = false;
+    }
+
+    private void writeRaw(char c) throws IOException {
+        out.append(c);
+        lineStarted = true;
+        afterBlock = false;
+    }
+
+    private void writeBlockOpen(CharSequence tag, boolean selfClosing) throws IOException {
+        if (format == OutputFormat.PRETTY) {
+            hasBlockChild[depth] = true;
+            if (lineStarted) {
+                newLine();
+            }
+            indent();
+            out.append(tag);
+            lineStarted = true;
+
+            if (!selfClosing) {
+                depth++;
+                if (depth == hasBlockChild.length) {
+                    hasBlockChild = Arrays.copyOf(hasBlockChild, depth * 2);
+                }
+                hasBlockChild[depth] = false;
+            }
+
+            // 닫는 태그가 없는 블록 뒤의 인라인 내용은 다음 줄에서 시작
+            needNewline = selfClosing;
+        } else {
+            out.append(tag);
+        }
+
+        pendingSpace = false;
+        afterBlock = true;
+    }
+
+    private void writeBlockClose(CharSequence tag) throws IOException {
+        if (format == OutputFormat.PRETTY) {
+            // 하위 블록이 있는 요소만 닫는 태그를 새 줄에 기록하고, 인라인 내용만 있으면 같은 줄에 기록
+            boolean multiline = depth > 0 && hasBlockChild[depth];
+            if (depth > 0) {
+                depth--;
+            }
+            if (multiline) {
+                if (lineStarted) {
+                    newLine();
+                }
+                indent();
+            }
+            out.append(tag);
+            lineStarted = true;
+            needNewline = true;
+        } else {
+            out.append(tag);
+        }
+
+        pendingSpace = false;
+        afterBlock = true;
+    }
+
+    private void newLine() throws IOException {
+        out.append('\n');
+        lineStarted = false;
+    }
+
+    private void indent() throws IOException {
+        if (format != OutputFormat.PRETTY) {
+            return;
+        }
+        for (int i = 0; i < depth; i++) {
+            out.append(INDENT);
+        }
+    }
+
+    /**
+     * 태그 안의 연속 공백을 하나로 합치고 '>' 앞의 공백은 제거 (따옴표 안은 그대로 유지)
+     */
+    private static CharSequence minifyTag(CharSequence tag) {
+        StringBuilder result = new StringBuilder(tag.length());
+        char tagQuote = 0;
+        boolean space = false;
+
+        for (int i = 0; i < tag.length(); i++) {
+            char c = tag.charAt(i);
+            if (tagQuote == 0 && isWhitespace(c)) {
+                space = true;
+                continue;
+            }
+
+            if (space && c != '>' && !(c == '/' && i + 1 < tag.length() && tag.charAt(i + 1) == '>')) {
+                result.append(' ');
+            }
+            space = false;
+
+            if (tagQuote != 0) {
+                if (c == tagQuote) {
+                    tagQuote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                tagQuote = c;
+            }
+            result.append(c);
+        }
+
+        return result;
+    }
+
+    private static boolean isNameChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '-' || c == ':' || c == '_';
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\n' || c == '\t' || c == '\r' || c == '\f';
+    }
+}
@@ -0,0 +1,176 @@
+package com.jimple.generator.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.jimple.model.category.CategoryInfo;
+import com.jimple.model.category.CategoryPage;
+import com.jimple.model.list.PostPage;
+import com.jimple.model.md.MarkdownFile;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * 목록/카테고리 JSON 을 중간 객체 없이 출력 대상에 바로 기록하는 스트리밍 기록기
+ * 게시글마다 {@code PostPageItem}/{@code CategoryPageItem} 을 만들고 전체를 문자열로 직렬화하는 대신,
+ * {@link MarkdownFile} 에서 필드를 꺼내 {@link JsonGenerator} 로 Writer 에 곧바로 쓴다.
+ * 큰 카테고리에서도 목록, JSON 문자열, 저장용 바이트 배열이 한꺼번에 메모리에 올라가지 않는다.
+ * <p>
+ * 출력은 {@link PostPage}/{@link CategoryPage} 를 Jackson 으로 직렬화한 결과와
+ * 필드 순서까지 같다. 공유하는 {@link ObjectWriter} 는 불변이므로 여러 스레드에서 동시에 사용해도 안전하다.
+ */
+public final class PageJsonWriter {
+    // 생성기를 닫아도 출력 대상은 닫지 않음 (호출자가 닫으면서 저장을 완료함)
+    private static final ObjectWriter WRITER = new ObjectMapper().writer()
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    // 유틸리티 클래스는 인스턴스화를 방지
+    private PageJsonWriter() {
+        throw new AssertionError("유틸리티 클래스는 인스턴스화할 수 없습니다");
+    }
+
+    /**
+     * 게시글 목록의 한 페이지를 기록
+     * @param files 게시일 역순으로 정렬된 전체 게시글 목록
+     * @param page 1부터 시작하는 페이지 번호 (1 이상 마지막 페이지 이하)
+     * @param out 기록할 대상 (닫지 않음)
+     * @throws IOException 기록 실패 시
+     */
+    public static void writePostPage(List<MarkdownFile> files, int page, Writer out) throws IOException {
+        int count = files.size();
+        int lastPage = PostPage.lastPage(count);
+        if (page < 1 || page > lastPage) {
+            throw new IllegalArgumentException("page must be between 1 and " + lastPage + ": " + page);
+        }
+
+        try (JsonGenerator json = WRITER.createGenerator(out)) {
+            json.writeStartObject();
+            json.writeArrayFieldStart("posts");
+            for (MarkdownFile file : files.subList((page - 1) * PostPage.PAGE_SIZE, Math.min(page * PostPage.PAGE_SIZE, count))) {
+                json.writeStartObject();
+                json.writeStringField("title", file.properties().title());
+                json.writeStringField("path", file.path());
+                json.writeStringField("date", file.getPublishDate().toString());
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+            writePageInfo(json, page, lastPage, count);
+            json.writeEndObject();
+        }
+    }
+
+    /**
+     * 카테고리의 모든 게시글과 하위 카테고리 요약을 한 페이지로 기록
+     * @param category 카테고리 정보
+     * @param out 기록할 대상 (닫지 않음)
+     * @throws IOException 기록 실패 시
+     */
+    public static void writeCategoryPage(CategoryInfo category, Writer out) throws IOException {
+        writeCategoryPage(category, 1, CategoryPage.UNPAGED, out);
+    }
+
+    /**
+     * 카테고리의 한 페이지를 기록
+     * 게시글은 페이지 크기만큼 나누고, 하위 카테고리 요약은 모든 페이지에 포함한다.
+     * @param category 카테고리 정보
+     * @param page 1부터 시작하는 페이지 번호 (1 이상 마지막 페이지 이하)
+     * @param pageSize 한 페이지의 게시글 수 ({@link CategoryPage#UNPAGED} 이면 페이지를 나누지 않음)
+     * @param out 기록할 대상 (닫지 않음)
+     * @throws IOException 기록 실패 시
+     */
+    public static void writeCategoryPage(CategoryInfo category, int page, int pageSize, Writer out) throws IOException {
+        if (pageSize < 0) {
+            throw new IllegalArgumentException("pageSize must be zero or positive: " + pageSize);
+        }
+
+        List<MarkdownFile> posts = category.posts();
+        int count = posts.size();
+        int lastPage = CategoryPage.lastPage(count, pageSize);
+        if (page < 1 || page > lastPage) {
+            throw new IllegalArgumentException("page must be between 1 and " + lastPage + ": " + page);
+        }
+        List<MarkdownFile> pagePosts = pageSize == CategoryPage.UNPAGED
+                ? posts
+                : posts.subList((page - 1) * pageSize, Math.min(page * pageSize, count));
+
+        try (JsonGenerator json = WRITER.createGenerator(out)) {
+            json.writeStartObject();
+
+            json.writeArrayFieldStart("posts");
+            for (MarkdownFile file : pagePosts) {
+                json.writeStartObject();
+                json.writeStringField("title", file.properties().title());
+                json.writeStringField("path", file.path());
+                json.writeStringField("date", file.getPublishDate().toString());
+                json.writeStringField("categoryPath", file.properties().path());
+                json.writeStringField("description", file.properties().description());
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+
+            json.writeArrayFieldStart("subCategories");
+            for (CategoryInfo subCategory : category.subCategories()) {
+                json.writeStartObject();
+                json.writeStringField("name", subCategory.name());
+                json.writeStringField("fullPath", subCategory.fullPath());
+                json.writeNumberField("postCount", subCategory.posts().size());
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+
+            writePageInfo(json, page, lastPage, count);
+            json.writeStringField("categoryPath", category.fullPath());
+            json.writeStringField("categoryName", category.name());
+            json.writeEndObject();
+        }
+    }
+
+    /**
+     * 게시글 목록의 한 페이지를 문자열로 반환 (개발 서버처럼 요청마다 작은 페이지를 만드는 경우)
+     */
+    public static String postPage(List<MarkdownFile> files, int page) {
+        StringWriter out = new StringWriter();
+        try {
+            writePostPage(files, page, out);
+        } catch (IOException e) {
+            // StringWriter 는 IOException 을 던지지 않음
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    /**
+     * 카테고리의 모든 게시글을 담은 페이지를 문자열로 반환
+     */
+    public static String categoryPage(CategoryInfo category) {
+        return categoryPage(category, 1, CategoryPage.UNPAGED);
+    }
+
+    /**
+     * 카테고리의 한 페이지를 문자열로 반환
+     */
+    public static String categoryPage(CategoryInfo category, int page, int pageSize) {
+        StringWriter out = new StringWriter();
+        try {
+            writeCategoryPage(category, page, pageSize, out);
+        } catch (IOException e) {
+            // StringWriter 는 IOException 을 던지지 않음
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    private static void writePageInfo(JsonGenerator json, int current, int last, int count) throws IOException {
+        json.writeObjectFieldStart("page");
+        json.writeNumberField("current", current);
+        json.writeNumberField("last", last);
+        json.writeNumberField("count", count);
+        json.writeBooleanField("hasNext", current < last);
+        json.writeBooleanField("hasPrev", current > 1);
+        json.writeEndObject();
+    }
+}
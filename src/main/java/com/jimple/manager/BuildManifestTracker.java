@@ -0,0 +1,126 @@
+package com.jimple.manager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jimple.model.build.BuildManifest;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 증분 빌드를 위한 빌드 매니페스트 관리 클래스
+ * 이전 빌드의 매니페스트와 비교하여 출력 파일을 다시 생성해야 하는지 판단하고,
+ * 이번 빌드에서 생성된 출력 목록을 기록하여 고아 파일을 정리한다.
+ */
+public class BuildManifestTracker {
+    public static final String MANIFEST_FILE = ".jimple-manifest.json";
+
+    private static final ObjectMapper manifestMapper = new ObjectMapper();
+
+    private final SiteOutput output;
+    private final String generatorHash;
+    private final BuildManifest previous;
+    private final Map<String, String> current = new ConcurrentHashMap<>();
+
+    private BuildManifestTracker(SiteOutput output, String generatorHash, BuildManifest previous) {
+        this.output = output;
+        this.generatorHash = generatorHash;
+        this.previous = previous;
+    }
+
+    /**
+     * 결과 디렉토리의 매니페스트를 읽어 추적기 생성
+     * 매니페스트가 없거나 손상되었거나 템플릿/설정 해시가 다르면 이전 빌드를 무시하고 전체를 다시 생성한다.
+     * @param resultDir 결과 디렉토리
+     * @param generatorHash 현재 템플릿과 설정의 해시
+     * @return 매니페스트 추적기
+     */
+    public static BuildManifestTracker load(Path resultDir, String generatorHash) {
+        return load(new DiskSiteOutput(resultDir), generatorHash);
+    }
+
+    /**
+     * 출력 대상에 저장된 매니페스트를 읽어 추적기 생성
+     * @param output 출력 대상
+     * @param generatorHash 현재 템플릿과 설정의 해시
+     * @return 매니페스트 추적기
+     */
+    public static BuildManifestTracker load(SiteOutput output, String generatorHash) {
+        String hash = generatorHash == null ? "" : generatorHash;
+        BuildManifest previous = new BuildManifest();
+
+        try {
+            String json = output.read(MANIFEST_FILE);
+            if (json != null) {
+                BuildManifest loaded = manifestMapper.readValue(json, BuildManifest.class);
+                if (loaded.version() == BuildManifest.CURRENT_VERSION && loaded.generatorHash().equals(hash)) {
+                    previous = loaded;
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("빌드 매니페스트를 읽을 수 없어 전체 빌드를 진행합니다: " + output.describe(MANIFEST_FILE));
+        }
+
+        return new BuildManifestTracker(output, hash, previous);
+    }
+
+    /**
+     * 출력 파일이 이전 빌드와 같은 입력으로 생성되어 그대로 사용할 수 있는지 확인
+     * @param output 결과 디렉토리 기준 출력 경로
+     * @param inputHash 출력을 만드는 입력의 해시
+     * @return 다시 생성할 필요가 없으면 true
+     */
+    public boolean isUpToDate(String output, String inputHash) {
+        return inputHash.equals(previous.outputs().get(output)) && this.output.exists(output);
+    }
+
+    /**
+     * 이번 빌드에서 생성(또는 유지)된 출력 기록
+     * @param output 결과 디렉토리 기준 출력 경로
+     * @param inputHash 출력을 만든 입력의 해시
+     */
+    public void record(String output, String inputHash) {
+        current.put(output, inputHash);
+    }
+
+    /**
+     * 이전 빌드에는 있었지만 이번 빌드에서 생성되지 않은 출력 파일 삭제
+     * @return 삭제한 출력 경로 목록
+     */
+    public List<String> deleteOrphans() {
+        List<String> deleted = new ArrayList<>();
+
+        for (String output : new TreeMap<>(previous.outputs()).keySet()) {
+            if (current.containsKey(output)) {
+                continue;
+            }
+
+            try {
+                if (this.output.delete(output)) {
+                    deleted.add(output);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("이전 빌드 결과를 삭제할 수 없습니다: " + output, e);
+            }
+        }
+
+        return deleted;
+    }
+
+    /**
+     * 이번 빌드의 매니페스트를 결과 디렉토리에 저장
+     */
+    public void save() {
+        BuildManifest manifest = new BuildManifest(BuildManifest.CURRENT_VERSION, generatorHash, new TreeMap<>(current));
+
+        try {
+            output.write(MANIFEST_FILE, manifestMapper.writeValueAsString(manifest));
+        } catch (IOException e) {
+            throw new RuntimeException("빌드 매니페스트를 저장할 수 없습니다: " + output.describe(MANIFEST_FILE), e);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.jimple.manager;
+
+import com.jimple.profiler.FileWriteEvent;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 결과 디렉토리에 파일로 저장하는 출력 대상
+ */
+public class DiskSiteOutput implements SiteOutput {
+    private final Path resultDir;
+
+    /**
+     * @param resultDir 결과 디렉토리 (이미 존재해야 함)
+     */
+    public DiskSiteOutput(Path resultDir) {
+        this.resultDir = resultDir;
+    }
+
+    public Path resultDir() {
+        return resultDir;
+    }
+
+    @Override
+    public void write(String path, String contents) throws IOException {
+        FileWriteEvent event = new FileWriteEvent();
+        event.begin();
+        Files.writeString(resultDir.resolve(path), contents);
+        if (event.shouldCommit()) {
+            commitEvent(event, path);
+        }
+    }
+
+    @Override
+    public void write(String path, byte[] contents) throws IOException {
+        FileWriteEvent event = new FileWriteEvent();
+        event.begin();
+        Files.write(resultDir.resolve(path), contents);
+        if (event.shouldCommit()) {
+            commitEvent(event, path);
+        }
+    }
+
+    /**
+     * 같은 디렉토리의 임시 파일에 기록하고, 작업이 끝나면 이름을 바꾸어 기존 파일을 교체
+     * 렌더링 도중 실패하면 임시 파일만 삭제하므로 기존 파일은 그대로 남고, 읽는 쪽도 절반만 쓰인 파일을 보지 않는다.
+     */
+    @Override
+    public void write(String path, Content content) throws IOException {
+        Path temp = resultDir.resolve(path + SyncSiteOutput.TEMP_SUFFIX);
+        try {
+            try (Writer writer = Files.newBufferedWriter(temp)) {
+                content.writeTo(writer);
+            }
+
+            // 스트리밍 중의 렌더링 시간은 빼고 교체하는 시간만 기록
+            FileWriteEvent event = new FileWriteEvent();
+            event.begin();
+            Files.move(temp, resultDir.resolve(path), StandardCopyOption.REPLACE_EXISTING);
+            if (event.shouldCommit()) {
+                commitEvent(event, path);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public String read(String path) throws IOException {
+        try {
+            return Files.readString(resultDir.resolve(path));
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean exists(String path) {
+        return Files.exists(resultDir.resolve(path));
+    }
+
+    @Override
+    public boolean delete(String path) throws IOException {
+        return Files.deleteIfExists(resultDir.resolve(path));
+    }
+
+    @Override
+    public String describe(String path) {
+        return String.valueOf(resultDir.resolve(path));
+    }
+
+    private void commitEvent(FileWriteEvent event, String path) throws IOException {
+        event.path = path;
+        event.bytes = Files.size(resultDir.resolve(path));
+        event.changed = true;
+        event.commit();
+    }
+}
@@ -0,0 +1,262 @@
+package com.jimple.manager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 결과 디렉토리의 HTML/JSON/CSS 파일마다 미리 압축한 .gz 파일을 옆에 생성하는 후처리 단계
+ * nginx 의 gzip_static 이나 CDN 이 요청 시점에 압축하지 않고 이 파일을 그대로 제공하게 하기 위한 것으로,
+ * 빌드가 끝난 뒤 파일마다 하나의 작업으로 executor 에 분배하여 최대 압축 수준으로 압축한다.
+ * <p>
+ * 최소 크기보다 작거나 압축해도 줄어들지 않는 파일은 .gz 파일을 만들지 않고, 이전에 만든 것이 있으면 삭제한다.
+ * .gz 파일의 수정 시각을 원본과 같게 맞추어 두므로 증분 빌드에서 바뀌지 않은 파일은 다시 압축하지 않으며,
+ * 원본이 삭제된 .gz 파일도 함께 삭제한다. 수정 시각의 단위가 거친 파일 시스템에서 같은 시각에 두 번 저장하거나
+ * 수정 시각을 유지하며 복사한 경우에 대비해, .gz 파일 끝에 기록된 원본 크기(ISIZE)도 원본과 같아야 최신으로 본다.
+ */
+public class GzipSidecarWriter {
+    public static final String SUFFIX = ".gz";
+    public static final int DEFAULT_MIN_BYTES = 1024;
+
+    private static final Set<String> EXTENSIONS = Set.of("html", "json", "css");
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final int minBytes;
+
+    public GzipSidecarWriter() {
+        this(DEFAULT_MIN_BYTES);
+    }
+
+    /**
+     * @param minBytes 압축할 최소 파일 크기 (바이트)
+     */
+    public GzipSidecarWriter(int minBytes) {
+        if (minBytes < 0) {
+            throw new IllegalArgumentException("minBytes must be zero or positive");
+        }
+        this.minBytes = minBytes;
+    }
+
+    /**
+     * 결과 디렉토리의 압축 대상 파일마다 .gz 파일 생성
+     * 실패한 파일이 있으면 찾은 순서상 첫 번째 실패를 다시 던지고 남은 작업은 취소한다.
+     * @param resultDir 결과 디렉토리
+     * @param executor 압축 작업을 실행할 executor (종료는 호출한 쪽에서 담당)
+     * @return 처리 결과 요약
+     */
+    public Summary compressAll(Path resultDir, ExecutorService executor) {
+        // .gz 파일 경로 -> 변경 종류
+        Map<Path, OutputChange> changes = new ConcurrentHashMap<>();
+
+        List<Path> targets = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(resultDir)) {
+            for (Path file : paths.filter(Files::isRegularFile).toList()) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(SUFFIX)) {
+                    if (deleteIfOrphan(file)) {
+                        changes.put(file, OutputChange.DELETED);
+                    }
+                } else if (isTarget(name)) {
+                    targets.add(file);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("결과 디렉토리를 읽을 수 없습니다: " + resultDir, e);
+        }
+
+        List<Future<Outcome>> futures = new ArrayList<>(targets.size());
+        for (Path file : targets) {
+            futures.add(executor.submit(() -> compress(file, changes)));
+        }
+
+        int written = 0;
+        int upToDate = 0;
+        int skipped = 0;
+        try {
+            for (Future<Outcome> future : futures) {
+                switch (future.get()) {
+                    case WRITTEN -> written++;
+                    case UP_TO_DATE -> upToDate++;
+                    case SKIPPED -> skipped++;
+                }
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException("gzip 파일을 생성하는 중 오류가 발생했습니다", e.getCause());
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("gzip 파일 생성이 중단되었습니다", e);
+        }
+
+        Map<String, OutputChange> relativeChanges = new TreeMap<>();
+        changes.forEach((file, change) -> relativeChanges.put(
+                resultDir.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/"), change));
+
+        return new Summary(written, upToDate, skipped, Collections.unmodifiableMap(relativeChanges));
+    }
+
+    /**
+     * 파일 하나를 압축하여 .gz 파일로 저장
+     */
+    private Outcome compress(Path file, Map<Path, OutputChange> changes) {
+        Path sidecar = sidecarOf(file);
+
+        try {
+            FileTime modified = Files.getLastModifiedTime(file);
+            long size = Files.size(file);
+            if (size < minBytes) {
+                if (Files.deleteIfExists(sidecar)) {
+                    changes.put(sidecar, OutputChange.DELETED);
+                }
+                return Outcome.SKIPPED;
+            }
+            if (Files.isRegularFile(sidecar) && Files.getLastModifiedTime(sidecar).equals(modified)
+                    && uncompressedSize(sidecar) == (size & 0xFFFFFFFFL)) {
+                return Outcome.UP_TO_DATE;
+            }
+
+            byte[] contents = Files.readAllBytes(file);
+            byte[] compressed = gzip(contents);
+            if (compressed.length >= contents.length) {
+                if (Files.deleteIfExists(sidecar)) {
+                    changes.put(sidecar, OutputChange.DELETED);
+                }
+                return Outcome.SKIPPED;
+            }
+
+            boolean existed = Files.exists(sidecar);
+
+            // 임시 파일에 쓴 뒤 이동하므로 서버가 불완전한 .gz 파일을 제공하지 않음
+            // (createTempFile 은 소유자만 읽을 수 있는 권한으로 만들기 때문에 일반 파일과 같은 권한으로 생성)
+            Path temp = sidecar.resolveSibling(sidecar.getFileName() + TEMP_SUFFIX);
+            try {
+                Files.write(temp, compressed);
+                Files.setLastModifiedTime(temp, modified);
+                moveAtomically(temp, sidecar);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            changes.put(sidecar, existed ? OutputChange.MODIFIED : OutputChange.ADDED);
+            return Outcome.WRITTEN;
+        } catch (IOException e) {
+            throw new RuntimeException("gzip 파일을 생성할 수 없습니다: " + sidecar, e);
+        }
+    }
+
+    private static byte[] gzip(byte[] contents) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(contents.length / 4 + 64);
+        try (OutputStream out = new BestCompressionGzipOutputStream(buffer)) {
+            out.write(contents);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * .gz 파일 끝의 ISIZE 필드 (원본 크기를 2^32 로 나눈 나머지) 읽기
+     * @return gzip 파일로 보기에 너무 짧으면 -1
+     */
+    private static long uncompressedSize(Path sidecar) throws IOException {
+        try (SeekableByteChannel channel = Files.newByteChannel(sidecar)) {
+            // 10바이트 헤더와 8바이트 트레일러보다 짧으면 gzip 파일이 아님
+            long length = channel.size();
+            if (length < 18) {
+                return -1;
+            }
+
+            ByteBuffer trailer = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            channel.position(length - Integer.BYTES);
+            while (trailer.hasRemaining() && channel.read(trailer) != -1) {
+                // 남은 바이트를 모두 읽을 때까지 반복
+            }
+            return trailer.hasRemaining() ? -1 : Integer.toUnsignedLong(trailer.getInt(0));
+        }
+    }
+
+    /**
+     * 원본이 없는 .gz 파일 삭제
+     * @return 삭제했으면 true
+     */
+    private boolean deleteIfOrphan(Path sidecar) throws IOException {
+        String name = sidecar.getFileName().toString();
+        Path source = sidecar.resolveSibling(name.substring(0, name.length() - SUFFIX.length()));
+        return isTarget(source.getFileName().toString()) && !Files.exists(source) && Files.deleteIfExists(sidecar);
+    }
+
+    /**
+     * 원본 경로에 대한 .gz 파일 경로인지 확인 (결과 디렉토리 기준 경로)
+     */
+    public static boolean isSidecar(String path) {
+        return path.endsWith(SUFFIX) && isTarget(path.substring(path.lastIndexOf('/') + 1, path.length() - SUFFIX.length()));
+    }
+
+    /**
+     * 압축 대상 확장자이면서 숨김 파일(빌드 매니페스트 등)이 아닌지 확인
+     */
+    private static boolean isTarget(String name) {
+        int dot = name.lastIndexOf('.');
+        return !name.startsWith(".") && dot > 0 && EXTENSIONS.contains(name.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+
+    private static Path sidecarOf(Path file) {
+        return file.resolveSibling(file.getFileName() + SUFFIX);
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private enum Outcome { WRITTEN, UP_TO_DATE, SKIPPED }
+
+    /**
+     * 압축 처리 결과 요약
+     * @param written 새로 생성한 .gz 파일 수
+     * @param upToDate 원본이 바뀌지 않아 그대로 둔 .gz 파일 수
+     * @param skipped 작거나 압축 효과가 없어 건너뛴 파일 수
+     * @param changes 추가/수정/삭제된 .gz 파일 (결과 디렉토리 기준 경로순)
+     */
+    public record Summary(int written, int upToDate, int skipped, Map<String, OutputChange> changes) {
+    }
+
+    /**
+     * 최대 압축 수준을 사용하는 GZIPOutputStream (헤더의 수정 시각은 0 이므로 결과가 항상 같음)
+     */
+    private static class BestCompressionGzipOutputStream extends GZIPOutputStream {
+        BestCompressionGzipOutputStream(OutputStream out) throws IOException {
+            super(out);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+}
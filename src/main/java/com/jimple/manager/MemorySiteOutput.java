@@ -0,0 +1,73 @@
+package com.jimple.manager;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 생성된 파일을 디스크 대신 메모리에 보관하는 출력 대상
+ * 개발 서버처럼 결과를 바로 제공하는 경우에 사용하며, 여러 스레드에서 동시에 읽고 써도 안전하다.
+ * Writer 로 기록한 내용은 작업이 끝난 뒤 한 번에 반영되므로 읽는 쪽에서 절반만 쓰인 파일을 보지 않는다.
+ */
+public class MemorySiteOutput implements SiteOutput {
+    private final Map<String, byte[]> files = new ConcurrentHashMap<>();
+
+    @Override
+    public void write(String path, String contents) {
+        files.put(path, contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void write(String path, byte[] contents) {
+        files.put(path, contents.clone());
+    }
+
+    @Override
+    public void write(String path, Content content) throws IOException {
+        // 작업이 끝난 뒤에만 반영하므로 도중에 실패하면 이전 내용이 그대로 남음
+        StringWriter writer = new StringWriter();
+        content.writeTo(writer);
+        write(path, writer.toString());
+    }
+
+    @Override
+    public String read(String path) {
+        byte[] contents = files.get(path);
+        return contents == null ? null : new String(contents, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 저장된 내용을 바이트 배열로 반환
+     * 반환된 배열은 수정하면 안 된다.
+     * @param path 사이트 루트 기준 경로
+     * @return 저장된 내용, 없으면 null
+     */
+    public byte[] get(String path) {
+        return files.get(path);
+    }
+
+    @Override
+    public boolean exists(String path) {
+        return files.containsKey(path);
+    }
+
+    @Override
+    public boolean delete(String path) {
+        return files.remove(path) != null;
+    }
+
+    @Override
+    public String describe(String path) {
+        return "memory:/" + path;
+    }
+
+    /**
+     * 저장된 모든 경로
+     */
+    public Set<String> paths() {
+        return Set.copyOf(files.keySet());
+    }
+}
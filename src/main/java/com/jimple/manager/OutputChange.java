@@ -0,0 +1,21 @@
+package com.jimple.manager;
+
+/**
+ * 빌드 전후로 결과 디렉토리의 파일이 어떻게 바뀌었는지 나타내는 종류
+ * 변경 목록에는 git --name-status 와 같은 한 글자 코드로 기록한다.
+ */
+public enum OutputChange {
+    ADDED("A"),
+    MODIFIED("M"),
+    DELETED("D");
+
+    private final String code;
+
+    OutputChange(String code) {
+        this.code = code;
+    }
+
+    public String code() {
+        return code;
+    }
+}
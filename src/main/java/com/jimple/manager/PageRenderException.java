@@ -0,0 +1,32 @@
+package com.jimple.manager;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 병렬 렌더링 중 하나 이상의 페이지 생성이 실패했을 때 발생하는 예외
+ * 실패한 페이지 경로와 원인을 입력 순서대로 보관한다.
+ * 직렬화하면 경로별 원인 목록은 빠지고, 원인은 cause 와 suppressed 예외로만 남는다.
+ */
+public final class PageRenderException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final transient Map<String, Throwable> failures;
+
+    public PageRenderException(Map<String, Throwable> failures) {
+        super("페이지 생성 중 " + failures.size() + "건의 오류가 발생했습니다: " + String.join(", ", failures.keySet()),
+                failures.values().stream().findFirst().orElse(null));
+        this.failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+
+        failures.values().stream().skip(1).forEach(this::addSuppressed);
+    }
+
+    /**
+     * 실패한 페이지 경로별 원인 반환
+     * @return 페이지 경로 → 예외 (입력 순서 유지, 역직렬화한 예외는 빈 맵)
+     */
+    public Map<String, Throwable> getFailures() {
+        return failures == null ? Map.of() : failures;
+    }
+}
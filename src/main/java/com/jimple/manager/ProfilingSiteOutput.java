@@ -0,0 +1,130 @@
+package com.jimple.manager;
+
+import com.jimple.profiler.BuildProfiler;
+
+import java.io.BufferedWriter;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Objects;
+
+/**
+ * 다른 출력 대상에 기록하는 시간과 바이트 수를 {@link BuildProfiler} 에 기록하는 출력 대상
+ * 기록 시간은 쓰기 작업으로, 바이트 수는 UTF-8 로 인코딩한 크기로 센다.
+ */
+public class ProfilingSiteOutput implements SiteOutput {
+    private final SiteOutput delegate;
+    private final BuildProfiler profiler;
+
+    /**
+     * @param delegate 실제 출력 대상
+     * @param profiler 측정 결과를 기록할 프로파일러
+     */
+    public ProfilingSiteOutput(SiteOutput delegate, BuildProfiler profiler) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.profiler = Objects.requireNonNull(profiler);
+    }
+
+    @Override
+    public void write(String path, String contents) throws IOException {
+        profiler.time(BuildProfiler.Stage.WRITING, () -> delegate.write(path, contents));
+        profiler.addBytesWritten(utf8Length(contents, 0, contents.length()));
+    }
+
+    @Override
+    public void write(String path, byte[] contents) throws IOException {
+        profiler.time(BuildProfiler.Stage.WRITING, () -> delegate.write(path, contents));
+        profiler.addBytesWritten(contents.length);
+    }
+
+    @Override
+    public void write(String path, Content content) throws IOException {
+        // 내용을 만드는 시간은 각 작업이 따로 재므로 Writer 에 넘기는 시간과 남은 버퍼를 비우는 시간만 쓰기로 측정
+        // 글자 단위로 기록해도 측정 비용이 커지지 않도록 버퍼에 모아 넘기는 단위로 시간과 바이트 수를 재고,
+        // 쓰기 횟수는 파일마다 한 번 셈
+        delegate.write(path, out -> {
+            Writer writer = new BufferedWriter(new ProfilingWriter(out, profiler.timer(BuildProfiler.Stage.WRITING)));
+            content.writeTo(writer);
+            writer.flush();
+        });
+    }
+
+    @Override
+    public String read(String path) throws IOException {
+        return delegate.read(path);
+    }
+
+    @Override
+    public boolean exists(String path) {
+        return delegate.exists(path);
+    }
+
+    @Override
+    public boolean delete(String path) throws IOException {
+        return profiler.time(BuildProfiler.Stage.WRITING, () -> delegate.delete(path));
+    }
+
+    @Override
+    public String describe(String path) {
+        return delegate.describe(path);
+    }
+
+    private static long utf8Length(CharSequence text, int start, int end) {
+        long bytes = 0;
+        for (int i = start; i < end; i++) {
+            bytes += utf8Length(text.charAt(i));
+        }
+        return bytes;
+    }
+
+    /**
+     * 문자 하나의 UTF-8 크기 (서로게이트 쌍은 각각 2바이트로 세어 합이 4바이트가 됨)
+     */
+    private static int utf8Length(char c) {
+        if (c < 0x80) {
+            return 1;
+        } else if (c < 0x800 || Character.isSurrogate(c)) {
+            return 2;
+        }
+        return 3;
+    }
+
+    /**
+     * 기록 시간과 바이트 수를 재는 Writer
+     */
+    private final class ProfilingWriter extends FilterWriter {
+        private final BuildProfiler.Timer writing;
+
+        ProfilingWriter(Writer out, BuildProfiler.Timer writing) {
+            super(out);
+            this.writing = writing;
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            writing.time(() -> out.write(c));
+            profiler.addBytesWritten(utf8Length((char) c));
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            writing.time(() -> out.write(buffer, offset, length));
+            long bytes = 0;
+            for (int i = offset; i < offset + length; i++) {
+                bytes += utf8Length(buffer[i]);
+            }
+            profiler.addBytesWritten(bytes);
+        }
+
+        @Override
+        public void write(String text, int offset, int length) throws IOException {
+            writing.time(() -> out.write(text, offset, length));
+            profiler.addBytesWritten(utf8Length(text, offset, offset + length));
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writing.time(() -> out.flush());
+        }
+    }
+}
@@ -1,49 +1,87 @@
 package com.jimple.manager;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.jimple.collector.MarkdownFileMapper;
 import com.jimple.finder.MarkdownFinder;
 import com.jimple.generator.MarkdownGenerator;
+import com.jimple.generator.formatter.HtmlFormatter;
+import com.jimple.generator.json.PageJsonWriter;
+import com.jimple.model.build.BuildOptions;
+import com.jimple.model.category.CategoryIndex;
 import com.jimple.model.category.CategoryInfo;
 import com.jimple.model.category.CategoryPage;
-import com.jimple.model.category.CategoryPageItem;
-import com.jimple.model.category.CategorySummary;
 import com.jimple.model.generator.GenerateType;
 import com.jimple.model.list.PostPage;
-import com.jimple.model.list.PostPageInfo;
-import com.jimple.model.list.PostPageItem;
 import com.jimple.model.md.MarkdownFile;
 import com.jimple.model.md.MarkdownProperties;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
+import com.jimple.profiler.BuildProfiler;
+import com.jimple.profiler.PageRenderEvent;
+import com.jimple.util.Hashes;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 public class ResultManager {
     private final MarkdownFinder finder;
     private final MarkdownFileMapper mapper;
     private final MarkdownGenerator generator;
-    private final Path resultDir;
+    private final SiteOutput output;
     private final CategoryManager categoryManager;
+    private final BuildOptions options;
+    private final BuildProfiler profiler;
+    private BuildManifestTracker manifestTracker;
 
-    public static ObjectMapper jsonMapper = new ObjectMapper();
-    static {
-        jsonMapper.registerModule(new JavaTimeModule());
+    public ResultManager(MarkdownFinder finder, MarkdownFileMapper mapper, MarkdownGenerator generator, Path resultDir) {
+        this(finder, mapper, generator, resultDir, new BuildOptions());
     }
 
-    public ResultManager(MarkdownFinder finder, MarkdownFileMapper mapper, MarkdownGenerator generator, Path resultDir) {
+    public ResultManager(MarkdownFinder finder, MarkdownFileMapper mapper, MarkdownGenerator generator, Path resultDir,
+                         BuildOptions options) {
+        this(finder, mapper, generator, new DiskSiteOutput(createResultDirectory(resultDir)), options);
+    }
+
+    /**
+     * 결과를 지정한 출력 대상에 저장하는 관리자 생성
+     * @param output 생성된 파일을 저장할 대상 (예: 개발 서버의 메모리 출력)
+     */
+    public ResultManager(MarkdownFinder finder, MarkdownFileMapper mapper, MarkdownGenerator generator, SiteOutput output,
+                         BuildOptions options) {
+        this(finder, mapper, generator, output, options, BuildProfiler.disabled());
+    }
+
+    /**
+     * 단계별 시간과 페이지별 렌더링 결과를 측정하는 관리자 생성
+     * @param profiler 측정 결과를 기록할 프로파일러 (출력 시간과 바이트 수는 {@link ProfilingSiteOutput} 으로 감싸야 기록됨)
+     */
+    public ResultManager(MarkdownFinder finder, MarkdownFileMapper mapper, MarkdownGenerator generator, SiteOutput output,
+                         BuildOptions options, BuildProfiler profiler) {
         this.finder = finder;
         this.mapper = mapper;
         this.generator = generator;
-        this.resultDir = resultDir;
+        this.output = output;
         this.categoryManager = new CategoryManager();
+        this.options = options;
+        this.profiler = profiler;
+    }
 
+    private static Path createResultDirectory(Path resultDir) {
         try {
             if (!Files.exists(resultDir)) {
                 Files.createDirectories(resultDir);
@@ -51,19 +89,48 @@ public class ResultManager {
         } catch (IOException e) {
             throw new RuntimeException("결과 디렉토리를 생성할 수 없습니다: " + resultDir, e);
         }
+        return resultDir;
     }
 
     public void processAndSaveResults(Path sourceDir) {
-        List<Path> markdownFiles = finder.findAll(sourceDir);
+        List<Path> markdownFiles = profiler.phase("discovery", () -> finder.findAll(sourceDir));
 
-        List<MarkdownFile> publishedItems = mapper.collectPublishedMarkdownFiles(markdownFiles);
+        List<MarkdownFile> publishedItems = profiler.phase("collection", () -> {
+            if (options.isParallel()) {
+                // 렌더링과 같은 병렬도로 머리말 파싱과 본문 읽기를 나누어 처리
+                try (ExecutorService executor = createExecutor()) {
+                    return mapper.collectPublishedMarkdownFiles(markdownFiles, executor);
+                }
+            }
+            return mapper.collectPublishedMarkdownFiles(markdownFiles);
+        });
 
-        this.processPostListJson(publishedItems);
-        this.processCategoryJson(publishedItems);
-        this.processPostHtml(publishedItems);
+        saveResults(publishedItems);
     }
 
-    private void processPostHtml(List<MarkdownFile> markdownFiles) {
+    /**
+     * 이미 수집된 게시글 목록으로 JSON 및 HTML 결과 생성
+     * @param publishedItems 게시일 역순으로 정렬된 게시 대상 파일 목록
+     */
+    public void saveResults(List<MarkdownFile> publishedItems) {
+        // 증분 빌드인 경우 이전 빌드 매니페스트를 기준으로 변경된 출력만 생성
+        manifestTracker = options.incremental()
+                ? BuildManifestTracker.load(output, outputFingerprint())
+                : null;
+
+        profiler.phase("postListJson", () -> this.processPostListJson(publishedItems));
+        profiler.phase("categoryJson", () -> this.processCategoryJson(publishedItems));
+        profiler.phase("pages", () -> this.processPostHtml(publishedItems));
+
+        if (manifestTracker != null) {
+            manifestTracker.deleteOrphans();
+            manifestTracker.save();
+        }
+    }
+
+    private void processPostHtml(List<MarkdownFile> publishedItems) {
+        List<MarkdownFile> markdownFiles = new ArrayList<>(publishedItems);
+
         MarkdownFile mainPage = new MarkdownFile(
                 new MarkdownProperties(true, "index", LocalDate.now()),
                 "",
@@ -86,122 +153,214 @@ public class ResultManager {
         markdownFiles.add(listPage);
         markdownFiles.add(archivePage);
 
-        for (MarkdownFile file : markdownFiles) {
-            String html = switch (file.path()) {
-                case "index.html" -> generator.generateMainPage(file, markdownFiles.getFirst());
-                case "list.html" -> generator.generateToHtml(file, GenerateType.LIST);
-                case "archive.html" -> generator.generateArchivePage(file);
-                default -> generator.generateToHtml(file);
-            };
+        MarkdownFile latestFile = markdownFiles.getFirst();
 
-            Document doc = Jsoup.parse(html);
-            doc.outputSettings().prettyPrint(true);
-            doc.outputSettings().indentAmount(4);
+        if (options.isParallel()) {
+            renderInParallel(markdownFiles, latestFile);
+            return;
+        }
 
-            saveHtmlFile(file, doc.outerHtml());
+        for (MarkdownFile file : markdownFiles) {
+            renderAndSave(file, latestFile);
         }
     }
 
-    private void processPostListJson(List<MarkdownFile> markdownFiles) {
-        int page = 1;
-        byte count = 0;
-        int countPost = markdownFiles.size();
+    /**
+     * 페이지 하나를 렌더링하여 저장
+     * @param file 렌더링할 파일
+     * @param latestFile 메인 페이지에 노출할 최신 게시글
+     */
+    private void renderAndSave(MarkdownFile file, MarkdownFile latestFile) {
+        PageRenderEvent event = new PageRenderEvent();
+        event.begin();
 
-        List<PostPageItem> postPageItems = new ArrayList<>();
+        boolean upToDate = manifestTracker != null && isUnchanged(file.path(), pageInputHash(file, latestFile));
+        if (!upToDate) {
+            profiler.page(file.path(), () -> streamHtmlFile(file, latestFile));
+        }
 
+        if (event.shouldCommit()) {
+            event.path = file.path();
+            event.outputFormat = options.outputFormat().name();
+            event.cacheHit = upToDate;
+            event.commit();
+        }
+    }
 
+    /**
+     * 각 페이지를 executor 에 분배하여 병렬로 렌더링
+     * 같은 경로를 가진 파일은 순차 처리와 동일하게 마지막 파일만 렌더링하여 결과를 결정적으로 유지하고,
+     * 실패한 페이지는 모두 수집한 뒤 입력 순서대로 PageRenderException 으로 보고한다.
+     */
+    private void renderInParallel(List<MarkdownFile> markdownFiles, MarkdownFile latestFile) {
+        Map<String, MarkdownFile> filesByPath = new LinkedHashMap<>();
         for (MarkdownFile file : markdownFiles) {
-            count++;
-            postPageItems.add(new PostPageItem(file));
+            filesByPath.put(file.path(), file);
+        }
 
-            if(count > 4) {
-                savePostListJsonFile(postPageItems, page, countPost);
+        Map<String, Future<?>> futures = new LinkedHashMap<>();
+        Map<String, Throwable> failures = new LinkedHashMap<>();
 
-                count = 0;
-                page++;
-                postPageItems = new ArrayList<>();
+        try (ExecutorService executor = createExecutor()) {
+            for (MarkdownFile file : filesByPath.values()) {
+                futures.put(file.path(), executor.submit(() -> renderAndSave(file, latestFile)));
+            }
+
+            for (Map.Entry<String, Future<?>> entry : futures.entrySet()) {
+                try {
+                    entry.getValue().get();
+                } catch (ExecutionException e) {
+                    failures.put(entry.getKey(), e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("페이지 생성이 중단되었습니다", e);
+                }
             }
         }
 
-        if(count != 0) {
-            savePostListJsonFile(postPageItems, page, countPost);
+        if (!failures.isEmpty()) {
+            throw new PageRenderException(failures);
+        }
+    }
+
+    /**
+     * 출력 파일을 현재 빌드 매니페스트에 기록하고, 이전 빌드와 입력이 같은지 확인
+     * @param output 결과 디렉토리 기준 출력 경로
+     * @param inputHash 출력을 만드는 입력의 해시
+     * @return 이전 빌드 결과를 그대로 사용할 수 있으면 true
+     */
+    private boolean isUnchanged(String output, String inputHash) {
+        manifestTracker.record(output, inputHash);
+        return manifestTracker.isUpToDate(output, inputHash);
+    }
+
+    /**
+     * 페이지 입력 해시 계산 (메인 페이지는 최신 게시글에 따라 내용이 달라지므로 함께 포함)
+     */
+    private String pageInputHash(MarkdownFile file, MarkdownFile latestFile) {
+        StringBuilder input = new StringBuilder()
+                .append(file.properties()).append('\0')
+                .append(file.contents()).append('\0')
+                .append(file.path());
+
+        if (file.path().equals("index.html")) {
+            input.append('\0').append(latestFile.properties()).append('\0').append(latestFile.path());
+        }
+
+        return Hashes.sha256(input.toString());
+    }
+
+    /**
+     * 생성 결과에 영향을 주는 템플릿/설정과 출력 옵션의 해시
+     * 출력 형식이 바뀌면 입력이 같아도 모든 페이지를 다시 생성해야 하므로 함께 포함한다.
+     */
+    private String outputFingerprint() {
+        return Hashes.sha256(generator.fingerprint() + '\0' + options.outputFormat());
+    }
+
+    private ExecutorService createExecutor() {
+        if (options.threads() == BuildOptions.VIRTUAL_THREADS) {
+            return Executors.newVirtualThreadPerTaskExecutor();
+        }
+        return new ForkJoinPool(options.threads());
+    }
+
+    private void processPostListJson(List<MarkdownFile> markdownFiles) {
+        int lastPage = PostPage.lastPage(markdownFiles.size());
+
+        for (int page = 1; page <= lastPage; page++) {
+            savePostListJsonFile(markdownFiles, page);
         }
     }
 
     private void processCategoryJson(List<MarkdownFile> markdownFiles) {
-        // 모든 카테고리 경로 수집
-        List<String> categoryPaths = categoryManager.getAllCategoryPaths(markdownFiles);
-        
-        // 루트 카테고리 추가 (빈 문자열)
-        categoryPaths.addFirst("");
-        
-        // 각 카테고리별로 JSON 파일 생성
-        for (String categoryPath : categoryPaths) {
-            CategoryInfo categoryInfo = categoryManager.getCategoryInfo(markdownFiles, categoryPath);
-            saveCategoryJsonFile(categoryInfo);
+        // 카테고리 트리를 한 번만 만들고 경로로 바로 조회
+        CategoryIndex categoryIndex = categoryManager.buildCategoryIndex(markdownFiles);
+
+        // 루트 카테고리(빈 문자열)부터 각 카테고리별로 페이지마다 JSON 파일 생성
+        saveCategoryJsonFiles(categoryIndex.root());
+        for (String categoryPath : categoryIndex.paths()) {
+            saveCategoryJsonFiles(categoryIndex.get(categoryPath));
         }
     }
-    
 
-    private void saveHtmlFile(MarkdownFile item, String html) {
-        Path targetPath = resultDir.resolve(item.path());
+    private void saveCategoryJsonFiles(CategoryInfo categoryInfo) {
+        int lastPage = CategoryPage.lastPage(categoryInfo.posts().size(), options.categoryPageSize());
+
+        for (int page = 1; page <= lastPage; page++) {
+            saveCategoryJsonFile(categoryInfo, page);
+        }
+    }
 
+    /**
+     * 페이지를 문자열로 만들지 않고 출력 형식 포매터를 거쳐 버퍼링된 파일 Writer 에 바로 렌더링
+     * 본문 변환 결과와 템플릿 결과가 메모리에 통째로 남지 않으므로 큰 게시글을 병렬로 생성할 때 힙 사용량이 줄어든다.
+     * 렌더링 도중 실패하면 출력 대상이 기록하던 내용을 버리므로 기존 페이지가 그대로 남는다.
+     */
+    private void streamHtmlFile(MarkdownFile file, MarkdownFile latestFile) {
         try {
-            Files.writeString(targetPath, html);
+            output.write(file.path(), writer -> {
+                HtmlFormatter formatter = new HtmlFormatter(writer, options.outputFormat());
+                // 프로파일링 중에는 포매터에 넘기는 시간을 정리 작업으로 측정 (쓰기 시간은 출력 대상이 따로 측정)
+                BuildProfiler.Timer formatting = profiler.timer(BuildProfiler.Stage.FORMATTING);
+                Writer out = formatting.timed(formatter);
+                switch (file.path()) {
+                    case "index.html" -> generator.generateMainPage(file, latestFile, out);
+                    case "list.html" -> generator.generateToHtml(file, GenerateType.LIST, out);
+                    case "archive.html" -> generator.generateArchivePage(file, out);
+                    default -> generator.generateToHtml(file, GenerateType.ARTICLE, out);
+                }
+                out.flush();
+                formatting.time(formatter::finish);
+            });
         } catch (IOException e) {
-            throw new RuntimeException("HTML 파일을 저장할 수 없습니다: " + targetPath, e);
+            throw new RuntimeException("HTML 파일을 저장할 수 없습니다: " + output.describe(file.path()), e);
         }
     }
 
-    private void savePostListJsonFile(List<PostPageItem> items, int page, int count) {
-        Path targetPath = resultDir.resolve("post-list-" + page + ".json");
-
-        int lastPage = (int) Math.ceil((double) count / 5);
-
-        PostPageInfo postPageInfo = new PostPageInfo(page, lastPage, count, page < lastPage, page > 1);
-        PostPage postPage = new PostPage(items, postPageInfo);
+    private void savePostListJsonFile(List<MarkdownFile> markdownFiles, int page) {
+        String fileName = PostPage.fileName(page);
 
         try {
-            Files.writeString(targetPath, jsonMapper.writeValueAsString(postPage));
+            saveJsonFile(fileName, out -> PageJsonWriter.writePostPage(markdownFiles, page, out));
         } catch (IOException e) {
-            throw new RuntimeException("PostPage 파일을 저장할 수 없습니다: " + targetPath, e);
-        }
-    }
-
-    private void saveCategoryJsonFile(CategoryInfo categoryInfo) {
-        // 카테고리 경로를 파일명으로 변환
-        String fileName = categoryInfo.fullPath().isEmpty() ? 
-            "category-root.json" : 
-            "category-" + categoryInfo.fullPath().replace("/", "-") + ".json";
-        
-        Path targetPath = resultDir.resolve(fileName);
-        
-        // CategoryPageItem 리스트 생성
-        List<CategoryPageItem> categoryPageItems = categoryInfo.posts().stream()
-            .map(CategoryPageItem::new)
-            .toList();
-        
-        // 하위 카테고리 요약 정보 생성
-        List<CategorySummary> subCategorySummaries = categoryInfo.subCategories().stream()
-            .map(CategorySummary::from)
-            .toList();
-        
-        // 페이지 정보 생성 (카테고리는 페이징 없이 모든 게시글 표시)
-        PostPageInfo pageInfo = new PostPageInfo(1, 1, categoryInfo.posts().size(), false, false);
-        
-        // CategoryPage 생성
-        CategoryPage categoryPage = new CategoryPage(
-            categoryPageItems,
-            subCategorySummaries,
-            pageInfo,
-            categoryInfo.fullPath(),
-            categoryInfo.name()
-        );
-        
+            throw new RuntimeException("PostPage 파일을 저장할 수 없습니다: " + output.describe(fileName), e);
+        }
+    }
+
+    private void saveCategoryJsonFile(CategoryInfo categoryInfo, int page) {
+        // 카테고리 경로와 페이지 번호를 파일명으로 변환
+        String fileName = CategoryPage.fileName(categoryInfo.fullPath(), page);
+
         try {
-            Files.writeString(targetPath, jsonMapper.writeValueAsString(categoryPage));
+            saveJsonFile(fileName, out -> PageJsonWriter.writeCategoryPage(categoryInfo, page,
+                    options.categoryPageSize(), out));
         } catch (IOException e) {
-            throw new RuntimeException("CategoryPage 파일을 저장할 수 없습니다: " + targetPath, e);
+            throw new RuntimeException("CategoryPage 파일을 저장할 수 없습니다: " + output.describe(fileName), e);
+        }
+    }
+
+    /**
+     * JSON 을 문자열로 만들지 않고 출력 대상의 버퍼링된 Writer 에 바로 기록
+     * 증분 빌드에서는 먼저 해시만 계산하는 출력에 한 번 기록해 보고, 이전 빌드와 내용이 다를 때만 저장한다.
+     */
+    private void saveJsonFile(String fileName, SiteOutput.Content content) throws IOException {
+        if (manifestTracker != null && isUnchanged(fileName, jsonHash(content))) {
+            return;
+        }
+
+        output.write(fileName, content);
+    }
+
+    /**
+     * 저장할 JSON 의 UTF-8 바이트 해시 ({@link Hashes#sha256(String)} 와 같은 값)
+     */
+    private static String jsonHash(SiteOutput.Content content) throws IOException {
+        MessageDigest digest = Hashes.newDigest();
+        try (Writer writer = new OutputStreamWriter(
+                new DigestOutputStream(OutputStream.nullOutputStream(), digest), StandardCharsets.UTF_8)) {
+            content.writeTo(writer);
         }
+        return HexFormat.of().formatHex(digest.digest());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,69 @@
+package com.jimple.manager;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * 생성된 사이트 파일을 저장하는 대상
+ * 경로는 사이트 루트 기준의 상대 경로(예: index.html, assets/jimple.css)이며 구분자는 '/' 를 사용한다.
+ * 구현체는 여러 스레드에서 동시에 서로 다른 경로에 쓸 수 있어야 한다.
+ */
+public interface SiteOutput {
+    /**
+     * 문자열을 UTF-8 로 저장
+     * @param path 사이트 루트 기준 경로
+     * @param contents 저장할 내용
+     * @throws IOException 저장 실패 시
+     */
+    void write(String path, String contents) throws IOException;
+
+    /**
+     * 바이트 배열을 그대로 저장
+     * @param path 사이트 루트 기준 경로
+     * @param contents 저장할 내용
+     * @throws IOException 저장 실패 시
+     */
+    void write(String path, byte[] contents) throws IOException;
+
+    /**
+     * 내용을 Writer 로 나누어 UTF-8 로 저장 (작업이 끝까지 실행되어야 저장됨)
+     * 작업 도중 예외가 발생하면 기록하던 내용을 버리고 기존 내용을 그대로 둔다.
+     * @param path 사이트 루트 기준 경로
+     * @param content 내용을 기록할 작업
+     * @throws IOException 저장 실패 시 (작업에서 발생한 예외는 그대로 전달)
+     */
+    void write(String path, Content content) throws IOException;
+
+    /**
+     * 저장된 내용을 문자열로 읽음
+     * @param path 사이트 루트 기준 경로
+     * @return 저장된 내용, 없으면 null
+     * @throws IOException 읽기 실패 시
+     */
+    String read(String path) throws IOException;
+
+    /**
+     * 경로에 저장된 내용이 있는지 확인
+     */
+    boolean exists(String path);
+
+    /**
+     * 저장된 내용 삭제
+     * @return 삭제했으면 true, 없었으면 false
+     * @throws IOException 삭제 실패 시
+     */
+    boolean delete(String path) throws IOException;
+
+    /**
+     * 오류 메시지에 표시할 위치
+     */
+    String describe(String path);
+
+    /**
+     * Writer 에 내용을 기록하는 작업
+     */
+    @FunctionalInterface
+    interface Content {
+        void writeTo(Writer out) throws IOException;
+    }
+}
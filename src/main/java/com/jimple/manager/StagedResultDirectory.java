@@ -0,0 +1,193 @@
+package com.jimple.manager;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 결과 디렉토리 옆의 새 세대 디렉토리에 빌드한 뒤 한 번에 교체하는 단계적 출력
+ * 결과 디렉토리는 세대 디렉토리({@code <결과디렉토리>.gen-<시각>})를 가리키는 심볼릭 링크로 관리하며,
+ * 새 링크를 만든 뒤 rename 으로 기존 링크를 덮어쓰므로 웹 서버는 항상 이전 세대나 새 세대 중 하나를 완전한 상태로 본다.
+ * <p>
+ * 새 세대는 이전 세대의 파일을 하드 링크로 채운 뒤 빌드하므로 복사 비용이 거의 없고,
+ * {@link SyncSiteOutput} 은 바뀐 파일을 새 파일로 교체하므로 이전 세대의 파일은 바뀌지 않는다.
+ * 교체 후에는 현재 세대와 바로 이전 세대만 남기고(처리 중인 요청과 되돌리기용) 나머지 세대는 삭제한다.
+ * <p>
+ * 결과 디렉토리가 아직 실제 디렉토리인 첫 실행에서는 이를 이전 세대로 이름을 바꾼 뒤 링크를 만들므로 아주 짧은 순간 경로가 비며,
+ * 심볼릭 링크를 만들 수 없는 파일 시스템에서는 이름 바꾸기 두 번으로 교체한다.
+ */
+public final class StagedResultDirectory {
+    private static final String GENERATION_INFIX = ".gen-";
+
+    private final Path resultDir;
+    private final Path previousDir;
+    private final Path stagingDir;
+
+    private StagedResultDirectory(Path resultDir, Path previousDir, Path stagingDir) {
+        this.resultDir = resultDir;
+        this.previousDir = previousDir;
+        this.stagingDir = stagingDir;
+    }
+
+    /**
+     * 새 세대 디렉토리를 만들고 현재 결과를 하드 링크로 채움
+     * @param resultDir 웹 서버가 제공하는 결과 디렉토리 (심볼릭 링크, 실제 디렉토리 또는 없음)
+     * @param seed 현재 결과로 새 세대를 채울지 여부 (false 면 빈 디렉토리에서 시작)
+     * @return 단계적 출력
+     * @throws IOException 세대 디렉토리를 만들거나 채울 수 없는 경우
+     */
+    public static StagedResultDirectory prepare(Path resultDir, boolean seed) throws IOException {
+        Path absoluteResultDir = resultDir.toAbsolutePath().normalize();
+        Path previousDir = Files.exists(absoluteResultDir) ? absoluteResultDir.toRealPath() : null;
+
+        Path stagingDir = newGenerationDir(absoluteResultDir);
+        try {
+            if (seed && previousDir != null) {
+                linkTree(previousDir, stagingDir);
+            }
+        } catch (IOException | RuntimeException e) {
+            deleteTree(stagingDir);
+            throw e;
+        }
+
+        return new StagedResultDirectory(absoluteResultDir, previousDir, stagingDir);
+    }
+
+    /**
+     * 빌드할 디렉토리 (새 세대)
+     */
+    public Path stagingDir() {
+        return stagingDir;
+    }
+
+    /**
+     * 결과 디렉토리가 새 세대를 가리키도록 교체하고 오래된 세대 삭제
+     * @throws IOException 교체할 수 없는 경우 (새 세대는 그대로 남음)
+     */
+    public void publish() throws IOException {
+        Path link = resultDir.resolveSibling(resultDir.getFileName() + ".link-tmp");
+        Files.deleteIfExists(link);
+
+        try {
+            // 상대 경로로 연결하므로 상위 디렉토리를 옮겨도 링크가 유지됨
+            Files.createSymbolicLink(link, stagingDir.getFileName());
+        } catch (UnsupportedOperationException | IOException e) {
+            swapByRename();
+            return;
+        }
+
+        Path previous = previousDir;
+        if (Files.isDirectory(resultDir, LinkOption.NOFOLLOW_LINKS)) {
+            // 실제 디렉토리는 링크로 덮어쓸 수 없으므로 이전 세대로 이름을 바꿈 (첫 실행에서만)
+            previous = newGenerationPath(resultDir);
+            Files.move(resultDir, previous, StandardCopyOption.ATOMIC_MOVE);
+        }
+        Files.move(link, resultDir, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        deleteOldGenerations(previous);
+    }
+
+    /**
+     * 빌드에 실패한 새 세대 삭제 (결과 디렉토리는 그대로 유지)
+     */
+    public void discard() {
+        try {
+            deleteTree(stagingDir);
+        } catch (IOException e) {
+            System.err.println("임시 세대 디렉토리를 삭제할 수 없습니다: " + stagingDir);
+        }
+    }
+
+    /**
+     * 심볼릭 링크를 쓸 수 없을 때 결과 디렉토리를 옮기고 새 세대의 이름을 결과 디렉토리로 변경
+     */
+    private void swapByRename() throws IOException {
+        Path old = null;
+        if (Files.exists(resultDir, LinkOption.NOFOLLOW_LINKS)) {
+            old = newGenerationPath(resultDir);
+            Files.move(resultDir, old, StandardCopyOption.ATOMIC_MOVE);
+        }
+        Files.move(stagingDir, resultDir, StandardCopyOption.ATOMIC_MOVE);
+
+        if (old != null) {
+            deleteTree(old);
+        }
+    }
+
+    /**
+     * 현재 세대와 바로 이전 세대를 제외한 세대 디렉토리 삭제
+     */
+    private void deleteOldGenerations(Path previous) throws IOException {
+        String prefix = resultDir.getFileName() + GENERATION_INFIX;
+        Path parent = resultDir.getParent();
+
+        List<Path> generations;
+        try (Stream<Path> siblings = Files.list(parent)) {
+            generations = siblings
+                    .filter(path -> path.getFileName().toString().startsWith(prefix))
+                    .filter(path -> Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS))
+                    .toList();
+        }
+
+        for (Path generation : generations) {
+            if (generation.equals(stagingDir) || (previous != null && generation.equals(previous))) {
+                continue;
+            }
+            deleteTree(generation);
+        }
+    }
+
+    private static Path newGenerationDir(Path resultDir) throws IOException {
+        while (true) {
+            try {
+                Files.createDirectories(resultDir.getParent());
+                return Files.createDirectory(newGenerationPath(resultDir));
+            } catch (FileAlreadyExistsException e) {
+                // 같은 시각에 만든 세대가 있으면 다시 시도
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private static Path newGenerationPath(Path resultDir) {
+        return resultDir.resolveSibling(resultDir.getFileName() + GENERATION_INFIX + System.nanoTime());
+    }
+
+    /**
+     * 디렉토리 구조를 만들고 파일은 하드 링크로 연결 (하드 링크를 만들 수 없으면 속성을 유지하여 복사)
+     */
+    private static void linkTree(Path source, Path target) throws IOException {
+        try (Stream<Path> paths = Files.walk(source)) {
+            for (Path path : paths.toList()) {
+                Path copy = target.resolve(source.relativize(path).toString());
+                if (Files.isDirectory(path)) {
+                    Files.createDirectories(copy);
+                } else if (Files.isRegularFile(path)) {
+                    try {
+                        Files.createLink(copy, path);
+                    } catch (UnsupportedOperationException | IOException e) {
+                        Files.copy(path, copy, StandardCopyOption.COPY_ATTRIBUTES);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void deleteTree(Path dir) throws IOException {
+        if (!Files.exists(dir, LinkOption.NOFOLLOW_LINKS)) {
+            return;
+        }
+
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
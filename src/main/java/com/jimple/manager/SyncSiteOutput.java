@@ -0,0 +1,259 @@
+package com.jimple.manager;
+
+import com.jimple.profiler.FileWriteEvent;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * 결과 디렉토리를 지우지 않고 내용이 바뀐 파일만 다시 쓰는 출력 대상
+ * 새 내용을 기존 파일과 길이, 바이트 순으로 비교하여 같으면 파일을 건드리지 않으므로 수정 시각이 유지되고,
+ * rsync 나 S3 sync 같은 배포 도구가 바뀌지 않은 파일을 다시 올리지 않는다.
+ * <p>
+ * 이번 빌드에서 저장한 경로를 모두 기억해 두었다가 {@link #deleteOrphans(Predicate)} 로 생성되지 않은 파일만 삭제하며,
+ * 추가/수정/삭제된 경로는 {@link #changes()} 로 조회하거나 {@link #writeChangeList(Path, Map)} 로 기록할 수 있다.
+ * 바뀐 파일은 임시 파일에 쓴 뒤 이름을 바꾸어 교체하므로 읽는 쪽이 절반만 쓰인 파일을 보지 않는다.
+ * 여러 스레드에서 동시에 서로 다른 경로에 써도 안전하다.
+ */
+public class SyncSiteOutput implements SiteOutput {
+    // 기록 중인 임시 파일 이름에 붙이는 접미사 (같은 디렉토리에 만들어 이름 바꾸기로 교체)
+    static final String TEMP_SUFFIX = ".jimple-tmp";
+
+    private final Path resultDir;
+    // 이번 빌드에서 저장한 경로 (내용이 같아 건너뛴 경로 포함)
+    private final Set<String> outputs = ConcurrentHashMap.newKeySet();
+    private final Map<String, OutputChange> changes = new ConcurrentHashMap<>();
+    private final Set<Path> createdDirs = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param resultDir 결과 디렉토리 (없으면 첫 저장 시 생성)
+     */
+    public SyncSiteOutput(Path resultDir) {
+        this.resultDir = resultDir;
+    }
+
+    @Override
+    public void write(String path, String contents) throws IOException {
+        write(path, contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void write(String path, byte[] contents) throws IOException {
+        outputs.add(path);
+        Path file = resultDir.resolve(path);
+        FileWriteEvent event = new FileWriteEvent();
+        event.begin();
+
+        boolean existed = Files.isRegularFile(file);
+        if (existed && Files.size(file) == contents.length && Arrays.equals(Files.readAllBytes(file), contents)) {
+            commitEvent(event, path, contents.length, false);
+            return;
+        }
+
+        // 기존 파일을 덮어쓰지 않고 새 파일로 교체하므로, 이전 세대와 하드 링크로 공유하는 파일도 바뀌지 않음
+        createParentDirectories(file);
+        Path temp = file.resolveSibling(file.getFileName() + TEMP_SUFFIX);
+        try {
+            Files.write(temp, contents);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        changes.put(path, existed ? OutputChange.MODIFIED : OutputChange.ADDED);
+        commitEvent(event, path, contents.length, true);
+    }
+
+    /**
+     * 같은 디렉토리의 임시 파일에 기록하고, 작업이 끝나면 기존 파일과 비교하여 다를 때만 교체
+     * 페이지를 메모리에 모으지 않고 스트리밍하는 출력 형식에서도 바뀌지 않은 파일을 건드리지 않으며,
+     * 렌더링 도중 실패하면 임시 파일만 삭제하므로 기존 파일이 절반만 쓰인 내용으로 바뀌지 않는다.
+     */
+    @Override
+    public void write(String path, Content content) throws IOException {
+        outputs.add(path);
+        Path file = resultDir.resolve(path);
+        createParentDirectories(file);
+
+        // createTempFile 은 소유자만 읽을 수 있는 권한으로 만들기 때문에 일반 파일과 같은 권한으로 생성
+        Path temp = file.resolveSibling(file.getFileName() + TEMP_SUFFIX);
+        try {
+            try (Writer writer = Files.newBufferedWriter(temp)) {
+                content.writeTo(writer);
+            }
+            commit(path, file, temp);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public String read(String path) throws IOException {
+        try {
+            return Files.readString(resultDir.resolve(path));
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean exists(String path) {
+        return Files.exists(resultDir.resolve(path));
+    }
+
+    @Override
+    public boolean delete(String path) throws IOException {
+        outputs.remove(path);
+        boolean deleted = Files.deleteIfExists(resultDir.resolve(path));
+        if (deleted) {
+            recordDeleted(path);
+        }
+        return deleted;
+    }
+
+    @Override
+    public String describe(String path) {
+        return String.valueOf(resultDir.resolve(path));
+    }
+
+    /**
+     * 이번 빌드에서 저장하지 않은 파일을 결과 디렉토리에서 삭제하고, 그로 인해 비게 된 하위 디렉토리도 삭제
+     * @param keep 저장하지 않았어도 남겨 둘 경로 (예: 별도 단계에서 관리하는 .gz 파일)
+     * @return 삭제한 경로 목록 (경로순)
+     */
+    public List<String> deleteOrphans(Predicate<String> keep) {
+        if (!Files.isDirectory(resultDir)) {
+            return List.of();
+        }
+
+        List<String> deleted = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(resultDir)) {
+            for (Path file : paths.filter(Files::isRegularFile).sorted().toList()) {
+                String path = relativePath(file);
+                if (outputs.contains(path) || keep.test(path)) {
+                    continue;
+                }
+
+                Files.deleteIfExists(file);
+                recordDeleted(path);
+                deleted.add(path);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("이전 빌드 결과를 삭제할 수 없습니다: " + resultDir, e);
+        }
+
+        // 파일을 지워 비게 된 하위 디렉토리도 삭제 (깊은 경로부터)
+        try (Stream<Path> paths = Files.walk(resultDir)) {
+            for (Path dir : paths.filter(Files::isDirectory).sorted(Comparator.reverseOrder()).toList()) {
+                if (!dir.equals(resultDir) && isEmptyDirectory(dir)) {
+                    Files.delete(dir);
+                    createdDirs.remove(dir);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("이전 빌드 결과를 삭제할 수 없습니다: " + resultDir, e);
+        }
+
+        return deleted;
+    }
+
+    /**
+     * 이번 빌드에서 추가/수정/삭제된 경로 (경로순)
+     */
+    public Map<String, OutputChange> changes() {
+        return new TreeMap<>(changes);
+    }
+
+    /**
+     * 변경 목록을 "코드\t경로" 형식(git --name-status 와 같음)으로 한 줄에 하나씩 기록
+     * 예: {@code awk -F'\t' '$1 != "D" { print $2 }'} 로 업로드할 파일만 골라 배포 단계에 넘길 수 있다.
+     * @param listFile 기록할 파일
+     * @param extraChanges 이 출력 대상을 거치지 않은 변경 (예: .gz 파일), 같은 경로는 이 값이 우선
+     * @throws IOException 기록 실패 시
+     */
+    public void writeChangeList(Path listFile, Map<String, OutputChange> extraChanges) throws IOException {
+        Map<String, OutputChange> all = changes();
+        all.putAll(extraChanges);
+
+        StringBuilder list = new StringBuilder();
+        for (Map.Entry<String, OutputChange> entry : all.entrySet()) {
+            list.append(entry.getValue().code()).append('\t').append(entry.getKey()).append('\n');
+        }
+
+        Path parent = listFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(listFile, list);
+    }
+
+    /**
+     * 결과 디렉토리 기준 경로 ('/' 구분)
+     */
+    public String relativePath(Path file) {
+        return resultDir.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+    }
+
+    private void commit(String path, Path file, Path temp) throws IOException {
+        // 스트리밍 중의 렌더링 시간은 빼고 비교와 교체만 기록
+        FileWriteEvent event = new FileWriteEvent();
+        event.begin();
+
+        long size = Files.size(temp);
+        boolean existed = Files.isRegularFile(file);
+        if (existed && Files.size(file) == size && Files.mismatch(file, temp) == -1) {
+            commitEvent(event, path, size, false);
+            return;
+        }
+
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        changes.put(path, existed ? OutputChange.MODIFIED : OutputChange.ADDED);
+        commitEvent(event, path, size, true);
+    }
+
+    private static void commitEvent(FileWriteEvent event, String path, long bytes, boolean changed) {
+        if (event.shouldCommit()) {
+            event.path = path;
+            event.bytes = bytes;
+            event.changed = changed;
+            event.commit();
+        }
+    }
+
+    private static boolean isEmptyDirectory(Path dir) throws IOException {
+        try (Stream<Path> entries = Files.list(dir)) {
+            return entries.findAny().isEmpty();
+        }
+    }
+
+    private void recordDeleted(String path) {
+        // 이번 빌드에서 추가했다가 삭제한 경로는 배포할 변경이 없음
+        if (changes.get(path) == OutputChange.ADDED) {
+            changes.remove(path);
+        } else {
+            changes.put(path, OutputChange.DELETED);
+        }
+    }
+
+    private void createParentDirectories(Path file) throws IOException {
+        Path parent = file.getParent();
+        if (parent != null && !createdDirs.contains(parent)) {
+            Files.createDirectories(parent);
+            createdDirs.add(parent);
+        }
+    }
+}
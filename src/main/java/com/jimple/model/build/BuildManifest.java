@@ -0,0 +1,29 @@
+package com.jimple.model.build;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 증분 빌드를 위해 결과 디렉토리에 저장되는 빌드 매니페스트
+ * @param version 매니페스트 형식 버전
+ * @param generatorHash 템플릿과 블로그 설정을 합친 해시 (변경 시 전체 재생성)
+ * @param outputs 출력 파일 경로 → 해당 출력을 만든 입력(마크다운 파일 또는 JSON 내용)의 해시
+ */
+public record BuildManifest(
+        int version,
+        String generatorHash,
+        Map<String, String> outputs
+) {
+    public static final int CURRENT_VERSION = 1;
+
+    public BuildManifest {
+        generatorHash = generatorHash == null ? "" : generatorHash;
+        outputs = outputs == null ? Map.of() : Collections.unmodifiableMap(new TreeMap<>(outputs));
+    }
+
+    // 빈 매니페스트 (이전 빌드가 없는 경우)
+    public BuildManifest() {
+        this(CURRENT_VERSION, "", Map.of());
+    }
+}
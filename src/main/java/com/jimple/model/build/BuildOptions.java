@@ -0,0 +1,75 @@
+package com.jimple.model.build;
+
+/**
+ * 사이트 빌드 실행 옵션을 담는 레코드 클래스
+ * @param threads 페이지 렌더링 스레드 수 (1=순차 처리, 0=가상 스레드, 그 외=ForkJoinPool 병렬도)
+ * @param incremental 빌드 매니페스트를 이용해 변경된 출력만 다시 생성할지 여부
+ * @param outputFormat HTML 출력 형식 (모든 형식은 HtmlFormatter 를 거쳐 페이지를 파일에 바로 스트리밍)
+ * @param categoryPageSize 카테고리 JSON 한 페이지의 게시글 수 (0 이면 카테고리마다 파일 하나에 모든 게시글)
+ */
+public record BuildOptions(
+        int threads,
+        boolean incremental,
+        OutputFormat outputFormat,
+        int categoryPageSize
+) {
+    public static final int SEQUENTIAL = 1;
+    public static final int VIRTUAL_THREADS = 0;
+    public static final int DEFAULT_CATEGORY_PAGE_SIZE = 50;
+
+    public BuildOptions {
+        if (threads < 0) {
+            throw new IllegalArgumentException("threads must be zero or positive");
+        }
+        if (outputFormat == null) {
+            throw new IllegalArgumentException("outputFormat must not be null");
+        }
+        if (categoryPageSize < 0) {
+            throw new IllegalArgumentException("categoryPageSize must be zero or positive");
+        }
+    }
+
+    // 기본 생성자 (순차 처리)
+    public BuildOptions() {
+        this(SEQUENTIAL, false, OutputFormat.PRETTY, DEFAULT_CATEGORY_PAGE_SIZE);
+    }
+
+    /**
+     * 스레드 수만 변경한 옵션 반환
+     * @param threads 페이지 렌더링 스레드 수
+     */
+    public BuildOptions withThreads(int threads) {
+        return new BuildOptions(threads, incremental, outputFormat, categoryPageSize);
+    }
+
+    /**
+     * 증분 빌드 여부만 변경한 옵션 반환
+     * @param incremental 증분 빌드 여부
+     */
+    public BuildOptions withIncremental(boolean incremental) {
+        return new BuildOptions(threads, incremental, outputFormat, categoryPageSize);
+    }
+
+    /**
+     * 출력 형식만 변경한 옵션 반환
+     * @param outputFormat HTML 출력 형식
+     */
+    public BuildOptions withOutputFormat(OutputFormat outputFormat) {
+        return new BuildOptions(threads, incremental, outputFormat, categoryPageSize);
+    }
+
+    /**
+     * 카테고리 JSON 페이지 크기만 변경한 옵션 반환
+     * @param categoryPageSize 한 페이지의 게시글 수 (0 이면 페이지를 나누지 않음)
+     */
+    public BuildOptions withCategoryPageSize(int categoryPageSize) {
+        return new BuildOptions(threads, incremental, outputFormat, categoryPageSize);
+    }
+
+    /**
+     * 페이지를 병렬로 렌더링하는지 여부
+     */
+    public boolean isParallel() {
+        return threads != SEQUENTIAL;
+    }
+}
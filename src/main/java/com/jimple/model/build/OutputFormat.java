@@ -0,0 +1,28 @@
+package com.jimple.model.build;
+
+import java.util.Locale;
+
+/**
+ * HTML 출력 형식
+ */
+public enum OutputFormat {
+    /** 블록 요소마다 줄을 바꾸고 4칸씩 들여쓰기 */
+    PRETTY,
+    /** 불필요한 공백과 주석을 제거 */
+    MINIFY,
+    /** 템플릿 결과를 그대로 출력 */
+    NONE;
+
+    /**
+     * 명령줄 값을 출력 형식으로 변환
+     * @param value pretty, minify, none 중 하나 (대소문자 무시)
+     * @throws IllegalArgumentException 지원하지 않는 값인 경우
+     */
+    public static OutputFormat from(String value) {
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("--format 값은 pretty, minify, none 중 하나여야 합니다: " + value);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.jimple.model.category;
+
+import com.jimple.model.md.MarkdownFile;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 전체 경로로 바로 조회할 수 있는 카테고리 트리
+ * 게시글 목록을 한 번 훑어 트리를 만들고, 경로별 카테고리를 맵에 담아 둔다.
+ * 카테고리마다 트리를 다시 만들고 재귀로 찾는 대신 이 인덱스 하나로 모든 카테고리 결과를 생성한다.
+ */
+public final class CategoryIndex {
+    private final CategoryInfo root;
+    private final Map<String, CategoryInfo> categories;
+    private final List<String> paths;
+
+    private CategoryIndex(CategoryInfo root, Map<String, CategoryInfo> categories) {
+        this.root = root;
+        this.categories = categories;
+
+        List<String> sortedPaths = new ArrayList<>(categories.keySet());
+        sortedPaths.remove("");
+        sortedPaths.sort(String::compareTo);
+        this.paths = List.copyOf(sortedPaths);
+    }
+
+    /**
+     * 게시글 목록으로 카테고리 인덱스 생성
+     * path 가 없는 게시글은 루트 카테고리에, 그 외에는 경로의 마지막 카테고리에 속한다.
+     * 하위 카테고리는 이름순, 게시글은 제목순으로 정렬된다.
+     * @param files 마크다운 파일 목록
+     * @return 카테고리 인덱스
+     */
+    public static CategoryIndex build(Collection<MarkdownFile> files) {
+        Map<String, CategoryInfo> categories = new HashMap<>();
+        CategoryInfo root = new CategoryInfo("", "", 0, new ArrayList<>(), new ArrayList<>());
+        categories.put("", root);
+
+        for (MarkdownFile file : files) {
+            CategoryInfo category = root;
+
+            // 상위 경로부터 차례로 만들면서 처음 생긴 카테고리만 부모에 연결
+            for (PathSegment segment : PathSegment.parsePath(file.properties().path())) {
+                CategoryInfo parent = category;
+                category = categories.get(segment.fullPath());
+                if (category == null) {
+                    category = new CategoryInfo(segment.segment(), segment.fullPath(), segment.level(),
+                            new ArrayList<>(), new ArrayList<>());
+                    categories.put(segment.fullPath(), category);
+                    parent.subCategories().add(category);
+                }
+            }
+
+            category.posts().add(file);
+        }
+
+        for (CategoryInfo category : categories.values()) {
+            category.subCategories().sort(Comparator.comparing(CategoryInfo::name));
+            category.posts().sort(Comparator.comparing(file -> file.properties().title()));
+        }
+
+        return new CategoryIndex(root, categories);
+    }
+
+    /**
+     * 루트 카테고리 (전체 카테고리 트리를 포함)
+     */
+    public CategoryInfo root() {
+        return root;
+    }
+
+    /**
+     * 전체 경로로 카테고리 조회
+     * @param fullPath 카테고리 전체 경로 (null 또는 빈 문자열이면 루트)
+     * @return 해당 카테고리, 없으면 null
+     */
+    public CategoryInfo get(String fullPath) {
+        if (fullPath == null || fullPath.trim().isEmpty()) {
+            return root;
+        }
+        return categories.get(fullPath);
+    }
+
+    /**
+     * 루트를 제외한 모든 카테고리 경로 (사전순)
+     */
+    public List<String> paths() {
+        return paths;
+    }
+
+    /**
+     * 카테고리 수 (루트 포함)
+     */
+    public int size() {
+        return categories.size();
+    }
+}
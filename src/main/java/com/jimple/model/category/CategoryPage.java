@@ -19,4 +19,43 @@ public record CategoryPage(
         String categoryPath,
         String categoryName
 ) {
-}
\ No newline at end of file
+    // 페이지를 나누지 않는 페이지 크기
+    public static final int UNPAGED = 0;
+
+    /**
+     * 카테고리 경로에 해당하는 JSON 파일명 (첫 페이지)
+     * @param fullPath 카테고리 전체 경로 (루트는 빈 문자열)
+     */
+    public static String fileName(String fullPath) {
+        return fileName(fullPath, 1);
+    }
+
+    /**
+     * 카테고리 경로와 페이지 번호에 해당하는 JSON 파일명
+     * 첫 페이지는 페이지를 나누지 않을 때와 같은 이름이고, 이후 페이지는 category-개발-Java.page-2.json 형식이다.
+     * @param fullPath 카테고리 전체 경로 (루트는 빈 문자열)
+     * @param page 1부터 시작하는 페이지 번호
+     */
+    public static String fileName(String fullPath, int page) {
+        if (page < 1) {
+            throw new IllegalArgumentException("page must be positive: " + page);
+        }
+
+        String baseName = fullPath.isEmpty()
+                ? "category-root"
+                : "category-" + fullPath.replace("/", "-");
+        return page == 1 ? baseName + ".json" : baseName + ".page-" + page + ".json";
+    }
+
+    /**
+     * 게시글 수에 대한 마지막 페이지 번호 (게시글이 없어도 하위 카테고리를 담는 첫 페이지는 있으므로 1 이상)
+     * @param count 카테고리의 게시글 수
+     * @param pageSize 한 페이지의 게시글 수 ({@link #UNPAGED} 이면 페이지를 나누지 않음)
+     */
+    public static int lastPage(int count, int pageSize) {
+        if (pageSize == UNPAGED || count == 0) {
+            return 1;
+        }
+        return (count + pageSize - 1) / pageSize;
+    }
+}
@@ -3,4 +3,21 @@ package com.jimple.model.list;
 import java.util.List;
 
 public record PostPage(List<PostPageItem> posts, PostPageInfo page) {
+    public static final int PAGE_SIZE = 5;
+
+    /**
+     * 게시글 수에 대한 마지막 페이지 번호 (게시글이 없으면 0)
+     * @param count 전체 게시글 수
+     */
+    public static int lastPage(int count) {
+        return (int) Math.ceil((double) count / PAGE_SIZE);
+    }
+
+    /**
+     * 페이지 번호에 해당하는 목록 JSON 파일명
+     * @param page 1부터 시작하는 페이지 번호
+     */
+    public static String fileName(int page) {
+        return "post-list-" + page + ".json";
+    }
 }
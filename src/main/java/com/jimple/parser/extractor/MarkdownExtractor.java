@@ -6,4 +6,39 @@ public interface MarkdownExtractor {
     String extractFrontMatter(String fullContents);
     String extractContent(String fullContents);
     String extractFullContents(Path path);
+
+    /**
+     * 파일에서 머리말만 읽어 반환
+     * 기본 구현은 파일 전체를 읽으므로, 구현체는 머리말이 끝나는 곳까지만 읽도록 재정의한다.
+     * @param path 마크다운 파일 경로
+     * @return 머리말 (없으면 빈 문자열)
+     */
+    default String readFrontMatter(Path path) {
+        return extractFrontMatter(extractFullContents(path));
+    }
+
+    /**
+     * 파일을 열어 머리말과 본문을 차례로 읽는 원본 반환
+     * 기본 구현은 파일 전체를 읽어 나누므로, 구현체는 머리말을 읽은 곳에서 본문을 이어 읽도록 재정의한다.
+     * @param path 마크다운 파일 경로
+     * @return 닫아야 하는 마크다운 원본
+     */
+    default MarkdownSource open(Path path) {
+        String fullContents = extractFullContents(path);
+        return new MarkdownSource() {
+            @Override
+            public String frontMatter() {
+                return extractFrontMatter(fullContents);
+            }
+
+            @Override
+            public String content() {
+                return extractContent(fullContents);
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
 }
@@ -0,0 +1,22 @@
+package com.jimple.parser.extractor;
+
+/**
+ * 한 번 연 마크다운 파일에서 머리말과 본문을 차례로 읽는 원본
+ * 머리말만 확인하고 닫으면 본문은 읽지 않고, 본문이 필요하면 머리말을 읽은 곳에서 이어서 읽는다.
+ */
+public interface MarkdownSource extends AutoCloseable {
+    /**
+     * 머리말 반환
+     * @return 머리말 (없으면 빈 문자열)
+     */
+    String frontMatter();
+
+    /**
+     * 머리말을 제외한 본문 반환 (결과는 extractContent(extractFullContents(path)) 와 같음)
+     * @return 본문
+     */
+    String content();
+
+    @Override
+    void close();
+}
@@ -1,12 +1,16 @@
 package com.jimple.parser.extractor;
 
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
 public class SimpleMarkdownExtractor implements MarkdownExtractor {
     private static final String DELIMITER = "---";
+    // 머리말을 찾을 때 한 번에 읽는 문자 수
+    private static final int FRONT_MATTER_CHUNK_SIZE = 2048;
 
    @Override
    public String extractFrontMatter(String fullContents) {        // 기본 널 체크와 BOM 처리
@@ -53,4 +57,115 @@ public class SimpleMarkdownExtractor implements MarkdownExtractor {
             throw new RuntimeException("파일을 읽는 중 오류가 발생했습니다: " + path, e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 파일 앞부분만 조금씩 읽어 머리말 반환
+     * 두 번째 구분자를 찾거나 파일이 머리말로 시작하지 않는 것이 확인되면 나머지 본문은 읽지 않는다.
+     * 결과는 extractFrontMatter(extractFullContents(path)) 와 같다.
+     */
+    @Override
+    public String readFrontMatter(Path path) {
+        try (MarkdownSource source = open(path)) {
+            return source.frontMatter();
+        }
+    }
+
+    /**
+     * 파일을 한 번만 열어, 머리말은 앞부분만 읽어 구하고 본문은 머리말을 읽은 곳에서 이어서 읽는 원본 반환
+     * 전체 읽기와 같이 잘못된 UTF-8 바이트를 만나면 예외가 발생한다.
+     */
+    @Override
+    public MarkdownSource open(Path path) {
+        try {
+            return new StreamingSource(path, new InputStreamReader(Files.newInputStream(path),
+                    StandardCharsets.UTF_8.newDecoder()));
+        } catch (IOException e) {
+            throw new RuntimeException("파일을 읽는 중 오류가 발생했습니다: " + path, e);
+        }
+    }
+
+    /**
+     * 지금까지 읽은 앞부분만으로 머리말을 결정할 수 있는지 확인
+     * extractFrontMatter 와 같이 앞쪽 공백과 BOM 을 건너뛴 뒤 구분자로 시작하는지 본다.
+     */
+    private boolean isFrontMatterResolved(StringBuilder prefix) {
+        int start = 0;
+        while (start < prefix.length() && prefix.charAt(start) <= ' ') {
+            start++;
+        }
+        if (start < prefix.length() && prefix.charAt(start) == '\uFEFF') {
+            start++;
+        }
+
+        if (prefix.length() - start < DELIMITER.length()) {
+            return false;
+        }
+        if (!DELIMITER.contentEquals(prefix.subSequence(start, start + DELIMITER.length()))) {
+            // 머리말이 없는 파일
+            return true;
+        }
+        return prefix.indexOf(DELIMITER, start + DELIMITER.length()) != -1;
+    }
+
+    /**
+     * 읽은 내용을 하나의 버퍼에 이어 붙이며 필요한 만큼만 파일을 읽는 원본
+     */
+    private final class StreamingSource implements MarkdownSource {
+        private final Path path;
+        private final Reader reader;
+        private final StringBuilder contents = new StringBuilder(FRONT_MATTER_CHUNK_SIZE);
+        private final char[] buffer = new char[FRONT_MATTER_CHUNK_SIZE];
+        private boolean eof;
+
+        StreamingSource(Path path, Reader reader) {
+            this.path = path;
+            this.reader = reader;
+        }
+
+        @Override
+        public String frontMatter() {
+            while (!eof && !isFrontMatterResolved(contents)) {
+                fill();
+            }
+            return extractFrontMatter(contents.toString());
+        }
+
+        @Override
+        public String content() {
+            if (!eof) {
+                try {
+                    // UTF-8 문자 수는 바이트 수를 넘지 않으므로 남은 본문을 붙이는 동안 버퍼를 다시 늘리지 않음
+                    contents.ensureCapacity((int) Math.min(Files.size(path), Integer.MAX_VALUE - 8));
+                } catch (IOException e) {
+                    throw new RuntimeException("파일을 읽는 중 오류가 발생했습니다: " + path, e);
+                }
+            }
+            while (!eof) {
+                fill();
+            }
+            return extractContent(contents.toString());
+        }
+
+        @Override
+        public void close() {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                throw new RuntimeException("파일을 닫는 중 오류가 발생했습니다: " + path, e);
+            }
+        }
+
+        private void fill() {
+            try {
+                int read = reader.read(buffer);
+                if (read == -1) {
+                    eof = true;
+                } else {
+                    contents.append(buffer, 0, read);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("파일을 읽는 중 오류가 발생했습니다: " + path, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.jimple.parser.template;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 번 파싱하여 여러 번 렌더링할 수 있는 불변 템플릿
+ * 정규식 없이 문자열을 한 번 훑어 리터럴, 변수, 조건부 섹션 노드 트리를 만들며,
+ * 생성된 인스턴스는 여러 스레드에서 동시에 렌더링해도 안전하다.
+ * <p>
+ * 기존 정규식 기반 처리와 같은 규칙을 따른다.
+ * 섹션은 같은 이름의 첫 번째 닫는 태그까지이며, 섹션 안의 다른 섹션 태그는
+ * 변수로 취급되어 빈 문자열로 치환된다. 짝이 없는 섹션 태그도 빈 문자열이 된다.
+ */
+public final class CompiledTemplate {
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final List<TemplateNode> nodes;
+    private final int estimatedLength;
+
+    private CompiledTemplate(List<TemplateNode> nodes, int estimatedLength) {
+        this.nodes = List.copyOf(nodes);
+        this.estimatedLength = estimatedLength;
+    }
+
+    /**
+     * 템플릿 문자열을 노드 트리로 컴파일
+     * @param template 템플릿 문자열
+     * @return 컴파일된 템플릿
+     */
+    public static CompiledTemplate compile(String template) {
+        List<TemplateNode> nodes = new ArrayList<>();
+        int textStart = 0;
+        int pos = template.indexOf(OPEN);
+
+        while (pos >= 0) {
+            Tag tag = readTag(template, pos);
+            if (tag != null && tag.name().startsWith("#") && tag.name().length() > 1) {
+                String sectionName = tag.name().substring(1);
+                int closeIndex = template.indexOf(OPEN + "/" + sectionName + CLOSE, tag.end());
+
+                if (closeIndex >= 0) {
+                    parseVariables(template, textStart, pos, nodes);
+
+                    List<TemplateNode> children = new ArrayList<>();
+                    parseVariables(template, tag.end(), closeIndex, children);
+                    nodes.add(new TemplateNode.Section(sectionName, children));
+
+                    textStart = closeIndex + OPEN.length() + 1 + sectionName.length() + CLOSE.length();
+                    pos = template.indexOf(OPEN, textStart);
+                    continue;
+                }
+            }
+
+            pos = template.indexOf(OPEN, pos + 1);
+        }
+
+        parseVariables(template, textStart, template.length(), nodes);
+
+        return new CompiledTemplate(nodes, template.length());
+    }
+
+    /**
+     * 데이터를 적용하여 결과 문자열 생성
+     * @param data 적용할 데이터
+     * @return 렌더링 결과
+     */
+    public String render(Map<String, Object> data) {
+        StringBuilder out = new StringBuilder(estimatedLength + (estimatedLength >> 1));
+        try {
+            render(data, out);
+        } catch (IOException e) {
+            // StringBuilder 는 IOException 을 던지지 않으며, 조각이 던진 경우만 여기에 도달
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    /**
+     * 데이터를 적용하여 결과를 출력 대상에 바로 기록
+     * 결과 전체를 문자열로 만들지 않으므로 Writer 에 직접 쓰면 페이지 크기만큼의 버퍼가 필요 없다.
+     * @param data 적용할 데이터
+     * @param out 출력 대상
+     * @throws IOException 출력 실패 시
+     */
+    public void render(Map<String, Object> data, Appendable out) throws IOException {
+        for (TemplateNode node : nodes) {
+            node.render(data, out);
+        }
+    }
+
+    /**
+     * 컴파일한 템플릿 원문의 길이
+     */
+    public int sourceLength() {
+        return estimatedLength;
+    }
+
+    /**
+     * 컴파일된 최상위 노드 목록
+     */
+    public List<TemplateNode> nodes() {
+        return nodes;
+    }
+
+    /**
+     * [start, end) 구간을 리터럴과 변수 노드로 분리하여 추가
+     */
+    private static void parseVariables(String template, int start, int end, List<TemplateNode> out) {
+        int textStart = start;
+        int pos = template.indexOf(OPEN, start);
+
+        while (pos >= 0 && pos < end) {
+            Tag tag = readTag(template, pos);
+            if (tag != null && tag.end() <= end) {
+                addLiteral(template, textStart, pos, out);
+                out.add(new TemplateNode.Variable(tag.name()));
+                textStart = tag.end();
+                pos = template.indexOf(OPEN, textStart);
+            } else {
+                pos = template.indexOf(OPEN, pos + 1);
+            }
+        }
+
+        addLiteral(template, textStart, end, out);
+    }
+
+    private static void addLiteral(String template, int start, int end, List<TemplateNode> out) {
+        if (start < end) {
+            out.add(new TemplateNode.Literal(template.substring(start, end)));
+        }
+    }
+
+    /**
+     * pos 위치에서 시작하는 {{name}} 태그를 읽음
+     * 이름은 첫 번째 '}' 앞까지이며 비어 있으면 안 되고, 바로 뒤에 "}}" 가 와야 한다.
+     * @return 태그 정보, 태그가 아니면 null
+     */
+    private static Tag readTag(String template, int pos) {
+        int nameStart = pos + OPEN.length();
+        int nameEnd = template.indexOf('}', nameStart);
+
+        if (nameEnd <= nameStart || !template.startsWith(CLOSE, nameEnd)) {
+            return null;
+        }
+
+        return new Tag(template.substring(nameStart, nameEnd), nameEnd + CLOSE.length());
+    }
+
+    private record Tag(String name, int end) {
+    }
+}
@@ -1,93 +1,124 @@
 package com.jimple.parser.template;
 
+import com.jimple.profiler.TemplateRenderEvent;
+
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
 import java.util.Map;
-import java.util.Scanner;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * 간단한 템플릿 엔진 구현
+ * 리소스 경로의 템플릿은 {@link TemplateRepository} 가 읽을 때 한 번 컴파일한 CompiledTemplate 을 그대로 렌더링하며,
+ * 문자열로 전달한 템플릿은 호출할 때마다 컴파일한다.
  */
 public class SimpleTemplateEngine {
-    // 변수 치환 패턴: {{variableName}}
-    private static final Pattern VARIABLE_PATTERN = Pattern.compile("\\{\\{([^}]+)}}");
+    private final TemplateRepository templateRepository;
 
-    // 조건부 섹션 패턴: {{#condition}}...{{/condition}}
-    private static final Pattern SECTION_PATTERN = Pattern.compile(
-            "\\{\\{#([^}]+)}}([\\s\\S]*?)\\{\\{/\\1}}",
-            Pattern.DOTALL
-    );
+    public SimpleTemplateEngine() {
+        this(new TemplateRepository());
+    }
+
+    public SimpleTemplateEngine(TemplateRepository templateRepository) {
+        this.templateRepository = templateRepository;
+    }
 
     /**
      * 리소스 경로에서 템플릿을 로드
+     * 템플릿 저장소에 캐시되므로 같은 경로는 한 번만 읽는다.
      *
      * @param resourcePath 리소스 경로
      * @return 템플릿 내용
      * @throws IOException 템플릿 로드 실패 시
      */
     public String loadTemplate(String resourcePath) throws IOException {
-        try (InputStream is = getClass().getClassLoader().getResourceAsStream(resourcePath)) {
-            if (is == null) {
-                throw new IOException("템플릿 파일을 찾을 수 없습니다: " + resourcePath);
-            }
-
-            try (Scanner s = new Scanner(is, StandardCharsets.UTF_8)) {
-                s.useDelimiter("\\A");
-                return s.hasNext() ? s.next() : "";
-            }
-        }
+        return templateRepository.load(resourcePath);
+    }
+
+    /**
+     * 리소스 경로에서 컴파일된 템플릿을 로드
+     * 템플릿 저장소에 캐시되므로 템플릿이 바뀌지 않는 한 같은 인스턴스를 반환한다.
+     *
+     * @param resourcePath 리소스 경로
+     * @return 컴파일된 템플릿
+     * @throws IOException 템플릿 로드 실패 시
+     */
+    public CompiledTemplate loadCompiledTemplate(String resourcePath) throws IOException {
+        return templateRepository.loadCompiled(resourcePath);
+    }
+
+    /**
+     * 컴파일된 템플릿에 데이터를 적용하여 결과 생성
+     *
+     * @param template 컴파일된 템플릿
+     * @param data     적용할 데이터
+     * @return 처리된 결과
+     */
+    public String render(CompiledTemplate template, Map<String, Object> data) {
+        return render(template, data, true);
     }
 
     /**
-     * 템플릿에 데이터를 적용하여 결과 생성
+     * 컴파일된 템플릿에 데이터를 적용하여 결과를 출력 대상에 바로 기록
+     *
+     * @param template 컴파일된 템플릿
+     * @param data     적용할 데이터 (TemplateFragment 값은 해당 위치에 직접 출력)
+     * @param out      출력 대상
+     * @throws IOException 출력 실패 시
+     */
+    public void render(CompiledTemplate template, Map<String, Object> data, Appendable out) throws IOException {
+        render(template, data, out, true);
+    }
+
+    /**
+     * 템플릿 문자열에 데이터를 적용하여 결과 생성 (매번 컴파일)
      *
      * @param template 템플릿 문자열
      * @param data     적용할 데이터
      * @return 처리된 결과
      */
     public String processTemplate(String template, Map<String, Object> data) {
-        String result = template;
-
-        // 조건부 섹션 처리
-        Matcher sectionMatcher = SECTION_PATTERN.matcher(result);
-        StringBuilder sb = new StringBuilder();
-
-        while (sectionMatcher.find()) {
-            String conditionName = sectionMatcher.group(1);
-            String sectionContent = sectionMatcher.group(2);
-
-            Object conditionValue = data.get(conditionName);
-            boolean condition = switch (conditionValue) {
-                case Boolean b -> b;
-                case String s -> !s.isEmpty();
-                case Number number -> number.doubleValue() != 0;
-                case null, default -> conditionValue != null;
-            };
-
-            String replacement = condition ? sectionContent : "";
-            sectionMatcher.appendReplacement(sb, Matcher.quoteReplacement(replacement));
-        }
+        return render(CompiledTemplate.compile(template), data, false);
+    }
+
+    /**
+     * 템플릿 문자열에 데이터를 적용하여 결과를 출력 대상에 바로 기록 (매번 컴파일)
+     *
+     * @param template 템플릿 문자열
+     * @param data     적용할 데이터 (TemplateFragment 값은 해당 위치에 직접 출력)
+     * @param out      출력 대상
+     * @throws IOException 출력 실패 시
+     */
+    public void processTemplate(String template, Map<String, Object> data, Appendable out) throws IOException {
+        render(CompiledTemplate.compile(template), data, out, false);
+    }
 
-        sectionMatcher.appendTail(sb);
-        result = sb.toString();
+    private String render(CompiledTemplate template, Map<String, Object> data, boolean cacheHit) {
+        TemplateRenderEvent event = new TemplateRenderEvent();
+        event.begin();
 
-        // 변수 치환
-        Matcher matcher = VARIABLE_PATTERN.matcher(result);
-        sb = new StringBuilder();
+        String result = template.render(data);
 
-        while (matcher.find()) {
-            String varName = matcher.group(1);
-            Object value = data.get(varName);
-            String replacement = (value != null) ? value.toString() : "";
-            matcher.appendReplacement(sb, Matcher.quoteReplacement(replacement));
+        if (event.shouldCommit()) {
+            event.templateChars = template.sourceLength();
+            event.outputChars = result.length();
+            event.cacheHit = cacheHit;
+            event.commit();
         }
+        return result;
+    }
 
-        matcher.appendTail(sb);
-        result = sb.toString();
+    private void render(CompiledTemplate template, Map<String, Object> data, Appendable out, boolean cacheHit)
+            throws IOException {
+        TemplateRenderEvent event = new TemplateRenderEvent();
+        event.begin();
 
-        return result;
+        template.render(data, out);
+
+        // 스트리밍 중에는 본문 변환과 출력 시간이 함께 포함됨
+        if (event.shouldCommit()) {
+            event.templateChars = template.sourceLength();
+            event.outputChars = -1;
+            event.cacheHit = cacheHit;
+            event.commit();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,19 @@
+package com.jimple.parser.template;
+
+import java.io.IOException;
+
+/**
+ * 템플릿 변수 위치에 직접 출력되는 조각
+ * 큰 본문을 문자열로 만들지 않고 출력 대상에 바로 쓰기 위해 템플릿 데이터의 값으로 사용하며,
+ * 템플릿에서 참조될 때마다 다시 출력된다.
+ */
+@FunctionalInterface
+public interface TemplateFragment {
+
+    /**
+     * 조각을 출력 대상에 기록
+     * @param out 출력 대상
+     * @throws IOException 출력 실패 시
+     */
+    void writeTo(Appendable out) throws IOException;
+}
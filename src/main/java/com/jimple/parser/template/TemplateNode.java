@@ -0,0 +1,78 @@
+package com.jimple.parser.template;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 컴파일된 템플릿을 구성하는 불변 노드
+ */
+public sealed interface TemplateNode {
+
+    /**
+     * 데이터를 적용하여 결과를 출력 대상에 추가
+     * @param data 적용할 데이터
+     * @param out 출력 대상
+     * @throws IOException 출력 실패 시
+     */
+    void render(Map<String, Object> data, Appendable out) throws IOException;
+
+    /**
+     * 그대로 출력되는 문자열 노드
+     * @param text 출력할 문자열
+     */
+    record Literal(String text) implements TemplateNode {
+        @Override
+        public void render(Map<String, Object> data, Appendable out) throws IOException {
+            out.append(text);
+        }
+    }
+
+    /**
+     * 변수 치환 노드: {{name}}
+     * 값이 TemplateFragment 이면 문자열로 바꾸지 않고 조각을 직접 출력한다.
+     * @param name 변수 이름 (값이 없으면 빈 문자열 출력)
+     */
+    record Variable(String name) implements TemplateNode {
+        @Override
+        public void render(Map<String, Object> data, Appendable out) throws IOException {
+            Object value = data.get(name);
+            if (value instanceof TemplateFragment fragment) {
+                fragment.writeTo(out);
+            } else if (value != null) {
+                out.append(value.toString());
+            }
+        }
+    }
+
+    /**
+     * 조건부 섹션 노드: {{#name}}...{{/name}}
+     * @param name 조건 변수 이름
+     * @param children 조건이 참일 때 출력할 노드 목록
+     */
+    record Section(String name, List<TemplateNode> children) implements TemplateNode {
+        public Section {
+            children = List.copyOf(children);
+        }
+
+        @Override
+        public void render(Map<String, Object> data, Appendable out) throws IOException {
+            if (!isTruthy(data.get(name))) {
+                return;
+            }
+
+            for (TemplateNode child : children) {
+                child.render(data, out);
+            }
+        }
+
+        private static boolean isTruthy(Object conditionValue) {
+            return switch (conditionValue) {
+                case Boolean b -> b;
+                case String s -> !s.isEmpty();
+                case Number number -> number.doubleValue() != 0;
+                case null, default -> conditionValue != null;
+            };
+        }
+    }
+}
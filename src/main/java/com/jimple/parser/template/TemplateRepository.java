@@ -0,0 +1,115 @@
+package com.jimple.parser.template;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 템플릿 저장소
+ * 리소스 경로별로 템플릿을 한 번만 읽어 캐시하며, 여러 스레드에서 동시에 사용해도 안전하다.
+ * 덮어쓰기 디렉토리를 지정하면 {@code <디렉토리>/<리소스 경로>} 파일이 클래스패스 템플릿보다 우선하며,
+ * 파일의 수정 시각이 바뀌거나 파일이 추가/삭제되면 캐시를 무효화하고 다시 읽는다.
+ */
+public class TemplateRepository {
+    private final ClassLoader classLoader;
+    private final Path overrideDir;
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 클래스패스 템플릿만 사용하는 저장소 생성
+     */
+    public TemplateRepository() {
+        this(null);
+    }
+
+    /**
+     * 덮어쓰기 디렉토리를 사용하는 저장소 생성
+     * @param overrideDir 템플릿 덮어쓰기 디렉토리 (null 이면 클래스패스만 사용)
+     */
+    public TemplateRepository(Path overrideDir) {
+        this.classLoader = TemplateRepository.class.getClassLoader();
+        this.overrideDir = overrideDir;
+    }
+
+    /**
+     * 템플릿 원문 반환
+     * 캐시된 경우 같은 String 인스턴스를 반환한다.
+     * @param resourcePath 리소스 경로 (예: templates/article.html)
+     * @return 템플릿 내용
+     * @throws IOException 템플릿을 찾을 수 없거나 읽을 수 없는 경우
+     */
+    public String load(String resourcePath) throws IOException {
+        return entry(resourcePath).source();
+    }
+
+    /**
+     * 컴파일된 템플릿 반환
+     * @param resourcePath 리소스 경로
+     * @return 컴파일된 템플릿
+     * @throws IOException 템플릿을 찾을 수 없거나 읽을 수 없는 경우
+     */
+    public CompiledTemplate loadCompiled(String resourcePath) throws IOException {
+        return entry(resourcePath).compiled();
+    }
+
+    private Entry entry(String resourcePath) throws IOException {
+        Path overrideFile = overrideDir == null ? null : overrideDir.resolve(resourcePath);
+
+        try {
+            if (overrideFile != null && Files.isRegularFile(overrideFile)) {
+                FileTime modified = Files.getLastModifiedTime(overrideFile);
+                return cache.compute(resourcePath, (key, cached) ->
+                        cached != null && modified.equals(cached.modified()) ? cached : readFile(overrideFile, modified));
+            }
+
+            Entry cached = cache.get(resourcePath);
+            if (cached != null && cached.modified() == null) {
+                return cached;
+            }
+
+            // 덮어쓰기 파일이 삭제되었거나 처음 읽는 경우 클래스패스에서 로드
+            return cache.compute(resourcePath, (key, current) ->
+                    current != null && current.modified() == null ? current : readClasspath(key));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Entry readFile(Path file, FileTime modified) {
+        try {
+            return Entry.of(Files.readString(file, StandardCharsets.UTF_8), modified);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Entry readClasspath(String resourcePath) {
+        try (InputStream is = classLoader.getResourceAsStream(resourcePath)) {
+            if (is == null) {
+                throw new IOException("템플릿 파일을 찾을 수 없습니다: " + resourcePath);
+            }
+
+            return Entry.of(new String(is.readAllBytes(), StandardCharsets.UTF_8), null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 캐시 항목
+     * @param source 템플릿 원문
+     * @param compiled 컴파일된 템플릿
+     * @param modified 덮어쓰기 파일의 수정 시각 (클래스패스 템플릿이면 null)
+     */
+    private record Entry(String source, CompiledTemplate compiled, FileTime modified) {
+        static Entry of(String source, FileTime modified) {
+            return new Entry(source, CompiledTemplate.compile(source), modified);
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package com.jimple.parser.yml;
+
+import com.jimple.model.md.MarkdownProperties;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * 한 줄짜리 "키: 값" 형태만으로 이루어진 머리말을 SnakeYAML 없이 읽는 파서
+ * 문서 트리나 Map, Date 객체를 만들지 않고 줄 단위로 한 번 훑으면서 필요한 6개 키의 값만 꺼내어
+ * {@link MarkdownProperties} 를 바로 생성한다.
+ * <p>
+ * 값의 타입(문자열/불리언/null/날짜 등)은 SnakeYAML 의 {@link Resolver} 로 판별하므로 YAML 1.1 규칙과 같고,
+ * 검증 규칙과 예외 메시지도 {@link SimpleMarkdownYmlParser} 와 같다.
+ * 앵커/별칭, 태그, 흐름 컬렉션, 블록 스칼라, 들여쓴 줄, 여러 줄 값, 이스케이프가 있는 큰따옴표 문자열,
+ * 숫자 등 완전히 같은 결과를 보장할 수 없는 입력을 만나면 null 을 반환하여 SnakeYAML 경로로 처리하게 한다.
+ */
+final class FlatFrontMatterParser {
+    // resolve 는 생성 시 등록된 정규식만 읽으므로 여러 스레드에서 공유해도 안전
+    private static final Resolver RESOLVER = new Resolver();
+
+    // 줄리우스력과 그레고리력이 섞인 구간은 java.util.Date 변환 결과가 달라지므로 SnakeYAML 로 처리
+    private static final int MIN_FAST_YEAR = 1600;
+
+    private FlatFrontMatterParser() {
+    }
+
+    /**
+     * 머리말을 읽어 속성 생성
+     * @param frontmatter 구분자를 제외한 머리말 (비어 있지 않아야 함)
+     * @return 마크다운 속성, 이 파서가 처리할 수 없는 입력이면 null
+     * @throws IllegalArgumentException 필수 값이 없거나 타입이 맞지 않는 경우
+     */
+    static MarkdownProperties parse(String frontmatter) {
+        Scalar publish = null;
+        Scalar title = null;
+        Scalar date = null;
+        Scalar description = null;
+        Scalar thumbnailUrl = null;
+        Scalar path = null;
+        boolean hasKey = false;
+
+        int length = frontmatter.length();
+        int lineStart = 0;
+
+        while (lineStart < length) {
+            int lineEnd = frontmatter.indexOf('\n', lineStart);
+            if (lineEnd < 0) {
+                lineEnd = length;
+            }
+            int nextLine = lineEnd + 1;
+            if (lineEnd > lineStart && frontmatter.charAt(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+
+            if (!isPlainLine(frontmatter, lineStart, lineEnd)) {
+                return null;
+            }
+
+            int first = skipSpaces(frontmatter, lineStart, lineEnd);
+            if (first == lineEnd || frontmatter.charAt(first) == '#') {
+                // 빈 줄 또는 주석
+                lineStart = nextLine;
+                continue;
+            }
+            if (first != lineStart) {
+                // 들여쓴 줄은 중첩 구조이거나 이전 값의 연속이므로 지원하지 않음
+                return null;
+            }
+
+            int keyEnd = scanKey(frontmatter, lineStart, lineEnd);
+            if (keyEnd < 0) {
+                return null;
+            }
+            int colon = skipSpaces(frontmatter, keyEnd, lineEnd);
+            if (colon == lineEnd || frontmatter.charAt(colon) != ':'
+                    || (colon + 1 < lineEnd && frontmatter.charAt(colon + 1) != ' ')) {
+                return null;
+            }
+
+            Scalar value = scanValue(frontmatter, colon + 1, lineEnd);
+            if (value == null) {
+                return null;
+            }
+            hasKey = true;
+
+            // 중복 키는 SnakeYAML 기본 설정과 같이 마지막 값을 사용
+            switch (frontmatter.substring(lineStart, keyEnd)) {
+                case "publish" -> publish = value;
+                case "title" -> title = value;
+                case "date" -> date = value;
+                case "description" -> description = value;
+                case "thumbnailUrl" -> thumbnailUrl = value;
+                case "path" -> path = value;
+                default -> {
+                }
+            }
+
+            lineStart = nextLine;
+        }
+
+        if (!hasKey) {
+            // 주석이나 빈 줄만 있는 문서는 SnakeYAML 결과를 그대로 따름
+            return null;
+        }
+
+        if (publish == null || publish.type() != Type.BOOLEAN || !Boolean.parseBoolean(publish.value())) {
+            return new MarkdownProperties();
+        }
+
+        if (title == null) {
+            throw new IllegalArgumentException("title must be set");
+        } else if (title.type() != Type.STRING) {
+            throw new IllegalArgumentException("title must be a string");
+        }
+
+        String descriptionValue = "";
+        if (description != null) {
+            if (description.type() != Type.STRING) {
+                throw new IllegalArgumentException("description must be a string");
+            }
+            descriptionValue = description.value();
+        }
+
+        return new MarkdownProperties(
+                true,
+                title.value(),
+                date != null && date.type() == Type.DATE ? toLocalDate(date.value()) : LocalDate.now(),
+                descriptionValue,
+                stringOrEmpty(thumbnailUrl),
+                stringOrEmpty(path)
+        );
+    }
+
+    /**
+     * 키 뒤의 값을 읽어 타입과 함께 반환
+     * @return 값, 지원하지 않는 형태이면 null
+     */
+    private static Scalar scanValue(String text, int start, int end) {
+        int valueStart = skipSpaces(text, start, end);
+        if (valueStart == end) {
+            return new Scalar(Type.NULL, null);
+        }
+
+        char first = text.charAt(valueStart);
+        return switch (first) {
+            case '\'' -> scanSingleQuoted(text, valueStart, end);
+            case '"' -> scanDoubleQuoted(text, valueStart, end);
+            // 주석만 있는 값, 흐름 컬렉션, 앵커/별칭, 태그, 블록 스칼라, 예약 문자
+            case '#', ',', '[', ']', '{', '}', '&', '*', '!', '|', '>', '%', '@', '`' -> null;
+            default -> scanPlain(text, valueStart, end);
+        };
+    }
+
+    private static Scalar scanPlain(String text, int start, int end) {
+        char first = text.charAt(start);
+        if ((first == '-' || first == '?' || first == ':')
+                && (start + 1 == end || text.charAt(start + 1) == ' ')) {
+            return null;
+        }
+
+        // 공백 뒤의 '#' 부터는 주석
+        int valueEnd = end;
+        for (int i = start + 1; i < end; i++) {
+            if (text.charAt(i) == '#' && text.charAt(i - 1) == ' ') {
+                valueEnd = i;
+                break;
+            }
+        }
+        while (text.charAt(valueEnd - 1) == ' ') {
+            valueEnd--;
+        }
+
+        // 값 안의 ": " 나 끝의 ':' 는 중첩 매핑이므로 SnakeYAML 의 판단에 맡김
+        for (int i = start; i < valueEnd; i++) {
+            if (text.charAt(i) == ':' && (i + 1 == valueEnd || text.charAt(i + 1) == ' ')) {
+                return null;
+            }
+        }
+
+        String value = text.substring(start, valueEnd);
+        Tag tag = RESOLVER.resolve(NodeId.scalar, value, true);
+
+        if (Tag.STR.equals(tag)) {
+            return new Scalar(Type.STRING, value);
+        } else if (Tag.BOOL.equals(tag)) {
+            boolean flag = value.equalsIgnoreCase("true") || value.equalsIgnoreCase("yes") || value.equalsIgnoreCase("on");
+            return new Scalar(Type.BOOLEAN, String.valueOf(flag));
+        } else if (Tag.NULL.equals(tag)) {
+            return new Scalar(Type.NULL, null);
+        } else if (Tag.TIMESTAMP.equals(tag) && isFastDate(value)) {
+            return new Scalar(Type.DATE, value);
+        }
+
+        // 숫자나 시각이 포함된 타임스탬프 등은 SnakeYAML 의 변환 결과를 따름
+        return null;
+    }
+
+    private static Scalar scanSingleQuoted(String text, int start, int end) {
+        StringBuilder value = new StringBuilder();
+        int i = start + 1;
+
+        while (i < end) {
+            char c = text.charAt(i);
+            if (c == '\'') {
+                if (i + 1 < end && text.charAt(i + 1) == '\'') {
+                    value.append('\'');
+                    i += 2;
+                    continue;
+                }
+                return afterQuoted(text, i + 1, end) ? new Scalar(Type.STRING, value.toString()) : null;
+            }
+            value.append(c);
+            i++;
+        }
+
+        // 다음 줄로 이어지는 문자열
+        return null;
+    }
+
+    private static Scalar scanDoubleQuoted(String text, int start, int end) {
+        for (int i = start + 1; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == '\\') {
+                return null;
+            }
+            if (c == '"') {
+                return afterQuoted(text, i + 1, end) ? new Scalar(Type.STRING, text.substring(start + 1, i)) : null;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * 닫는 따옴표 뒤에는 공백과 주석만 올 수 있음
+     */
+    private static boolean afterQuoted(String text, int start, int end) {
+        int next = skipSpaces(text, start, end);
+        return next == end || (next > start && text.charAt(next) == '#');
+    }
+
+    /**
+     * 줄 맨 앞의 단순 키(영문자/숫자/_/-)를 읽음
+     * @return 키가 끝나는 위치, 단순 키가 아니면 -1
+     */
+    private static int scanKey(String text, int start, int end) {
+        char first = text.charAt(start);
+        if (!(Character.isLetter(first) && first < 0x80) && first != '_') {
+            return -1;
+        }
+
+        int i = start + 1;
+        while (i < end) {
+            char c = text.charAt(i);
+            if (!(c < 0x80 && (Character.isLetterOrDigit(c) || c == '_' || c == '-'))) {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * 탭, 제어 문자, YAML 1.1 이 줄바꿈으로 취급하는 문자, BOM 이 없는 줄인지 확인
+     */
+    private static boolean isPlainLine(String text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c < 0x20 || (c >= 0x7F && c <= 0x9F) || c == '\u2028' || c == '\u2029'
+                    || c == '\uFEFF' || c >= '\uFFFE') {
+                return false;
+            }
+        }
+
+        // 문서 구분자
+        return !(text.startsWith("---", start) || text.startsWith("...", start));
+    }
+
+    private static int skipSpaces(String text, int start, int end) {
+        int i = start;
+        while (i < end && text.charAt(i) == ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * yyyy-MM-dd 형식의 유효한 날짜인지 확인
+     */
+    private static boolean isFastDate(String value) {
+        if (value.length() != 10) {
+            return false;
+        }
+
+        try {
+            return LocalDate.parse(value).getYear() >= MIN_FAST_YEAR;
+        } catch (DateTimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * SnakeYAML 은 날짜만 있는 값을 UTC 자정의 Date 로 만들고 기존 경로는 이를 시스템 시간대로 변환하므로 같은 계산을 적용
+     */
+    private static LocalDate toLocalDate(String value) {
+        return LocalDate.parse(value)
+                .atStartOfDay(ZoneOffset.UTC)
+                .withZoneSameInstant(ZoneId.systemDefault())
+                .toLocalDate();
+    }
+
+    private static String stringOrEmpty(Scalar scalar) {
+        return scalar != null && scalar.type() == Type.STRING ? scalar.value() : "";
+    }
+
+    private enum Type { STRING, BOOLEAN, NULL, DATE }
+
+    /**
+     * 타입이 판별된 값
+     * @param type 값 타입
+     * @param value 문자열 값 (불리언은 "true"/"false", 날짜는 yyyy-MM-dd, null 은 null)
+     */
+    private record Scalar(Type type, String value) {
+    }
+}
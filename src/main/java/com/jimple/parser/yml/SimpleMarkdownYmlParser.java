@@ -10,37 +10,73 @@ import java.time.ZoneId;
 import java.time.format.DateTimeParseException;
 import java.util.Date;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 public class SimpleMarkdownYmlParser implements YmlParser{
+    // Yaml 인스턴스는 스레드 안전하지 않으므로 파일마다 새로 만드는 대신 빌려 쓰고 반납하여 재사용
+    private final Queue<Yaml> yamlPool = new ConcurrentLinkedQueue<>();
+
     @Override
     public @NotNull MarkdownProperties getProperties(String frontmatter) {
         if(frontmatter == null) throw new IllegalArgumentException("contents must not be null");
 
         if(!frontmatter.isEmpty()) {
-            Yaml yaml = new Yaml();
-            Map<String, Object> yamlMap;
-
-            try {
-                yamlMap = yaml.load(frontmatter);
-            } catch (YAMLException e) {
-                return new MarkdownProperties();
+            // 단순한 "키: 값" 머리말은 SnakeYAML 없이 바로 읽고, 처리할 수 없는 형태만 SnakeYAML 로 파싱
+            MarkdownProperties properties = FlatFrontMatterParser.parse(frontmatter);
+            if (properties != null) {
+                return properties;
             }
 
-            // publish
-            if(!isPublish(yamlMap.get("publish"))) {
-                return new MarkdownProperties();
-            }
+            return getPropertiesWithYaml(frontmatter);
+        } else {
+            return new MarkdownProperties();
+        }
+    }
 
-            String title = getTitle(yamlMap);
-            LocalDate date = getDate(yamlMap);
-            String description = getDescription(yamlMap);
-            String thumbnailUrl = getThumbnailUrl(yamlMap);
-            String path = getPath(yamlMap);
+    /**
+     * SnakeYAML 로 머리말 전체를 파싱하여 속성 생성
+     * @param frontmatter 비어 있지 않은 머리말
+     * @return 마크다운 속성
+     */
+    MarkdownProperties getPropertiesWithYaml(String frontmatter) {
+        Map<String, Object> yamlMap;
+
+        try {
+            yamlMap = load(frontmatter);
+        } catch (YAMLException e) {
+            return new MarkdownProperties();
+        }
 
-            return new MarkdownProperties(true, title, date, description, thumbnailUrl, path);
-        } else {
+        // publish
+        if(!isPublish(yamlMap.get("publish"))) {
             return new MarkdownProperties();
         }
+
+        String title = getTitle(yamlMap);
+        LocalDate date = getDate(yamlMap);
+        String description = getDescription(yamlMap);
+        String thumbnailUrl = getThumbnailUrl(yamlMap);
+        String path = getPath(yamlMap);
+
+        return new MarkdownProperties(true, title, date, description, thumbnailUrl, path);
+    }
+
+    /**
+     * 풀에서 Yaml 인스턴스를 빌려 머리말을 파싱한 뒤 반납
+     * 동시에 파싱하는 스레드 수만큼만 인스턴스가 만들어지며, 한 인스턴스를 두 스레드가 함께 쓰지 않는다.
+     */
+    private Map<String, Object> load(String frontmatter) {
+        Yaml yaml = yamlPool.poll();
+        if (yaml == null) {
+            yaml = new Yaml();
+        }
+
+        try {
+            return yaml.load(frontmatter);
+        } finally {
+            yamlPool.offer(yaml);
+        }
     }
 
     private boolean isPublish(Object obj) {
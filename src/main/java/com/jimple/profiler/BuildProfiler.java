@@ -0,0 +1,451 @@
+package com.jimple.profiler;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 빌드 단계별 소요 시간과 페이지별 렌더링 시간/기록 바이트/할당량을 수집하는 프로파일러
+ * <p>
+ * 단계(phase)는 메인 스레드에서 차례로 실행되는 큰 구간(탐색, 수집, 목록 JSON 등)의 경과 시간이고,
+ * 작업(stage)은 여러 스레드에서 실행되는 세부 작업(변환, 템플릿, 정리, 쓰기)의 스레드별 시간 합계이다.
+ * 작업은 중첩될 수 있으며 안쪽 작업을 실행하는 동안에는 바깥 작업의 시간을 세지 않으므로,
+ * 스트리밍 렌더링처럼 변환/정리/쓰기가 섞여 실행되어도 각 작업의 순수 시간을 구할 수 있다.
+ * <p>
+ * 비활성 프로파일러({@link #disabled()})는 시간을 재지 않고 아무것도 기록하지 않는다.
+ * 단계는 활성 여부와 관계없이 {@link BuildStageEvent} 로도 기록하므로, 프로파일을 켜지 않아도 JFR 로 볼 수 있다.
+ * 여러 스레드에서 동시에 사용해도 안전하다.
+ */
+public final class BuildProfiler {
+    private static final BuildProfiler DISABLED = new BuildProfiler(false);
+
+    /**
+     * 세부 작업 종류
+     */
+    public enum Stage {
+        CONVERSION("conversion"),
+        TEMPLATING("templating"),
+        FORMATTING("formatting"),
+        WRITING("writing");
+
+        private final String label;
+
+        Stage(String label) {
+            this.label = label;
+        }
+
+        public String label() {
+            return label;
+        }
+    }
+
+    /**
+     * 결과를 돌려주는 측정 대상 작업
+     */
+    @FunctionalInterface
+    public interface Work<T, E extends Exception> {
+        T run() throws E;
+    }
+
+    /**
+     * 결과가 없는 측정 대상 작업
+     */
+    @FunctionalInterface
+    public interface Action<E extends Exception> {
+        void run() throws E;
+    }
+
+    private final boolean enabled;
+    private final long startNanos = System.nanoTime();
+    private final com.sun.management.ThreadMXBean allocationBean;
+    private final Map<String, Long> phases = new LinkedHashMap<>();
+    private final Map<Stage, LongAdder> stageNanos = new EnumMap<>(Stage.class);
+    private final Map<Stage, LongAdder> stageCounts = new EnumMap<>(Stage.class);
+    private final LongAdder bytesWritten = new LongAdder();
+    private final ConcurrentLinkedQueue<BuildReport.Page> pages = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<ThreadState> threadState = ThreadLocal.withInitial(ThreadState::new);
+
+    private BuildProfiler(boolean enabled) {
+        this.enabled = enabled;
+        this.allocationBean = enabled ? findAllocationBean() : null;
+        for (Stage stage : Stage.values()) {
+            stageNanos.put(stage, new LongAdder());
+            stageCounts.put(stage, new LongAdder());
+        }
+    }
+
+    /**
+     * 측정을 시작하는 프로파일러 생성 (생성 시각부터 전체 시간을 잼)
+     */
+    public static BuildProfiler create() {
+        return new BuildProfiler(true);
+    }
+
+    /**
+     * 아무것도 측정하지 않는 프로파일러
+     */
+    public static BuildProfiler disabled() {
+        return DISABLED;
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /**
+     * 메인 스레드에서 실행되는 단계의 경과 시간 측정 (같은 이름이면 시간을 더함)
+     * @param name 단계 이름 (예: discovery)
+     * @param work 실행할 작업
+     * @return 작업 결과
+     */
+    public <T> T phase(String name, Supplier<T> work) {
+        BuildStageEvent event = new BuildStageEvent();
+        event.begin();
+        long start = enabled ? System.nanoTime() : 0;
+        try {
+            return work.get();
+        } finally {
+            if (enabled) {
+                long elapsed = System.nanoTime() - start;
+                synchronized (phases) {
+                    phases.merge(name, elapsed, Long::sum);
+                }
+            }
+            if (event.shouldCommit()) {
+                event.stage = name;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * 결과가 없는 단계의 경과 시간 측정
+     * @param name 단계 이름
+     * @param work 실행할 작업
+     */
+    public void phase(String name, Runnable work) {
+        phase(name, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * 현재 스레드에서 세부 작업 하나의 시간 측정 (실행 중인 바깥 작업은 이 작업이 끝날 때까지 멈춤)
+     * @param stage 작업 종류
+     * @param work 실행할 작업
+     * @return 작업 결과
+     */
+    public <T, E extends Exception> T time(Stage stage, Work<T, E> work) throws E {
+        return timer(stage).time(work);
+    }
+
+    /**
+     * 결과가 없는 세부 작업 하나의 시간 측정
+     * @param stage 작업 종류
+     * @param action 실행할 작업
+     */
+    public <E extends Exception> void time(Stage stage, Action<E> action) throws E {
+        timer(stage).time(action);
+    }
+
+    /**
+     * 여러 번 나누어 실행되는 세부 작업의 측정기 생성
+     * 작업 횟수는 측정기를 만들 때 한 번만 세므로, 한 페이지나 파일에 대한 작업을 잘게 나누어 재도 한 번으로 기록된다.
+     * @param stage 작업 종류
+     * @return 작업 측정기
+     */
+    public Timer timer(Stage stage) {
+        if (!enabled) {
+            return new Timer(null);
+        }
+
+        stageCounts.get(stage).increment();
+        return new Timer(stage);
+    }
+
+    /**
+     * 현재 스레드에서 페이지 하나의 렌더링 시간 측정
+     * 작업 중 다른 작업에 속하지 않는 시간은 템플릿 처리 시간으로 기록하고,
+     * 끝나면 페이지의 전체 시간, 기록한 바이트 수, 할당한 바이트 수를 기록한다.
+     * @param path 페이지 출력 경로
+     * @param action 페이지를 렌더링하는 작업
+     */
+    public <E extends Exception> void page(String path, Action<E> action) throws E {
+        if (!enabled) {
+            action.run();
+            return;
+        }
+
+        ThreadState state = threadState.get();
+        PageState previous = state.page;
+        PageState page = new PageState(path, System.nanoTime(), allocatedBytes());
+        state.page = page;
+        stageCounts.get(Stage.TEMPLATING).increment();
+        state.push(Stage.TEMPLATING);
+        try {
+            action.run();
+        } finally {
+            state.pop();
+            state.page = previous;
+
+            long allocationStart = page.allocationStart;
+            long allocationEnd = allocatedBytes();
+            pages.add(new BuildReport.Page(
+                    path,
+                    toMillis(System.nanoTime() - page.startNanos),
+                    page.bytes,
+                    allocationStart < 0 || allocationEnd < 0 ? -1 : allocationEnd - allocationStart
+            ));
+        }
+    }
+
+    /**
+     * 기록한 바이트 수 추가 (페이지 구간 안이면 해당 페이지에도 더함)
+     */
+    public void addBytesWritten(long bytes) {
+        if (!enabled) {
+            return;
+        }
+
+        bytesWritten.add(bytes);
+        PageState page = threadState.get().page;
+        if (page != null) {
+            page.bytes += bytes;
+        }
+    }
+
+    /**
+     * 지금까지 수집한 결과로 보고서 생성
+     * @param slowestCount 가장 느린 페이지 목록에 포함할 페이지 수
+     * @return 빌드 보고서
+     */
+    public BuildReport report(int slowestCount) {
+        Map<String, Double> phaseMillis = new LinkedHashMap<>();
+        synchronized (phases) {
+            phases.forEach((name, nanos) -> phaseMillis.put(name, toMillis(nanos)));
+        }
+
+        Map<String, BuildReport.StageTotal> stages = new LinkedHashMap<>();
+        for (Stage stage : Stage.values()) {
+            stages.put(stage.label(), new BuildReport.StageTotal(
+                    toMillis(stageNanos.get(stage).sum()), stageCounts.get(stage).sum()));
+        }
+
+        List<BuildReport.Page> allPages = new ArrayList<>(pages);
+        allPages.sort(Comparator.comparing(BuildReport.Page::path));
+        List<BuildReport.Page> slowest = allPages.stream()
+                .sorted(Comparator.comparingDouble(BuildReport.Page::millis).reversed())
+                .limit(slowestCount)
+                .toList();
+
+        long allocated = allocationBean == null ? -1
+                : allPages.stream().mapToLong(BuildReport.Page::allocatedBytes).filter(bytes -> bytes >= 0).sum();
+
+        return new BuildReport(
+                toMillis(System.nanoTime() - startNanos),
+                allPages.size(),
+                bytesWritten.sum(),
+                allocated,
+                phaseMillis,
+                stages,
+                slowest,
+                allPages
+        );
+    }
+
+    private long allocatedBytes() {
+        // 가상 스레드 등 지원하지 않는 스레드는 -1
+        return allocationBean == null ? -1 : allocationBean.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean findAllocationBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean allocationBean
+                && allocationBean.isThreadAllocatedMemorySupported()) {
+            if (!allocationBean.isThreadAllocatedMemoryEnabled()) {
+                allocationBean.setThreadAllocatedMemoryEnabled(true);
+            }
+            return allocationBean;
+        }
+        return null;
+    }
+
+    private static double toMillis(long nanos) {
+        // 소수점 셋째 자리까지
+        return Math.round(nanos / (double) TimeUnit.MILLISECONDS.toNanos(1) * 1000) / 1000.0;
+    }
+
+    /**
+     * 스레드별 작업 스택 (가장 안쪽 작업만 시간이 흐름)
+     */
+    private final class ThreadState {
+        private Stage[] stack = new Stage[8];
+        private int depth;
+        private long lastSwitch;
+        private PageState page;
+
+        void push(Stage stage) {
+            long now = System.nanoTime();
+            if (depth > 0) {
+                stageNanos.get(stack[depth - 1]).add(now - lastSwitch);
+            }
+            if (depth == stack.length) {
+                stack = Arrays.copyOf(stack, depth * 2);
+            }
+            stack[depth++] = stage;
+            lastSwitch = now;
+        }
+
+        void pop() {
+            long now = System.nanoTime();
+            stageNanos.get(stack[--depth]).add(now - lastSwitch);
+            lastSwitch = now;
+        }
+    }
+
+    /**
+     * 한 종류의 세부 작업을 재는 측정기 (비활성 프로파일러의 측정기는 작업만 실행함)
+     */
+    public final class Timer {
+        private final Stage stage;
+
+        private Timer(Stage stage) {
+            this.stage = stage;
+        }
+
+        /**
+         * 작업 하나의 시간 측정 (작업 횟수는 더하지 않음)
+         * @param work 실행할 작업
+         * @return 작업 결과
+         */
+        public <T, E extends Exception> T time(Work<T, E> work) throws E {
+            if (stage == null) {
+                return work.run();
+            }
+
+            ThreadState state = threadState.get();
+            state.push(stage);
+            try {
+                return work.run();
+            } finally {
+                state.pop();
+            }
+        }
+
+        /**
+         * 결과가 없는 작업 하나의 시간 측정 (작업 횟수는 더하지 않음)
+         * @param action 실행할 작업
+         */
+        public <E extends Exception> void time(Action<E> action) throws E {
+            time(() -> {
+                action.run();
+                return null;
+            });
+        }
+
+        /**
+         * 출력 대상에 기록하는 시간을 재는 Writer 반환
+         * 글자 단위로 기록하는 출력에서 측정 비용이 측정할 작업보다 커지지 않도록,
+         * 기록을 버퍼에 모았다가 버퍼가 차거나 flush 할 때만 출력 대상에 넘기면서 시간을 잰다.
+         * 다 기록한 뒤에는 flush 해야 남은 내용이 출력 대상에 넘어간다.
+         * @param out 감쌀 출력 대상
+         * @return 비활성이면 버퍼 없이 out 에 바로 넘기는 Writer
+         */
+        public Writer timed(Appendable out) {
+            Writer writer = new AppendableWriter(out);
+            return stage == null ? writer : new BufferedWriter(writer);
+        }
+
+        /**
+         * Appendable 에 넘기는 Writer (활성 측정기이면 넘기는 시간을 잼)
+         */
+        private final class AppendableWriter extends Writer {
+            private final Appendable out;
+
+            AppendableWriter(Appendable out) {
+                this.out = out;
+            }
+
+            @Override
+            public void write(char[] buffer, int offset, int length) throws IOException {
+                // 버퍼는 다시 쓰이므로 복사본을 넘김
+                append(new String(buffer, offset, length));
+            }
+
+            @Override
+            public void write(int c) throws IOException {
+                append((char) c);
+            }
+
+            @Override
+            public void write(String text, int offset, int length) throws IOException {
+                append(text, offset, offset + length);
+            }
+
+            @Override
+            public Writer append(CharSequence csq) throws IOException {
+                if (stage == null) {
+                    out.append(csq);
+                } else {
+                    time(() -> out.append(csq));
+                }
+                return this;
+            }
+
+            @Override
+            public Writer append(CharSequence csq, int start, int end) throws IOException {
+                if (stage == null) {
+                    out.append(csq, start, end);
+                } else {
+                    time(() -> out.append(csq, start, end));
+                }
+                return this;
+            }
+
+            @Override
+            public Writer append(char c) throws IOException {
+                if (stage == null) {
+                    out.append(c);
+                } else {
+                    time(() -> out.append(c));
+                }
+                return this;
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        }
+    }
+
+    private static final class PageState {
+        private final String path;
+        private final long startNanos;
+        private final long allocationStart;
+        private long bytes;
+
+        PageState(String path, long startNanos, long allocationStart) {
+            this.path = path;
+            this.startNanos = startNanos;
+            this.allocationStart = allocationStart;
+        }
+    }
+}
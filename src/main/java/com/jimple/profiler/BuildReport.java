@@ -0,0 +1,68 @@
+package com.jimple.profiler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 빌드 프로파일 결과 (build-report.json 으로 저장)
+ * 시간은 밀리초, 할당량은 바이트이며 측정할 수 없는 할당량은 -1 이다.
+ * @param totalMillis 프로파일러 생성부터 보고서 생성까지의 경과 시간
+ * @param pageCount 렌더링한 페이지 수 (증분 빌드에서 건너뛴 페이지 제외)
+ * @param bytesWritten 결과 파일에 기록한 전체 바이트 수 (에셋, 목록/카테고리 JSON 포함)
+ * @param allocatedBytes 페이지 렌더링 중 할당한 바이트 합계
+ * @param phases 메인 스레드 단계별 경과 시간 (실행 순서)
+ * @param stages 세부 작업별 스레드 시간 합계 (병렬 빌드에서는 경과 시간보다 클 수 있음)
+ * @param slowestPages 렌더링 시간이 가장 긴 페이지 목록
+ * @param pages 전체 페이지 목록 (경로순)
+ */
+public record BuildReport(
+        double totalMillis,
+        int pageCount,
+        long bytesWritten,
+        long allocatedBytes,
+        Map<String, Double> phases,
+        Map<String, StageTotal> stages,
+        List<Page> slowestPages,
+        List<Page> pages
+) {
+    public static final String DEFAULT_FILE_NAME = "build-report.json";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * 보고서를 JSON 파일로 저장
+     * @param file 저장할 파일
+     * @throws IOException 저장 실패 시
+     */
+    public void write(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        MAPPER.writeValue(file.toFile(), this);
+    }
+
+    /**
+     * 세부 작업의 시간 합계
+     * @param millis 스레드 시간 합계
+     * @param count 구간 수
+     */
+    public record StageTotal(double millis, long count) {
+    }
+
+    /**
+     * 페이지 하나의 렌더링 결과
+     * @param path 출력 경로
+     * @param millis 렌더링부터 저장까지의 시간
+     * @param bytes 기록한 바이트 수
+     * @param allocatedBytes 렌더링 중 할당한 바이트 수 (측정할 수 없으면 -1)
+     */
+    public record Page(String path, double millis, long bytes, long allocatedBytes) {
+    }
+}
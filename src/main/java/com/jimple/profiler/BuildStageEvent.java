@@ -0,0 +1,21 @@
+package com.jimple.profiler;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 빌드 단계 하나의 실행 구간을 기록하는 JFR 이벤트
+ */
+@Name("com.jimple.BuildStage")
+@Label("Build Stage")
+@Category({"Jimple", "Build"})
+@Description("A top-level build phase such as discovery, collection or page rendering")
+@StackTrace(false)
+public class BuildStageEvent extends Event {
+    @Label("Stage")
+    public String stage;
+}
@@ -0,0 +1,30 @@
+package com.jimple.profiler;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 결과 파일 하나의 저장을 기록하는 JFR 이벤트
+ */
+@Name("com.jimple.FileWrite")
+@Label("File Write")
+@Category({"Jimple", "Output"})
+@Description("Saving one generated file to the result directory")
+@StackTrace(false)
+public class FileWriteEvent extends Event {
+    @Label("Path")
+    public String path;
+
+    @Label("Size")
+    @DataAmount(DataAmount.BYTES)
+    public long bytes;
+
+    @Label("Changed")
+    @Description("False when the contents matched the existing file and nothing was written")
+    public boolean changed;
+}
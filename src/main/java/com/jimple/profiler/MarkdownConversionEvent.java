@@ -0,0 +1,28 @@
+package com.jimple.profiler;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 본문 하나의 마크다운 변환을 기록하는 JFR 이벤트 (캐시에서 찾은 결과 포함)
+ */
+@Name("com.jimple.MarkdownConversion")
+@Label("Markdown Conversion")
+@Category({"Jimple", "Rendering"})
+@Description("Converting one markdown body to HTML")
+@StackTrace(false)
+public class MarkdownConversionEvent extends Event {
+    @Label("Markdown Length")
+    public long markdownChars;
+
+    @Label("HTML Length")
+    @Description("Characters of HTML produced, -1 when streamed to the output")
+    public long htmlChars;
+
+    @Label("Cache Hit")
+    public boolean cacheHit;
+}
@@ -0,0 +1,28 @@
+package com.jimple.profiler;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 마크다운 파일 하나의 머리말 확인과 본문 읽기를 기록하는 JFR 이벤트
+ */
+@Name("com.jimple.MarkdownRead")
+@Label("Markdown Read")
+@Category({"Jimple", "Collection"})
+@Description("Reading the front matter and, for published posts, the body of one markdown file")
+@StackTrace(false)
+public class MarkdownReadEvent extends Event {
+    @Label("Path")
+    public String path;
+
+    @Label("Published")
+    public boolean published;
+
+    @Label("Content Length")
+    @Description("Characters in the body, 0 for drafts")
+    public long contentChars;
+}
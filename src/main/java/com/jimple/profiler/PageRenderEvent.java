@@ -0,0 +1,28 @@
+package com.jimple.profiler;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 페이지 하나의 렌더링과 저장을 기록하는 JFR 이벤트
+ */
+@Name("com.jimple.PageRender")
+@Label("Page Render")
+@Category({"Jimple", "Rendering"})
+@Description("Rendering and saving one HTML page")
+@StackTrace(false)
+public class PageRenderEvent extends Event {
+    @Label("Path")
+    public String path;
+
+    @Label("Output Format")
+    public String outputFormat;
+
+    @Label("Up To Date")
+    @Description("The page was skipped because the previous incremental build is still valid")
+    public boolean cacheHit;
+}
@@ -0,0 +1,29 @@
+package com.jimple.profiler;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 템플릿 하나의 렌더링을 기록하는 JFR 이벤트
+ */
+@Name("com.jimple.TemplateRender")
+@Label("Template Render")
+@Category({"Jimple", "Rendering"})
+@Description("Applying data to one compiled template")
+@StackTrace(false)
+public class TemplateRenderEvent extends Event {
+    @Label("Template Length")
+    public long templateChars;
+
+    @Label("Output Length")
+    @Description("Characters produced, -1 when streamed to the output")
+    public long outputChars;
+
+    @Label("Compile Cache Hit")
+    @Description("Template compiled once when loaded, false when compiled for this render")
+    public boolean cacheHit;
+}
@@ -0,0 +1,259 @@
+package com.jimple.server;
+
+import com.jimple.manager.MemorySiteOutput;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메모리에 생성된 사이트를 제공하는 개발 서버
+ * 요청마다 가상 스레드에서 처리하며, HTML 응답에는 Server-Sent Events 로 새로고침 알림을 받는 스크립트를 넣는다.
+ * 사이트가 다시 생성되면 {@link #notifyReload()} 를 호출하여 연결된 브라우저를 새로고침한다.
+ * 내용을 생성하는 중 오류가 발생하면 500 으로 응답한다.
+ */
+public class DevServer implements AutoCloseable {
+    public static final String LIVE_RELOAD_PATH = "/__jimple/livereload";
+
+    private static final String RELOAD_EVENT = "reload";
+    private static final long KEEP_ALIVE_SECONDS = 15;
+    private static final String LIVE_RELOAD_SCRIPT =
+            "<script>new EventSource('" + LIVE_RELOAD_PATH + "').onmessage = () => location.reload();</script>";
+
+    private static final Map<String, String> CONTENT_TYPES = Map.ofEntries(
+            Map.entry("html", "text/html; charset=utf-8"),
+            Map.entry("css", "text/css; charset=utf-8"),
+            Map.entry("js", "text/javascript; charset=utf-8"),
+            Map.entry("json", "application/json; charset=utf-8"),
+            Map.entry("svg", "image/svg+xml"),
+            Map.entry("png", "image/png"),
+            Map.entry("jpg", "image/jpeg"),
+            Map.entry("jpeg", "image/jpeg"),
+            Map.entry("gif", "image/gif"),
+            Map.entry("webp", "image/webp"),
+            Map.entry("ico", "image/x-icon"),
+            Map.entry("woff2", "font/woff2"),
+            Map.entry("txt", "text/plain; charset=utf-8"),
+            Map.entry("xml", "application/xml; charset=utf-8")
+    );
+
+    private final SiteContent site;
+    private final boolean liveReload;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    // 연결된 브라우저마다 보낼 이벤트 큐
+    private final Set<BlockingQueue<String>> clients = ConcurrentHashMap.newKeySet();
+    private volatile boolean running;
+
+    /**
+     * @param site 제공할 사이트
+     * @param address 바인딩할 주소 (포트가 0 이면 임의의 빈 포트 사용)
+     * @throws IOException 주소에 바인딩할 수 없는 경우
+     */
+    public DevServer(MemorySiteOutput site, InetSocketAddress address) throws IOException {
+        this(site::get, address, true);
+    }
+
+    /**
+     * @param site 제공할 사이트 내용
+     * @param address 바인딩할 주소 (포트가 0 이면 임의의 빈 포트 사용)
+     * @param liveReload HTML 응답에 새로고침 스크립트를 넣을지 여부 (변경을 감시하지 않으면 false)
+     * @throws IOException 주소에 바인딩할 수 없는 경우
+     */
+    public DevServer(SiteContent site, InetSocketAddress address, boolean liveReload) throws IOException {
+        this.site = site;
+        this.liveReload = liveReload;
+        this.server = HttpServer.create(address, 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        server.setExecutor(executor);
+        server.createContext(LIVE_RELOAD_PATH, this::handleLiveReload);
+        server.createContext("/", this::handleFile);
+    }
+
+    public void start() {
+        running = true;
+        server.start();
+    }
+
+    /**
+     * 실제로 바인딩된 포트
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * 연결된 모든 브라우저에 새로고침 알림 전송
+     */
+    public void notifyReload() {
+        for (BlockingQueue<String> client : clients) {
+            client.offer(RELOAD_EVENT);
+        }
+    }
+
+    /**
+     * 연결된 브라우저 수
+     */
+    public int clientCount() {
+        return clients.size();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        // 이벤트를 기다리는 연결을 깨워 종료
+        for (BlockingQueue<String> client : clients) {
+            client.offer("");
+        }
+        server.stop(0);
+        executor.close();
+    }
+
+    private void handleFile(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            if (!method.equals("GET") && !method.equals("HEAD")) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                sendText(exchange, 405, "405 Method Not Allowed");
+                return;
+            }
+
+            String path = resolvePath(exchange.getRequestURI().getPath());
+            byte[] body;
+            try {
+                body = path == null ? null : site.get(path);
+                if (body == null && path != null && extension(path).isEmpty()) {
+                    // 확장자가 없는 경로는 같은 이름의 .html 파일로 찾음
+                    path = path + ".html";
+                    body = site.get(path);
+                }
+            } catch (RuntimeException e) {
+                System.err.println("페이지를 생성할 수 없습니다: " + path + " (" + e.getMessage() + ")");
+                sendText(exchange, 500, "500 Internal Server Error: " + exchange.getRequestURI().getPath());
+                return;
+            }
+            if (body == null) {
+                sendText(exchange, 404, "404 Not Found: " + exchange.getRequestURI().getPath());
+                return;
+            }
+
+            String extension = extension(path);
+            if (liveReload && extension.equals("html")) {
+                body = injectLiveReload(body);
+            }
+
+            exchange.getResponseHeaders().set("Content-Type",
+                    CONTENT_TYPES.getOrDefault(extension, "application/octet-stream"));
+            exchange.getResponseHeaders().set("Cache-Control", "no-store");
+            send(exchange, 200, body);
+        }
+    }
+
+    /**
+     * 브라우저와 연결을 유지하며 새로고침 알림을 SSE 로 전송
+     * 알림이 없는 동안에는 주석 줄을 주기적으로 보내 끊어진 연결을 감지한다.
+     */
+    private void handleLiveReload(HttpExchange exchange) throws IOException {
+        BlockingQueue<String> events = new LinkedBlockingQueue<>();
+
+        try (exchange) {
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            exchange.sendResponseHeaders(200, 0);
+
+            OutputStream body = exchange.getResponseBody();
+            clients.add(events);
+            writeEvent(body, "retry: 1000\n\n");
+
+            while (running) {
+                String event = events.poll(KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+                if (!running) {
+                    break;
+                }
+                writeEvent(body, event == null ? ": ping\n\n" : "data: " + event + "\n\n");
+            }
+        } catch (IOException e) {
+            // 브라우저가 연결을 닫은 경우
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            clients.remove(events);
+        }
+    }
+
+    /**
+     * 요청 경로를 사이트 루트 기준 경로로 변환
+     * 디렉토리 경로는 index.html 로 찾는다.
+     * @return 사이트 경로, 사이트 밖을 가리키면 null
+     */
+    private String resolvePath(String requestPath) {
+        String path = requestPath == null ? "" : requestPath;
+        while (path.startsWith("/")) {
+            path = path.substring(1);
+        }
+
+        for (String segment : path.split("/")) {
+            if (segment.equals("..")) {
+                return null;
+            }
+        }
+
+        if (path.isEmpty() || path.endsWith("/")) {
+            return path + "index.html";
+        }
+        return path;
+    }
+
+    /**
+     * 마지막 </body> 앞에 새로고침 스크립트 삽입 (없으면 끝에 추가)
+     */
+    private static byte[] injectLiveReload(byte[] body) {
+        String html = new String(body, StandardCharsets.UTF_8);
+        int bodyEnd = html.toLowerCase(Locale.ROOT).lastIndexOf("</body>");
+
+        String injected = bodyEnd < 0
+                ? html + LIVE_RELOAD_SCRIPT
+                : html.substring(0, bodyEnd) + LIVE_RELOAD_SCRIPT + html.substring(bodyEnd);
+        return injected.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String extension(String path) {
+        int slash = path.lastIndexOf('/');
+        int dot = path.lastIndexOf('.');
+        return dot > slash ? path.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+    }
+
+    private static void sendText(HttpExchange exchange, int status, String text) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        send(exchange, status, text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        if (exchange.getRequestMethod().equals("HEAD")) {
+            exchange.getResponseHeaders().set("Content-Length", String.valueOf(body.length));
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    private static void writeEvent(OutputStream body, String event) throws IOException {
+        body.write(event.getBytes(StandardCharsets.UTF_8));
+        body.flush();
+    }
+}
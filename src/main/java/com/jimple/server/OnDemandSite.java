@@ -0,0 +1,224 @@
+package com.jimple.server;
+
+import com.jimple.collector.MarkdownFileMapper;
+import com.jimple.finder.MarkdownFinder;
+import com.jimple.generator.MarkdownGenerator;
+import com.jimple.generator.formatter.HtmlFormatter;
+import com.jimple.generator.json.PageJsonWriter;
+import com.jimple.manager.ResultManager;
+import com.jimple.model.build.BuildOptions;
+import com.jimple.model.build.OutputFormat;
+import com.jimple.model.category.CategoryIndex;
+import com.jimple.model.category.CategoryPage;
+import com.jimple.model.generator.GenerateType;
+import com.jimple.model.list.PostPage;
+import com.jimple.model.md.MarkdownFile;
+import com.jimple.model.md.MarkdownProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 미리 렌더링하지 않고 요청받은 페이지만 생성하는 사이트
+ * 시작할 때는 모든 마크다운 파일의 머리말만 읽어 게시글 목록과 카테고리 인덱스를 만들고,
+ * 게시글 HTML 은 처음 요청될 때 원본 파일을 읽어 렌더링한 뒤 {@link PageCache} 에 보관한다.
+ * 목록/카테고리 JSON 도 메모리 인덱스로 요청 시점에 생성하므로, 시작 시간과 메모리 사용량이
+ * 전체 게시글 수가 아니라 실제로 요청된 페이지 수에 비례한다.
+ * <p>
+ * 생성되는 내용은 {@link ResultManager} 가 결과 디렉토리에 저장하는 내용과 같다.
+ * 인덱스는 시작 시점의 머리말 기준이며 파일 변경을 감시하지 않는다.
+ * 같은 페이지에 대한 첫 요청이 동시에 들어오면 중복 렌더링될 수 있지만 결과는 같다.
+ */
+public class OnDemandSite implements SiteContent {
+    private static final String MAIN_PAGE = "index.html";
+    private static final String LIST_PAGE = "list.html";
+    private static final String ARCHIVE_PAGE = "archive.html";
+
+    private final MarkdownFileMapper mapper;
+    private final MarkdownGenerator generator;
+    private final OutputFormat format;
+    private final PageCache cache;
+
+    // 게시일 역순으로 정렬된 게시글 (본문 없이 머리말과 경로만 보관)
+    private final List<MarkdownFile> published;
+    // 게시글 HTML 경로 -> 원본 마크다운 파일 (같은 경로는 마지막 파일이 사용됨)
+    private final Map<String, Path> sources;
+    // 메인 페이지에 노출할 최신 게시글의 원본 파일 (게시글이 없으면 null)
+    private final Path latestSource;
+    private final CategoryIndex categoryIndex;
+    private final int categoryPageSize;
+    // 카테고리 JSON 파일명 -> 카테고리 전체 경로와 페이지 번호
+    private final Map<String, CategoryFile> categoryFiles;
+
+    private OnDemandSite(MarkdownFileMapper mapper, MarkdownGenerator generator, OutputFormat format, PageCache cache,
+                         int categoryPageSize, List<MarkdownFile> published, Map<String, Path> sources,
+                         Path latestSource) {
+        this.mapper = mapper;
+        this.generator = generator;
+        this.format = format;
+        this.cache = cache;
+        this.published = published;
+        this.sources = sources;
+        this.latestSource = latestSource;
+        this.categoryIndex = CategoryIndex.build(published);
+        this.categoryPageSize = categoryPageSize;
+
+        this.categoryFiles = HashMap.newHashMap(categoryIndex.size());
+        addCategoryFiles("");
+        for (String categoryPath : categoryIndex.paths()) {
+            addCategoryFiles(categoryPath);
+        }
+    }
+
+    /**
+     * 소스 디렉토리의 머리말만 읽어 사이트 인덱스 생성 (본문은 읽지 않음)
+     * @param sourceDir 마크다운 소스 디렉토리
+     * @param finder 마크다운 파일 탐색기
+     * @param mapper 마크다운 파일 매퍼
+     * @param generator HTML 생성기
+     * @param format HTML 출력 형식
+     * @param cache 렌더링 결과를 보관할 캐시
+     * @return 요청 시점에 렌더링하는 사이트
+     */
+    public static OnDemandSite index(Path sourceDir, MarkdownFinder finder, MarkdownFileMapper mapper,
+                                     MarkdownGenerator generator, OutputFormat format, PageCache cache) {
+        return index(sourceDir, finder, mapper, generator, format, BuildOptions.DEFAULT_CATEGORY_PAGE_SIZE, cache);
+    }
+
+    /**
+     * 카테고리 JSON 페이지 크기를 지정하여 사이트 인덱스 생성
+     * @param categoryPageSize 카테고리 JSON 한 페이지의 게시글 수 (0 이면 페이지를 나누지 않음)
+     */
+    public static OnDemandSite index(Path sourceDir, MarkdownFinder finder, MarkdownFileMapper mapper,
+                                     MarkdownGenerator generator, OutputFormat format, int categoryPageSize,
+                                     PageCache cache) {
+        List<MarkdownFile> entries = new ArrayList<>();
+        Map<MarkdownFile, Path> sourceOf = new IdentityHashMap<>();
+
+        for (Path path : finder.findAll(sourceDir)) {
+            MarkdownProperties properties = mapper.readProperties(path);
+            if (!properties.publish()) {
+                continue;
+            }
+
+            MarkdownFile entry = new MarkdownFile(properties, "", MarkdownFileMapper.outputPath(properties));
+            entries.add(entry);
+            sourceOf.put(entry, path);
+        }
+
+        List<MarkdownFile> published = mapper.selectPublished(entries);
+        Map<String, Path> sources = HashMap.newHashMap(published.size());
+        for (MarkdownFile entry : published) {
+            sources.put(entry.path(), sourceOf.get(entry));
+        }
+
+        Path latestSource = published.isEmpty() ? null : sourceOf.get(published.getFirst());
+        return new OnDemandSite(mapper, generator, format, cache, categoryPageSize, List.copyOf(published), sources,
+                latestSource);
+    }
+
+    @Override
+    public byte[] get(String path) {
+        byte[] cached = cache.get(path);
+        if (cached != null) {
+            return cached;
+        }
+
+        String contents = render(path);
+        if (contents == null) {
+            return null;
+        }
+
+        byte[] bytes = contents.getBytes(StandardCharsets.UTF_8);
+        cache.put(path, bytes);
+        return bytes;
+    }
+
+    /**
+     * 인덱스에 있는 게시글 수
+     */
+    public int postCount() {
+        return published.size();
+    }
+
+    /**
+     * 경로에 해당하는 페이지 생성
+     * @return 페이지 내용, 사이트에 없는 경로이면 null
+     */
+    private String render(String path) {
+        // 결과 디렉토리와 같이 메인/목록/아카이브 페이지가 같은 이름의 게시글보다 우선
+        switch (path) {
+            case MAIN_PAGE -> {
+                MarkdownFile mainPage = syntheticPage("index", MAIN_PAGE);
+                MarkdownFile latestFile = latestSource == null ? mainPage : mapper.generateMarkdownFile(latestSource);
+                return formatHtml(generator.generateMainPage(mainPage, latestFile));
+            }
+            case LIST_PAGE -> {
+                return formatHtml(generator.generateToHtml(syntheticPage("list", LIST_PAGE), GenerateType.LIST));
+            }
+            case ARCHIVE_PAGE -> {
+                return formatHtml(generator.generateArchivePage(syntheticPage("archive", ARCHIVE_PAGE)));
+            }
+            default -> {
+            }
+        }
+
+        Path source = sources.get(path);
+        if (source != null) {
+            return formatHtml(generator.generateToHtml(mapper.generateMarkdownFile(source)));
+        }
+
+        if (path.startsWith("post-list-") && path.endsWith(".json")) {
+            return renderPostList(path);
+        }
+
+        CategoryFile categoryFile = categoryFiles.get(path);
+        if (categoryFile != null) {
+            return PageJsonWriter.categoryPage(categoryIndex.get(categoryFile.categoryPath()), categoryFile.page(),
+                    categoryPageSize);
+        }
+
+        return null;
+    }
+
+    private String renderPostList(String path) {
+        int page;
+        try {
+            page = Integer.parseInt(path.substring("post-list-".length(), path.length() - ".json".length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+
+        if (page < 1 || page > PostPage.lastPage(published.size()) || !PostPage.fileName(page).equals(path)) {
+            return null;
+        }
+        return PageJsonWriter.postPage(published, page);
+    }
+
+    /**
+     * 카테고리의 모든 페이지 JSON 파일명을 등록
+     */
+    private void addCategoryFiles(String categoryPath) {
+        int lastPage = CategoryPage.lastPage(categoryIndex.get(categoryPath).posts().size(), categoryPageSize);
+        for (int page = 1; page <= lastPage; page++) {
+            categoryFiles.put(CategoryPage.fileName(categoryPath, page), new CategoryFile(categoryPath, page));
+        }
+    }
+
+    private String formatHtml(String html) {
+        return HtmlFormatter.format(html, format);
+    }
+
+    private static MarkdownFile syntheticPage(String title, String path) {
+        return new MarkdownFile(new MarkdownProperties(true, title, LocalDate.now()), "", path);
+    }
+
+    private record CategoryFile(String categoryPath, int page) {
+    }
+}
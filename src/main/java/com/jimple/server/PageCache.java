@@ -0,0 +1,77 @@
+package com.jimple.server;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 렌더링된 페이지를 경로별로 보관하는 크기 제한 LRU 캐시
+ * 저장된 전체 크기가 최대 크기를 넘으면 가장 오래 사용하지 않은 페이지부터 버린다.
+ * 최대 크기보다 큰 페이지는 저장하지 않으며, 여러 스레드에서 동시에 사용해도 안전하다.
+ */
+public class PageCache {
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+    private final long maxBytes;
+    // 경로 -> 내용 (접근 순서이므로 첫 항목이 가장 오래 사용하지 않은 항목)
+    private final LinkedHashMap<String, byte[]> pages = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    /**
+     * @param maxBytes 저장할 최대 크기 (바이트)
+     */
+    public PageCache(long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be positive");
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * 저장된 페이지 조회
+     * 찾은 페이지는 가장 최근에 사용한 페이지가 된다.
+     * @param path 사이트 루트 기준 경로
+     * @return 저장된 내용, 없으면 null
+     */
+    public synchronized byte[] get(String path) {
+        return pages.get(path);
+    }
+
+    /**
+     * 페이지 저장
+     * @param path 사이트 루트 기준 경로
+     * @param contents 페이지 내용 (저장 후 수정하면 안 됨)
+     */
+    public synchronized void put(String path, byte[] contents) {
+        if (contents.length > maxBytes) {
+            return;
+        }
+
+        byte[] previous = pages.put(path, contents);
+        totalBytes += contents.length - (previous == null ? 0 : previous.length);
+
+        Iterator<Map.Entry<String, byte[]>> iterator = pages.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, byte[]> eldest = iterator.next();
+            if (eldest.getKey().equals(path)) {
+                continue;
+            }
+            totalBytes -= eldest.getValue().length;
+            iterator.remove();
+        }
+    }
+
+    /**
+     * 저장된 페이지 수
+     */
+    public synchronized int size() {
+        return pages.size();
+    }
+
+    /**
+     * 저장된 전체 크기 (바이트)
+     */
+    public synchronized long totalBytes() {
+        return totalBytes;
+    }
+}
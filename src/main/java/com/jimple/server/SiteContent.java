@@ -0,0 +1,17 @@
+package com.jimple.server;
+
+/**
+ * 개발 서버가 제공할 사이트 내용
+ * 미리 생성된 메모리 출력이나 요청 시점에 렌더링하는 사이트를 같은 방식으로 제공하기 위한 인터페이스
+ */
+@FunctionalInterface
+public interface SiteContent {
+    /**
+     * 사이트 루트 기준 경로의 내용 조회
+     * 반환된 배열은 수정하면 안 된다.
+     * @param path 사이트 루트 기준 경로 (예: index.html, post-list-1.json)
+     * @return 파일 내용, 없으면 null
+     * @throws RuntimeException 내용을 생성할 수 없는 경우
+     */
+    byte[] get(String path);
+}
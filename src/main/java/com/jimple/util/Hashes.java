@@ -0,0 +1,48 @@
+package com.jimple.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 콘텐츠 해시 계산 유틸리티 클래스
+ */
+public class Hashes {
+    private static final String ALGORITHM = "SHA-256";
+
+    // 유틸리티 클래스는 인스턴스화를 방지
+    private Hashes() {
+        throw new AssertionError("유틸리티 클래스는 인스턴스화할 수 없습니다");
+    }
+
+    /**
+     * 문자열의 SHA-256 해시를 16진수 문자열로 반환
+     * @param contents 해시할 문자열 (UTF-8)
+     * @return 16진수 해시 문자열
+     */
+    public static String sha256(String contents) {
+        return sha256(contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 바이트 배열의 SHA-256 해시를 16진수 문자열로 반환
+     * @param bytes 해시할 바이트 배열
+     * @return 16진수 해시 문자열
+     */
+    public static String sha256(byte[] bytes) {
+        return HexFormat.of().formatHex(newDigest().digest(bytes));
+    }
+
+    /**
+     * 새 SHA-256 MessageDigest 인스턴스 생성
+     * MessageDigest 는 스레드 안전하지 않으므로 호출마다 새로 생성한다.
+     */
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+}
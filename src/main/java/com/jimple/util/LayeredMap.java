@@ -0,0 +1,78 @@
+package com.jimple.util;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 공유되는 하위 맵 위에 값을 덧씌우는 2단 조회 맵
+ * 조회는 상위 계층을 먼저 확인하고 없으면 하위 계층을 확인하며,
+ * 변경(put/remove)은 상위 계층에만 반영되므로 하위 맵을 복사하지 않고 여러 곳에서 공유할 수 있다.
+ * <p>
+ * 하위 맵은 공유 중에 바뀌지 않아야 하며, 이 클래스 자체는 스레드 안전하지 않다.
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public class LayeredMap<K, V> extends AbstractMap<K, V> {
+    private final Map<K, V> base;
+    private final Map<K, V> overlay;
+
+    /**
+     * @param base 공유되는 하위 맵 (읽기 전용으로만 사용)
+     */
+    public LayeredMap(Map<K, V> base) {
+        this(base, 8);
+    }
+
+    /**
+     * @param base 공유되는 하위 맵 (읽기 전용으로만 사용)
+     * @param expectedSize 상위 계층에 넣을 것으로 예상되는 항목 수
+     */
+    public LayeredMap(Map<K, V> base, int expectedSize) {
+        this.base = base;
+        this.overlay = HashMap.newHashMap(expectedSize);
+    }
+
+    @Override
+    public V get(Object key) {
+        V value = overlay.get(key);
+        if (value != null || overlay.containsKey(key)) {
+            return value;
+        }
+        return base.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return overlay.containsKey(key) || base.containsKey(key);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        V previous = get(key);
+        overlay.put(key, value);
+        return previous;
+    }
+
+    /**
+     * 상위 계층의 값만 제거 (하위 계층에 같은 키가 있으면 그 값이 다시 보인다)
+     */
+    @Override
+    public V remove(Object key) {
+        return overlay.remove(key);
+    }
+
+    /**
+     * 두 계층을 합친 항목 집합
+     * 조회 경로가 아닌 디버깅/비교 용도이므로 호출할 때마다 합친 사본을 만든다.
+     */
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        Map<K, V> merged = new LinkedHashMap<>(base);
+        merged.putAll(overlay);
+        return Collections.unmodifiableSet(merged.entrySet());
+    }
+}
@@ -0,0 +1,212 @@
+package com.jimple.watcher;
+
+import com.jimple.collector.MarkdownFileMapper;
+import com.jimple.finder.MarkdownFinder;
+import com.jimple.manager.ResultManager;
+import com.jimple.model.md.MarkdownFile;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+/**
+ * 소스 디렉토리의 변경을 감지하여 영향을 받는 결과만 다시 생성하는 클래스
+ * 게시 대상 마크다운 파일의 파싱 결과만 메모리에 유지하고, 변경된 파일만 다시 읽는다.
+ * 초안은 머리말만 읽고 본문은 읽거나 보관하지 않는다.
+ * 어떤 페이지와 JSON 파일을 다시 쓸지는 증분 빌드 매니페스트가 결정하므로
+ * ResultManager 는 증분 빌드 옵션으로 생성되어 있어야 한다.
+ */
+public class SiteWatcher {
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 200;
+
+    private final Path sourceDir;
+    private final MarkdownFinder finder;
+    private final MarkdownFileMapper mapper;
+    private final ResultManager resultManager;
+    private final long debounceMillis;
+
+    private final Map<Path, MarkdownFile> publishedFiles = new LinkedHashMap<>();
+    private final Map<WatchKey, Path> watchedDirs = new HashMap<>();
+
+    public SiteWatcher(Path sourceDir, MarkdownFinder finder, MarkdownFileMapper mapper, ResultManager resultManager) {
+        this(sourceDir, finder, mapper, resultManager, DEFAULT_DEBOUNCE_MILLIS);
+    }
+
+    public SiteWatcher(Path sourceDir, MarkdownFinder finder, MarkdownFileMapper mapper, ResultManager resultManager,
+                       long debounceMillis) {
+        this.sourceDir = sourceDir;
+        this.finder = finder;
+        this.mapper = mapper;
+        this.resultManager = resultManager;
+        this.debounceMillis = debounceMillis;
+    }
+
+    /**
+     * 소스 디렉토리 전체를 다시 읽어 결과 생성
+     */
+    public void buildAll() {
+        publishedFiles.clear();
+        for (Path path : finder.findAll(sourceDir)) {
+            if (mapper.readProperties(path).publish()) {
+                publishedFiles.put(path, mapper.generateMarkdownFile(path));
+            }
+        }
+
+        resultManager.saveResults(mapper.selectPublished(publishedFiles.values()));
+    }
+
+    /**
+     * 변경된 경로만 다시 읽어 결과 갱신
+     * 삭제된 경로는 메모리에서 제거하며, 디렉토리가 삭제된 경우 그 하위 파일도 모두 제거한다.
+     * @param changedPaths 변경(생성/수정/삭제)된 경로 목록
+     * @return 마크다운 파일에 영향을 주는 변경이 있어 결과를 갱신했으면 true
+     */
+    public boolean rebuild(Set<Path> changedPaths) {
+        boolean updated = false;
+
+        for (Path path : changedPaths) {
+            if (Files.isRegularFile(path)) {
+                if (isMarkdown(path)) {
+                    updated |= reload(path);
+                }
+            } else if (!Files.exists(path)) {
+                updated |= publishedFiles.keySet().removeIf(known -> known.startsWith(path));
+            }
+        }
+
+        if (updated) {
+            resultManager.saveResults(mapper.selectPublished(publishedFiles.values()));
+        }
+
+        return updated;
+    }
+
+    /**
+     * 소스 디렉토리를 감시하며 변경이 생길 때마다 결과를 갱신 (인터럽트될 때까지 반환하지 않음)
+     * 짧은 시간에 몰려오는 이벤트는 debounce 시간 동안 모아서 한 번에 처리한다.
+     * @throws IOException WatchService 를 생성하거나 디렉토리를 등록할 수 없는 경우
+     * @throws InterruptedException 감시 중 인터럽트된 경우
+     */
+    public void watch() throws IOException, InterruptedException {
+        watch(() -> {
+        });
+    }
+
+    /**
+     * 소스 디렉토리를 감시하며 변경이 생길 때마다 결과를 갱신하고, 갱신이 끝날 때마다 콜백 실행
+     * @param afterRebuild 결과를 갱신한 뒤 실행할 콜백 (예: 브라우저 새로고침 알림)
+     * @throws IOException WatchService 를 생성하거나 디렉토리를 등록할 수 없는 경우
+     * @throws InterruptedException 감시 중 인터럽트된 경우
+     */
+    public void watch(Runnable afterRebuild) throws IOException, InterruptedException {
+        try (WatchService watchService = sourceDir.getFileSystem().newWatchService()) {
+            registerAll(watchService, sourceDir);
+
+            while (true) {
+                Set<Path> changedPaths = new LinkedHashSet<>();
+                boolean overflow = drainEvents(watchService, watchService.take(), changedPaths);
+
+                WatchKey key;
+                while ((key = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    overflow |= drainEvents(watchService, key, changedPaths);
+                }
+
+                long start = System.nanoTime();
+                try {
+                    if (overflow) {
+                        buildAll();
+                    } else if (!rebuild(changedPaths)) {
+                        continue;
+                    }
+                    System.out.printf("🔄 %d개 변경 반영 완료 (%d ms)%n",
+                            changedPaths.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                    afterRebuild.run();
+                } catch (RuntimeException e) {
+                    System.err.println("❌ 변경 반영 중 오류 발생: " + e.getMessage());
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            throw new InterruptedException("감시가 종료되었습니다");
+        }
+    }
+
+    /**
+     * 머리말을 먼저 읽어 게시 대상이면 본문까지 다시 읽고, 초안이면 메모리에서 제거
+     * @return 게시 대상 파일이 바뀌었거나 게시 대상에서 초안으로 바뀌었으면 true
+     */
+    private boolean reload(Path path) {
+        try {
+            if (!mapper.readProperties(path).publish()) {
+                return publishedFiles.remove(path) != null;
+            }
+            publishedFiles.put(path, mapper.generateMarkdownFile(path));
+            return true;
+        } catch (RuntimeException e) {
+            // 편집 중인 파일은 일시적으로 잘못된 형식일 수 있으므로 이전 상태를 유지
+            System.err.println("파일을 읽는 중 오류가 발생하여 이전 내용을 유지합니다: " + path + " (" + e.getMessage() + ")");
+            return false;
+        }
+    }
+
+    /**
+     * WatchKey 의 이벤트를 변경 경로 목록에 추가
+     * @return 이벤트 유실(OVERFLOW)이 발생하여 전체 재생성이 필요하면 true
+     */
+    private boolean drainEvents(WatchService watchService, WatchKey key, Set<Path> changedPaths) throws IOException {
+        Path dir = watchedDirs.get(key);
+        boolean overflow = false;
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW || dir == null) {
+                overflow = true;
+                continue;
+            }
+
+            Path changed = dir.resolve((Path) event.context());
+            changedPaths.add(changed);
+
+            // 새 디렉토리는 감시 대상에 추가하고, 이미 들어 있는 파일도 변경으로 취급
+            if (event.kind() == ENTRY_CREATE && Files.isDirectory(changed)) {
+                registerAll(watchService, changed);
+                try (Stream<Path> paths = Files.walk(changed)) {
+                    paths.filter(Files::isRegularFile).forEach(changedPaths::add);
+                }
+            }
+        }
+
+        if (!key.reset()) {
+            watchedDirs.remove(key);
+        }
+
+        return overflow;
+    }
+
+    private void registerAll(WatchService watchService, Path root) throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path dir : paths.filter(Files::isDirectory).toList()) {
+                WatchKey key = dir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+                watchedDirs.put(key, dir);
+            }
+        }
+    }
+
+    private boolean isMarkdown(Path path) {
+        return path.toString().toLowerCase().endsWith(".md");
+    }
+}
@@ -4,6 +4,7 @@ package com.jimple.collector;
 import com.jimple.model.md.MarkdownFile;
 import com.jimple.model.md.MarkdownProperties;
 import com.jimple.parser.extractor.MarkdownExtractor;
+import com.jimple.parser.extractor.MarkdownSource;
 import com.jimple.parser.yml.SimpleMarkdownYmlParser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,8 +14,13 @@ import org.mockito.Mock;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -30,6 +36,8 @@ class MarkdownFileMapperTest {
 
     private MarkdownFileMapper markdownFileMapper;
 
+    private final Map<Path, MarkdownSource> sources = new ConcurrentHashMap<>();
+
     @BeforeEach
     void setUp() {
         parser = mock(SimpleMarkdownYmlParser.class);
@@ -163,8 +171,13 @@ class MarkdownFileMapperTest {
         assertEquals("Published-Title.html", result.get(0).path());
         assertEquals("Another-Published.html", result.get(1).path());
 
-        // Verify all paths were processed
-        verify(extractor, times(3)).extractFullContents(any(Path.class));
+        // Verify front matter of all paths was read, but only published files continued to the body
+        verify(extractor, times(3)).open(any(Path.class));
+        verify(sources.get(path1)).content();
+        verify(sources.get(path2), never()).content();
+        verify(sources.get(path3)).content();
+        sources.values().forEach(source -> verify(source).close());
+        verify(extractor, never()).extractFullContents(any(Path.class));
     }
 
     @Test
@@ -195,7 +208,8 @@ class MarkdownFileMapperTest {
         assertEquals("Draft-Title.html", result.getFirst().path());
 
         // Verify all paths were processed
-        verify(extractor, times(3)).extractFullContents(any(Path.class));
+        verify(extractor, times(3)).open(any(Path.class));
+        sources.values().forEach(source -> verify(source).content());
     }
 
     @Test
@@ -229,7 +243,50 @@ class MarkdownFileMapperTest {
 
         // then
         assertTrue(result.isEmpty());
-        verify(extractor, times(2)).extractFullContents(any(Path.class));
+        verify(extractor, times(2)).open(any(Path.class));
+        sources.values().forEach(source -> verify(source, never()).content());
+    }
+
+    @Test
+    @DisplayName("collectPublishedMarkdownFiles - 병렬 수집 결과가 순차 수집과 같은지 확인")
+    void collectPublishedMarkdownFiles_InParallel_ShouldMatchSequentialOrder() {
+        // given - 게시일이 같은 파일이 여러 개 섞인 목록
+        List<Path> paths = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            Path path = Paths.get("post-" + i + ".md");
+            paths.add(path);
+            setupMockForPath(path, "Post " + i, i % 7 != 0, "content " + i, "2025-01-0" + (i % 3 + 1));
+        }
+
+        // when
+        List<MarkdownFile> sequential = markdownFileMapper.collectPublishedMarkdownFiles(paths);
+        List<MarkdownFile> parallel;
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            parallel = markdownFileMapper.collectPublishedMarkdownFiles(paths, executor);
+        }
+
+        // then
+        assertEquals(34, parallel.size());
+        assertEquals(sequential, parallel);
+        assertEquals("Post-2.html", parallel.getFirst().path());
+        assertEquals("Post-5.html", parallel.get(1).path());
+    }
+
+    @Test
+    @DisplayName("collectPublishedMarkdownFiles - 병렬 수집 중 예외 발생시 원래 예외 전파")
+    void collectPublishedMarkdownFiles_InParallel_WhenExtractorThrowsException_ShouldPropagateException() {
+        // given
+        Path path1 = Paths.get("ok.md");
+        Path path2 = Paths.get("broken.md");
+        setupMockForPath(path1, "OK", true, "content");
+        when(extractor.open(path2)).thenThrow(new IllegalStateException("read failed"));
+
+        // when & then
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            IllegalStateException exception = assertThrows(IllegalStateException.class, () ->
+                    markdownFileMapper.collectPublishedMarkdownFiles(List.of(path1, path2), executor));
+            assertEquals("read failed", exception.getMessage());
+        }
     }
 
     @Test
@@ -293,6 +350,12 @@ class MarkdownFileMapperTest {
         LocalDate localDate = LocalDate.parse(date);
         MarkdownProperties properties = new MarkdownProperties(isPublished, title, localDate);
 
+        MarkdownSource source = mock(MarkdownSource.class);
+        when(source.frontMatter()).thenReturn(frontmatter);
+        when(source.content()).thenReturn(content);
+        sources.put(path, source);
+
+        when(extractor.open(path)).thenReturn(source);
         when(extractor.extractFullContents(path)).thenReturn(fullContents);
         when(extractor.extractFrontMatter(fullContents)).thenReturn(frontmatter);
         when(extractor.extractContent(fullContents)).thenReturn(content);
@@ -0,0 +1,140 @@
+package com.jimple.corpus;
+
+import com.jimple.collector.MarkdownFileMapper;
+import com.jimple.finder.SimpleMarkdownFinder;
+import com.jimple.model.md.MarkdownFile;
+import com.jimple.model.md.MarkdownProperties;
+import com.jimple.parser.extractor.SimpleMarkdownExtractor;
+import com.jimple.parser.yml.SimpleMarkdownYmlParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CorpusGenerator 테스트")
+class CorpusGeneratorTest {
+
+    private final SimpleMarkdownExtractor extractor = new SimpleMarkdownExtractor();
+    private final SimpleMarkdownYmlParser parser = new SimpleMarkdownYmlParser();
+
+    @Test
+    @DisplayName("같은 옵션이면 항상 같은 게시글을 만들고 시드가 다르면 다른 게시글을 만듦")
+    void testDeterministicForSameSeed() {
+        CorpusGenerator first = new CorpusGenerator(new CorpusOptions().withPosts(50));
+        CorpusGenerator second = new CorpusGenerator(new CorpusOptions().withPosts(50));
+        CorpusGenerator other = new CorpusGenerator(new CorpusOptions().withPosts(50).withSeed(7));
+
+        for (int i = 0; i < 50; i++) {
+            assertEquals(first.markdown(i), second.markdown(i));
+        }
+        // 생성 순서와 관계없이 같은 결과
+        assertEquals(first.markdown(10), second.markdown(10));
+        assertNotEquals(first.markdown(0), other.markdown(0));
+    }
+
+    @Test
+    @DisplayName("파일명은 번호순으로 정렬되도록 0으로 채움")
+    void testFileNamesArePadded() {
+        CorpusGenerator generator = new CorpusGenerator(new CorpusOptions().withPosts(1000));
+
+        assertEquals("post-000.md", generator.fileName(0));
+        assertEquals("post-999.md", generator.fileName(999));
+    }
+
+    @Test
+    @DisplayName("모든 게시글의 머리말을 파싱할 수 있고 초안 비율과 카테고리 구조를 따름")
+    void testGeneratedFrontMatterFollowsOptions() {
+        CorpusOptions options = new CorpusOptions(2000, 3, 2, 3, 0.25);
+        CorpusGenerator generator = new CorpusGenerator(options);
+
+        int drafts = 0;
+        Set<String> titles = new HashSet<>();
+        Set<String> topLevel = new HashSet<>();
+        for (int i = 0; i < options.posts(); i++) {
+            String markdown = generator.markdown(i);
+            MarkdownProperties properties = parser.getProperties(extractor.extractFrontMatter(markdown));
+            if (!properties.publish()) {
+                drafts++;
+                continue;
+            }
+
+            assertTrue(titles.add(properties.title()), "제목 중복: " + properties.title());
+            assertFalse(extractor.extractContent(markdown).isBlank());
+
+            String[] segments = properties.path().split("/");
+            assertTrue(segments.length >= 1 && segments.length <= 2, properties.path());
+            topLevel.add(segments[0]);
+        }
+
+        assertEquals(0.25, drafts / (double) options.posts(), 0.05);
+        assertEquals(3, topLevel.size());
+    }
+
+    @Test
+    @DisplayName("본문 크기는 짧은 글이 대부분이고 긴 글이 드물게 섞임")
+    void testBodySizesAreSkewed() {
+        CorpusGenerator generator = new CorpusGenerator(new CorpusOptions().withPosts(1000));
+
+        List<Integer> sizes = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            sizes.add(generator.markdown(i).length());
+        }
+        sizes.sort(Integer::compareTo);
+
+        int median = sizes.get(sizes.size() / 2);
+        int largest = sizes.getLast();
+        assertTrue(largest > median * 10, "median=" + median + ", largest=" + largest);
+    }
+
+    @Test
+    @DisplayName("카테고리 깊이가 0이면 path 를 넣지 않음")
+    void testNoCategories() {
+        CorpusGenerator generator = new CorpusGenerator(new CorpusOptions().withPosts(20).withCategories(0, 1)
+                .withDraftRatio(0));
+
+        for (int i = 0; i < 20; i++) {
+            assertEquals("", parser.getProperties(extractor.extractFrontMatter(generator.markdown(i))).path());
+        }
+    }
+
+    @Test
+    @DisplayName("디렉토리에 저장한 코퍼스를 수집기로 읽을 수 있음")
+    void testWrittenCorpusIsCollected(@TempDir Path tempDir) throws IOException {
+        CorpusGenerator generator = new CorpusGenerator(new CorpusOptions().withPosts(30));
+        generator.write(tempDir);
+
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(30, files.count());
+        }
+
+        List<Path> paths = new SimpleMarkdownFinder().findAll(tempDir);
+        List<MarkdownFile> published = new MarkdownFileMapper(parser, extractor).collectPublishedMarkdownFiles(paths);
+
+        long expected = 0;
+        for (int i = 0; i < 30; i++) {
+            if (generator.markdown(i).contains("publish: true")) {
+                expected++;
+            }
+        }
+        assertTrue(expected > 0);
+        assertEquals(expected, published.size());
+    }
+
+    @Test
+    @DisplayName("잘못된 옵션은 예외 발생")
+    void testInvalidOptions() {
+        assertThrows(IllegalArgumentException.class, () -> new CorpusOptions().withPosts(-1));
+        assertThrows(IllegalArgumentException.class, () -> new CorpusOptions().withDraftRatio(1.5));
+        assertThrows(IllegalArgumentException.class, () -> new CorpusOptions().withCategories(2, 0));
+    }
+}
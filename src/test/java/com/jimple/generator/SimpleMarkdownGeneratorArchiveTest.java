@@ -4,6 +4,7 @@ import com.jimple.generator.converter.Md2HtmlConverter;
 import com.jimple.model.config.BlogProperties;
 import com.jimple.model.md.MarkdownFile;
 import com.jimple.model.md.MarkdownProperties;
+import com.jimple.parser.template.CompiledTemplate;
 import com.jimple.parser.template.SimpleTemplateEngine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -87,16 +88,19 @@ class SimpleMarkdownGeneratorArchiveTest {
         String expectedTemplate = "<!DOCTYPE html><html><body>{{blogTitle}} - Archive</body></html>";
         String expectedHtml = "<!DOCTYPE html><html><body>테스트 블로그 - Archive</body></html>";
         
+        CompiledTemplate compiledTemplate = CompiledTemplate.compile(expectedTemplate);
+        
         when(mockTemplateEngine.loadTemplate("templates/archive.html")).thenReturn(expectedTemplate);
-        when(mockTemplateEngine.processTemplate(eq(expectedTemplate), any())).thenReturn(expectedHtml);
+        when(mockTemplateEngine.loadCompiledTemplate("templates/archive.html")).thenReturn(compiledTemplate);
+        when(mockTemplateEngine.render(eq(compiledTemplate), any())).thenReturn(expectedHtml);
 
         // when
         String result = markdownGenerator.generateArchivePage(testArchiveFile);
 
         // then
         assertEquals(expectedHtml, result);
-        verify(mockTemplateEngine).loadTemplate("templates/archive.html");
-        verify(mockTemplateEngine).processTemplate(eq(expectedTemplate), any());
+        verify(mockTemplateEngine).loadCompiledTemplate("templates/archive.html");
+        verify(mockTemplateEngine).render(eq(compiledTemplate), any());
     }
 
     @Test
@@ -111,15 +115,17 @@ class SimpleMarkdownGeneratorArchiveTest {
         // then
         assertEquals("", result);
         verify(mockTemplateEngine).loadTemplate("templates/archive.html");
-        verify(mockTemplateEngine, never()).processTemplate(any(), any());
+        verify(mockTemplateEngine, never()).render(any(), any());
     }
 
     @Test
     void generateArchivePage_템플릿_처리_실패시_빈문자열_반환() throws IOException {
         // given
         String template = "<!DOCTYPE html><html><body>{{blogTitle}}</body></html>";
+        CompiledTemplate compiledTemplate = CompiledTemplate.compile(template);
         when(mockTemplateEngine.loadTemplate("templates/archive.html")).thenReturn(template);
-        when(mockTemplateEngine.processTemplate(eq(template), any()))
+        when(mockTemplateEngine.loadCompiledTemplate("templates/archive.html")).thenReturn(compiledTemplate);
+        when(mockTemplateEngine.render(eq(compiledTemplate), any()))
                 .thenThrow(new RuntimeException("템플릿 처리 실패"));
 
         // when & then
@@ -128,8 +134,8 @@ class SimpleMarkdownGeneratorArchiveTest {
             assertEquals("", result);
         });
         
-        verify(mockTemplateEngine).loadTemplate("templates/archive.html");
-        verify(mockTemplateEngine).processTemplate(eq(template), any());
+        verify(mockTemplateEngine).loadCompiledTemplate("templates/archive.html");
+        verify(mockTemplateEngine).render(eq(compiledTemplate), any());
     }
 
     @Test
@@ -137,9 +143,11 @@ class SimpleMarkdownGeneratorArchiveTest {
         // given
         String template = "<!DOCTYPE html><html><body>{{blogTitle}}</body></html>";
         String processedHtml = "<!DOCTYPE html><html><body>테스트 블로그</body></html>";
+        CompiledTemplate compiledTemplate = CompiledTemplate.compile(template);
         
         when(mockTemplateEngine.loadTemplate("templates/archive.html")).thenReturn(template);
-        when(mockTemplateEngine.processTemplate(eq(template), any())).thenReturn(processedHtml);
+        when(mockTemplateEngine.loadCompiledTemplate("templates/archive.html")).thenReturn(compiledTemplate);
+        when(mockTemplateEngine.render(eq(compiledTemplate), any())).thenReturn(processedHtml);
 
         // when
         String result = markdownGenerator.generateArchivePage(testArchiveFile);
@@ -149,7 +157,7 @@ class SimpleMarkdownGeneratorArchiveTest {
         assertEquals(processedHtml, result);
         
         // 템플릿 데이터가 올바르게 전달되었는지 확인
-        verify(mockTemplateEngine).processTemplate(eq(template), argThat(data -> {
+        verify(mockTemplateEngine).render(eq(compiledTemplate), argThat(data -> {
             @SuppressWarnings("unchecked")
             var dataMap = (java.util.Map<String, Object>) data;
             return "테스트 블로그".equals(dataMap.get("blogTitle")) &&
@@ -4,6 +4,7 @@ import com.jimple.generator.converter.Md2HtmlConverter;
 import com.jimple.model.config.BlogProperties;
 import com.jimple.model.md.MarkdownFile;
 import com.jimple.model.md.MarkdownProperties;
+import com.jimple.parser.template.CompiledTemplate;
 import com.jimple.parser.template.SimpleTemplateEngine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +14,7 @@ import org.mockito.Mockito;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -49,14 +51,14 @@ public class SimpleMarkdownGeneratorTest {
 
         @Test
         void testGenerateLatestArticleValidMarkdownFile() throws IOException {
-            when(mockTemplateEngine.loadTemplate("templates/latest-article.html"))
-                    .thenReturn("<html><body>${titleString}</body></html>");
+            CompiledTemplate template = CompiledTemplate.compile("<html><body>${titleString}</body></html>");
+            when(mockTemplateEngine.loadCompiledTemplate("templates/latest-article.html")).thenReturn(template);
             when(mockMarkdownProperties.date()).thenReturn(LocalDate.now());
             when(mockMarkdownProperties.title()).thenReturn("Sample Title");
             when(mockMarkdownProperties.description()).thenReturn("Sample Description");
             when(mockConfig.profile().name()).thenReturn("John Doe");
             when(mockMarkdownProperties.thumbnailUrl()).thenReturn("dummy-thumbnail-url");
-            when(mockTemplateEngine.processTemplate(eq("<html><body>${titleString}</body></html>"), anyMap()))
+            when(mockTemplateEngine.render(eq(template), anyMap()))
                     .thenReturn("<html><body>Sample Title</body></html>");
 
             String result = markdownGenerator.generateLatestArticle(mockMarkdownFile);
@@ -67,7 +69,7 @@ public class SimpleMarkdownGeneratorTest {
 
         @Test
         void testGenerateLatestArticleWithIOException() throws IOException {
-            when(mockTemplateEngine.loadTemplate("templates/latest-article.html"))
+            when(mockTemplateEngine.loadCompiledTemplate("templates/latest-article.html"))
                     .thenThrow(new IOException("Template load error"));
 
             String result = markdownGenerator.generateLatestArticle(mockMarkdownFile);
@@ -104,11 +106,11 @@ public class SimpleMarkdownGeneratorTest {
             when(mockConverter.convertBodyToHtml("dummy content")).thenReturn("<p>변환된 내용</p>");
 
             // 템플릿 로딩 모킹
-            when(mockTemplateEngine.loadTemplate("templates/article.html"))
-                    .thenReturn("<html><head><title>${title}</title></head><body>${content}</body></html>");
+            when(mockTemplateEngine.loadCompiledTemplate("templates/article.html"))
+                    .thenReturn(CompiledTemplate.compile("<html><head><title>${title}</title></head><body>${content}</body></html>"));
 
             // 템플릿 처리 모킹
-            when(mockTemplateEngine.processTemplate(anyString(), anyMap()))
+            when(mockTemplateEngine.render(any(CompiledTemplate.class), anyMap()))
                     .thenReturn("<html><head><title>테스트 제목</title></head><body><p>변환된 내용</p></body></html>");
 
             // 필요한 마크다운 속성들 모킹
@@ -116,7 +118,8 @@ public class SimpleMarkdownGeneratorTest {
             when(mockMarkdownProperties.date()).thenReturn(LocalDate.now());
 
             // 프로필 섹션 생성을 위한 설정
-            when(mockTemplateEngine.loadTemplate("templates/profile.html")).thenReturn("<div>${name}</div>");
+            when(mockTemplateEngine.loadCompiledTemplate("templates/profile.html"))
+                    .thenReturn(CompiledTemplate.compile("<div>${name}</div>"));
             when(mockProfileProperties.role()).thenReturn("개발자");
             when(mockProfileProperties.bio()).thenReturn("자기소개");
 
@@ -130,8 +133,56 @@ public class SimpleMarkdownGeneratorTest {
 
             // 메서드 호출 검증
             verify(mockConverter).convertBodyToHtml("dummy content");
-            verify(mockTemplateEngine).loadTemplate("templates/article.html");
-            verify(mockTemplateEngine, times(2)).processTemplate(anyString(), anyMap());
+            verify(mockTemplateEngine).loadCompiledTemplate("templates/article.html");
+            verify(mockTemplateEngine, times(2)).render(any(CompiledTemplate.class), anyMap());
+        }
+
+        @Test
+        void testSharedFragmentsRenderedOncePerBuild() throws IOException {
+            when(mockConverter.convertBodyToHtml(anyString())).thenReturn("<p>변환된 내용</p>");
+            CompiledTemplate articleTemplate = CompiledTemplate.compile("<article>${content}</article>");
+            CompiledTemplate profileTemplate = CompiledTemplate.compile("<div>${name}</div>");
+            when(mockTemplateEngine.loadCompiledTemplate("templates/article.html")).thenReturn(articleTemplate);
+            when(mockTemplateEngine.loadCompiledTemplate("templates/profile.html")).thenReturn(profileTemplate);
+            when(mockTemplateEngine.render(eq(profileTemplate), anyMap())).thenReturn("<div>John Doe</div>");
+            when(mockTemplateEngine.render(eq(articleTemplate), anyMap()))
+                    .thenAnswer(invocation -> {
+                        Map<String, Object> data = invocation.getArgument(1);
+                        return data.get("title") + "|" + data.get("profile") + "|" + data.get("blogTitle");
+                    });
+            when(mockMarkdownProperties.title()).thenReturn("첫 번째 글", "두 번째 글");
+
+            String first = markdownGenerator.generateToHtml(mockMarkdownFile);
+            String second = markdownGenerator.generateToHtml(mockMarkdownFile);
+
+            // 게시글 값만 달라지고 프로필/설정 값은 공유
+            assertEquals("첫 번째 글|<div>John Doe</div>|테스트 블로그", first);
+            assertEquals("두 번째 글|<div>John Doe</div>|테스트 블로그", second);
+
+            // 프로필 조각은 빌드 동안 한 번만 렌더링
+            verify(mockTemplateEngine, times(1)).render(eq(profileTemplate), anyMap());
+        }
+
+        @Test
+        void testSharedFragmentsRebuiltWhenProfileTemplateChanges() throws IOException {
+            when(mockConverter.convertBodyToHtml(anyString())).thenReturn("<p>변환된 내용</p>");
+            CompiledTemplate articleTemplate = CompiledTemplate.compile("<article>${profile}</article>");
+            CompiledTemplate v1 = CompiledTemplate.compile("<div>v1</div>");
+            CompiledTemplate v2 = CompiledTemplate.compile("<div>v2</div>");
+            when(mockTemplateEngine.loadCompiledTemplate("templates/article.html")).thenReturn(articleTemplate);
+            when(mockTemplateEngine.loadCompiledTemplate("templates/profile.html")).thenReturn(v1, v2);
+            when(mockTemplateEngine.render(any(CompiledTemplate.class), anyMap()))
+                    .thenAnswer(invocation -> {
+                        CompiledTemplate template = invocation.getArgument(0);
+                        Map<String, Object> data = invocation.getArgument(1);
+                        return template == articleTemplate ? String.valueOf(data.get("profile")) : template.render(Map.of());
+                    });
+
+            String first = markdownGenerator.generateToHtml(mockMarkdownFile);
+            String second = markdownGenerator.generateToHtml(mockMarkdownFile);
+
+            assertEquals("<div>v1</div>", first);
+            assertEquals("<div>v2</div>", second);
         }
 
         @Test
@@ -140,7 +191,7 @@ public class SimpleMarkdownGeneratorTest {
             when(mockConverter.convertBodyToHtml("dummy content")).thenReturn("<p>변환된 내용</p>");
 
             // 템플릿 로딩 시 예외 발생 모킹
-            when(mockTemplateEngine.loadTemplate("templates/article.html"))
+            when(mockTemplateEngine.loadCompiledTemplate("templates/article.html"))
                     .thenThrow(new IOException("템플릿 로드 오류"));
 
             // 필요한 마크다운 속성들 모킹
@@ -185,12 +236,14 @@ public class SimpleMarkdownGeneratorTest {
             MarkdownFile mockLatestFile = new MarkdownFile(mockMarkdownProperties, "최신 내용", "latest/path");
 
             // 메인 페이지 템플릿 모킹
-            when(mockTemplateEngine.loadTemplate("templates/index.html"))
-                    .thenReturn("<html><body>${title}${latestArticleHtml}</body></html>");
+            String mainPageTemplate = "<html><body>${title}${latestArticleHtml}</body></html>";
+            when(mockTemplateEngine.loadTemplate("templates/index.html")).thenReturn(mainPageTemplate);
+            when(mockTemplateEngine.loadCompiledTemplate("templates/index.html"))
+                    .thenReturn(CompiledTemplate.compile(mainPageTemplate));
 
             // 최신 게시글 템플릿 모킹
-            when(mockTemplateEngine.loadTemplate("templates/latest-article.html"))
-                    .thenReturn("<div class='latest'>${titleString}</div>");
+            CompiledTemplate latestTemplate = CompiledTemplate.compile("<div class='latest'>${titleString}</div>");
+            when(mockTemplateEngine.loadCompiledTemplate("templates/latest-article.html")).thenReturn(latestTemplate);
 
             // 최신 게시글 생성에 필요한 속성 모킹
             when(mockMarkdownProperties.date()).thenReturn(LocalDate.now());
@@ -199,10 +252,10 @@ public class SimpleMarkdownGeneratorTest {
             when(mockMarkdownProperties.thumbnailUrl()).thenReturn("thumbnail.jpg");
 
             // 템플릿 처리 모킹
-            when(mockTemplateEngine.processTemplate(anyString(), anyMap()))
+            when(mockTemplateEngine.render(any(CompiledTemplate.class), anyMap()))
                     .thenAnswer(invocation -> {
-                        String template = invocation.getArgument(0);
-                        if (template.contains("='latest'")) {
+                        CompiledTemplate template = invocation.getArgument(0);
+                        if (template == latestTemplate) {
                             return "<div class='latest'>최신 제목</div>";
                         } else {
                             return "<html><body>환영 제목<div class='latest'>최신 제목</div></body></html>";
@@ -218,8 +271,8 @@ public class SimpleMarkdownGeneratorTest {
             assertTrue(result.contains("최신 제목"));
 
             // 메서드 호출 검증
-            verify(mockTemplateEngine).loadTemplate("templates/index.html");
-            verify(mockTemplateEngine, atLeastOnce()).processTemplate(anyString(), anyMap());
+            verify(mockTemplateEngine).loadCompiledTemplate("templates/index.html");
+            verify(mockTemplateEngine, atLeastOnce()).render(any(CompiledTemplate.class), anyMap());
         }
 
         @Test
@@ -0,0 +1,52 @@
+package com.jimple.generator.asset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SiteAssets 테스트")
+class SiteAssetsTest {
+
+    @Test
+    @DisplayName("지문 없이 불러오면 고정된 경로를 사용하고 매니페스트를 만들지 않음")
+    void testPlainAssetsUseFixedPaths() {
+        SiteAssets assets = SiteAssets.load(false);
+
+        assertEquals(SiteAssets.defaultTemplateVariables(), assets.templateVariables());
+        assertEquals("assets/jimple.css", assets.templateVariables().get("jimpleCssUrl"));
+        assertTrue(assets.files().containsKey("assets/fonts/IBMPlexSansKR-Regular.woff2"));
+        assertFalse(assets.files().containsKey(SiteAssets.MANIFEST_FILE));
+
+        // CSS 의 폰트 참조는 결과 디렉토리의 파일명으로 바뀜
+        String css = new String(assets.files().get("assets/jimple.css"), StandardCharsets.UTF_8);
+        assertTrue(css.contains("url('fonts/IBMPlexSansKR-Regular.woff2')"));
+    }
+
+    @Test
+    @DisplayName("지문 모드에서는 내용 해시가 들어간 파일명과 매니페스트를 생성")
+    void testFingerprintedAssetsUseContentHashes() {
+        SiteAssets assets = SiteAssets.load(true);
+        Map<String, String> variables = assets.templateVariables();
+
+        String cssUrl = variables.get("jimpleCssUrl");
+        assertTrue(cssUrl.matches("assets/jimple\\.[0-9a-f]{8}\\.css"), cssUrl);
+        assertTrue(assets.files().containsKey(cssUrl));
+        assertEquals(variables.keySet(), SiteAssets.defaultTemplateVariables().keySet());
+
+        String css = new String(assets.files().get(cssUrl), StandardCharsets.UTF_8);
+        assertTrue(css.matches("(?s).*url\\('fonts/IBMPlexSansKR-Regular\\.[0-9a-f]{8}\\.woff2'\\).*"));
+
+        String manifest = new String(assets.files().get(SiteAssets.MANIFEST_FILE), StandardCharsets.UTF_8);
+        assertTrue(manifest.contains("\"assets/jimple.css\":\"" + cssUrl + "\""), manifest);
+    }
+
+    @Test
+    @DisplayName("같은 내용이면 항상 같은 파일명")
+    void testFingerprintsAreDeterministic() {
+        assertEquals(SiteAssets.load(true).templateVariables(), SiteAssets.load(true).templateVariables());
+    }
+}
@@ -0,0 +1,75 @@
+package com.jimple.generator.converter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CachingMd2HtmlConverter 테스트")
+class CachingMd2HtmlConverterTest {
+
+    @Test
+    @DisplayName("캐시에 있는 본문은 원래 변환기를 호출하지 않음")
+    void testCacheHitSkipsDelegate(@TempDir Path tempDir) throws IOException {
+        Md2HtmlConverter delegate = spy(new SimpleMd2HtmlConverter());
+        CachingMd2HtmlConverter converter = new CachingMd2HtmlConverter(delegate,
+                ConverterCache.open(tempDir, ConverterCache.DEFAULT_MAX_BYTES));
+        String markdown = "# 제목\n\n| a | b |\n|---|---|\n| 1 | 2 |";
+
+        String first = converter.convertBodyToHtml(markdown);
+
+        // 새 빌드처럼 캐시를 다시 열어도 디스크에 저장된 결과를 사용
+        CachingMd2HtmlConverter rebuilt = new CachingMd2HtmlConverter(delegate,
+                ConverterCache.open(tempDir, ConverterCache.DEFAULT_MAX_BYTES));
+        StringBuilder streamed = new StringBuilder();
+        rebuilt.convertBodyToHtml(markdown, streamed);
+
+        assertEquals(new SimpleMd2HtmlConverter().convertBodyToHtml(markdown), first);
+        assertEquals(first, rebuilt.convertBodyToHtml(markdown));
+        assertEquals(first, streamed.toString());
+        verify(delegate, times(1)).convertBodyToHtml(markdown);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 본문은 스트리밍으로 변환하면서 결과를 캐시에도 저장")
+    void testStreamedMissFillsCache(@TempDir Path tempDir) throws IOException {
+        Md2HtmlConverter delegate = spy(new SimpleMd2HtmlConverter());
+        CachingMd2HtmlConverter converter = new CachingMd2HtmlConverter(delegate,
+                ConverterCache.open(tempDir, ConverterCache.DEFAULT_MAX_BYTES));
+        String markdown = "# 제목\n\n본문 `코드`";
+
+        StringBuilder first = new StringBuilder();
+        converter.convertBodyToHtml(markdown, first);
+        StringBuilder second = new StringBuilder();
+        converter.convertBodyToHtml(markdown, second);
+
+        String expected = new SimpleMd2HtmlConverter().convertBodyToHtml(markdown);
+        assertEquals(expected, first.toString());
+        assertEquals(expected, second.toString());
+        assertEquals(expected, converter.convertBodyToHtml(markdown));
+        // 문자열 변환 없이 원래 변환기의 스트리밍 변환만 한 번 호출
+        verify(delegate, times(1)).convertBodyToHtml(eq(markdown), any(Appendable.class));
+        verify(delegate, never()).convertBodyToHtml(markdown);
+    }
+
+    @Test
+    @DisplayName("변환기 식별 문자열이 다르면 캐시 결과를 공유하지 않음")
+    void testDifferentFingerprintMisses(@TempDir Path tempDir) {
+        ConverterCache cache = ConverterCache.open(tempDir, ConverterCache.DEFAULT_MAX_BYTES);
+        Md2HtmlConverter v1 = mock(Md2HtmlConverter.class);
+        Md2HtmlConverter v2 = mock(Md2HtmlConverter.class);
+        when(v1.fingerprint()).thenReturn("converter/1");
+        when(v2.fingerprint()).thenReturn("converter/2");
+        when(v1.convertBodyToHtml("본문")).thenReturn("<p>v1</p>");
+        when(v2.convertBodyToHtml("본문")).thenReturn("<p>v2</p>");
+
+        assertEquals("<p>v1</p>", new CachingMd2HtmlConverter(v1, cache).convertBodyToHtml("본문"));
+        assertEquals("<p>v2</p>", new CachingMd2HtmlConverter(v2, cache).convertBodyToHtml("본문"));
+        assertEquals(2, cache.size());
+    }
+}
@@ -0,0 +1,85 @@
+package com.jimple.generator.converter;
+
+import com.jimple.util.Hashes;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ConverterCache 테스트")
+class ConverterCacheTest {
+
+    @Test
+    @DisplayName("저장한 결과를 조회하고 다시 열어도 유지됨")
+    void testPutAndGetPersistsAcrossOpen(@TempDir Path tempDir) {
+        String key = Hashes.sha256("본문");
+
+        ConverterCache cache = ConverterCache.open(tempDir, 1024);
+        assertNull(cache.get(key));
+        cache.put(key, "<p>본문</p>");
+        assertEquals("<p>본문</p>", cache.get(key));
+
+        ConverterCache reopened = ConverterCache.open(tempDir, 1024);
+        assertEquals(1, reopened.size());
+        assertEquals("<p>본문</p>", reopened.get(key));
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 항목부터 삭제")
+    void testEvictsLeastRecentlyUsedEntries(@TempDir Path tempDir) {
+        String first = Hashes.sha256("1");
+        String second = Hashes.sha256("2");
+        String third = Hashes.sha256("3");
+
+        ConverterCache cache = ConverterCache.open(tempDir, 20);
+        cache.put(first, "0123456789");
+        cache.put(second, "0123456789");
+        // first 를 최근 사용 항목으로 만든 뒤 새 항목 저장
+        assertNotNull(cache.get(first));
+        cache.put(third, "0123456789");
+
+        assertEquals(2, cache.size());
+        assertEquals(20, cache.totalBytes());
+        assertNotNull(cache.get(first));
+        assertNull(cache.get(second));
+        assertNotNull(cache.get(third));
+        assertFalse(Files.exists(tempDir.resolve(second.substring(0, 2)).resolve(second + ".html")));
+    }
+
+    @Test
+    @DisplayName("더 작은 최대 크기로 다시 열면 오래된 항목을 삭제")
+    void testTrimsOldEntriesOnOpen(@TempDir Path tempDir) throws IOException {
+        String older = Hashes.sha256("older");
+        String newer = Hashes.sha256("newer");
+
+        ConverterCache cache = ConverterCache.open(tempDir, 1024);
+        cache.put(older, "0123456789");
+        cache.put(newer, "0123456789");
+        Path olderFile = tempDir.resolve(older.substring(0, 2)).resolve(older + ".html");
+        Files.setLastModifiedTime(olderFile, FileTime.fromMillis(0));
+
+        ConverterCache reopened = ConverterCache.open(tempDir, 15);
+
+        assertEquals(1, reopened.size());
+        assertNull(reopened.get(older));
+        assertEquals("0123456789", reopened.get(newer));
+        assertFalse(Files.exists(olderFile));
+    }
+
+    @Test
+    @DisplayName("캐시 디렉토리의 다른 파일은 항목으로 사용하거나 삭제하지 않음")
+    void testIgnoresUnrelatedFiles(@TempDir Path tempDir) throws IOException {
+        Files.writeString(tempDir.resolve("README.html"), "keep");
+
+        ConverterCache cache = ConverterCache.open(tempDir, 1);
+
+        assertEquals(0, cache.size());
+        assertTrue(Files.exists(tempDir.resolve("README.html")));
+    }
+}
@@ -2,6 +2,8 @@ package com.jimple.generator.converter;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class SimpleMd2HtmlConverterTest {
@@ -103,4 +105,31 @@ public class SimpleMd2HtmlConverterTest {
         // Assert
         assertEquals("<h1>Title</h1>\n<p>This is <strong>bold</strong> and <em>italic</em> text.</p>\n<ul>\n<li>List item 1</li>\n<li>List item 2</li>\n</ul>\n", result);
     }
-}
\ No newline at end of file
+
+    @Test
+    void convertBodyToHtml_shouldWriteSameHtmlToAppendable() throws IOException {
+        // Arrange
+        SimpleMd2HtmlConverter converter = new SimpleMd2HtmlConverter();
+        String markdown = "# Title\n\n| a | b |\n|---|---|\n| 1 | 2 |";
+        StringBuilder out = new StringBuilder();
+
+        // Act
+        converter.convertBodyToHtml(markdown, out);
+
+        // Assert
+        assertEquals(converter.convertBodyToHtml(markdown), out.toString());
+    }
+
+    @Test
+    void convertBodyToHtml_shouldWriteNothing_whenInputIsEmpty() throws IOException {
+        // Arrange
+        SimpleMd2HtmlConverter converter = new SimpleMd2HtmlConverter();
+        StringBuilder out = new StringBuilder();
+
+        // Act
+        converter.convertBodyToHtml("", out);
+
+        // Assert
+        assertEquals("", out.toString());
+    }
+}
@@ -0,0 +1,136 @@
+package com.jimple.generator.formatter;
+
+import com.jimple.generator.SimpleMarkdownGenerator;
+import com.jimple.generator.converter.SimpleMd2HtmlConverter;
+import com.jimple.model.build.OutputFormat;
+import com.jimple.model.config.BlogProperties;
+import com.jimple.model.md.MarkdownFile;
+import com.jimple.model.md.MarkdownProperties;
+import com.jimple.parser.template.SimpleTemplateEngine;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HtmlFormatter 클래스에 대한 단위 테스트
+ */
+class HtmlFormatterTest {
+
+    @Test
+    void pretty_블록_요소마다_줄을_바꾸고_인라인_내용은_같은_줄에_유지() {
+        String html = "<!DOCTYPE html><html><head><meta charset=\"UTF-8\"><title>제목</title></head>"
+                + "<body><ul><li><a href=\"a.html\">첫 번째</a> 글</li></ul><p>본문 <strong>강조</strong></p></body></html>";
+
+        String expected = """
+                <!DOCTYPE html>
+                <html>
+                    <head>
+                        <meta charset="UTF-8">
+                        <title>제목</title>
+                    </head>
+                    <body>
+                        <ul>
+                            <li><a href="a.html">첫 번째</a> 글</li>
+                        </ul>
+                        <p>본문 <strong>강조</strong></p>
+                    </body>
+                </html>""";
+
+        assertEquals(expected, HtmlFormatter.format(html, OutputFormat.PRETTY));
+    }
+
+    @Test
+    void pretty_이미_들여쓰기된_입력도_같은_결과() {
+        String compact = "<div><p>a b</p></div>";
+        String indented = "<div>\n   <p>\n  a\n   b  </p>\n\n</div>\n";
+
+        assertEquals(HtmlFormatter.format(compact, OutputFormat.PRETTY), HtmlFormatter.format(indented, OutputFormat.PRETTY));
+    }
+
+    @Test
+    void minify_공백을_합치고_블록_태그_주변_공백과_주석을_제거() {
+        String html = "<div class=\"post\"  >\n    <p>\n  여러   줄\n  텍스트 <em>강조</em> 끝 </p>\n<!-- 주석 -->\n</div>\n";
+
+        assertEquals("<div class=\"post\"><p>여러 줄 텍스트 <em>강조</em> 끝</p></div>",
+                HtmlFormatter.format(html, OutputFormat.MINIFY));
+    }
+
+    @Test
+    void minify_조건부_주석과_속성값_안의_공백은_유지() {
+        String html = "<!--[if IE]><p>IE</p><![endif]--><a title=\"a   b\"  href='x'>링크</a>";
+
+        assertEquals("<!--[if IE]><p>IE</p><![endif]--><a title=\"a   b\" href='x'>링크</a>",
+                HtmlFormatter.format(html, OutputFormat.MINIFY));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = OutputFormat.class, names = {"PRETTY", "MINIFY"})
+    void pre_script_style_내용은_그대로_유지(OutputFormat format) {
+        String pre = "<pre><code>int a = 1;\n\n    if (a < 2) {\n    }\n</code></pre>";
+        String script = "<script>if (a < b && c > d) {\n  x();\n}</script>";
+        String style = "<STYLE>p  >  a { color: red; }</STYLE>";
+
+        String result = HtmlFormatter.format("<div>" + pre + script + style + "</div>", format);
+
+        assertTrue(result.contains(pre), result);
+        assertTrue(result.contains(script), result);
+        assertTrue(result.contains(style), result);
+    }
+
+    @ParameterizedTest
+    @EnumSource(OutputFormat.class)
+    void 조각으로_나누어_기록해도_한_번에_기록한_결과와_같음(OutputFormat format) throws IOException {
+        String html = "<!DOCTYPE html><html><body><div class='a  b'><p>텍스트  a &lt; b</p>"
+                + "<pre>  코드  </pre><!-- c --><img src=\"x.png\" /></div></body></html>";
+
+        StringWriter out = new StringWriter();
+        HtmlFormatter formatter = new HtmlFormatter(out, format);
+        for (int i = 0; i < html.length(); i += 3) {
+            formatter.append(html, i, Math.min(i + 3, html.length()));
+        }
+        formatter.finish();
+
+        assertEquals(HtmlFormatter.format(html, format), out.toString());
+    }
+
+    @Test
+    void finish_닫히지_않은_태그는_원문대로_기록() {
+        assertEquals("<p>a</p><span", HtmlFormatter.format("<p>a</p><span", OutputFormat.MINIFY));
+        assertEquals("a < b", HtmlFormatter.format("a < b", OutputFormat.MINIFY));
+    }
+
+    @Test
+    void none_입력을_그대로_전달() {
+        String html = "<div>\n  <p> a </p>\n</div>";
+
+        assertEquals(html, HtmlFormatter.format(html, OutputFormat.NONE));
+    }
+
+    @ParameterizedTest
+    @EnumSource(OutputFormat.class)
+    void 실제_페이지를_정리해도_문서_구조와_텍스트는_같음(OutputFormat format) {
+        SimpleMarkdownGenerator generator = new SimpleMarkdownGenerator(
+                new SimpleMd2HtmlConverter(), new BlogProperties(), new SimpleTemplateEngine());
+        MarkdownFile file = new MarkdownFile(
+                new MarkdownProperties(true, "제목", LocalDate.of(2025, 1, 1)),
+                "# 제목\n\n문단 *강조* 와 `코드`\n\n```java\nint a = 1;\n    a++;\n```\n\n| a | b |\n|---|---|\n| 1 | 2 |\n",
+                "post.html"
+        );
+        String html = generator.generateToHtml(file);
+
+        Document expected = Jsoup.parse(html);
+        Document actual = Jsoup.parse(HtmlFormatter.format(html, format));
+
+        assertEquals(expected.text(), actual.text());
+        assertEquals(expected.select("*").size(), actual.select("*").size());
+        assertEquals(expected.select("pre").outerHtml(), actual.select("pre").outerHtml());
+    }
+}
@@ -0,0 +1,159 @@
+package com.jimple.generator.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jimple.model.category.CategoryIndex;
+import com.jimple.model.category.CategoryInfo;
+import com.jimple.model.category.CategoryPage;
+import com.jimple.model.category.CategoryPageItem;
+import com.jimple.model.category.CategorySummary;
+import com.jimple.model.list.PostPage;
+import com.jimple.model.list.PostPageInfo;
+import com.jimple.model.list.PostPageItem;
+import com.jimple.model.md.MarkdownFile;
+import com.jimple.model.md.MarkdownProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PageJsonWriter 테스트")
+class PageJsonWriterTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("목록 페이지는 PostPage 를 직렬화한 결과와 같음")
+    void testPostPageMatchesRecordSerialization() throws IOException {
+        List<MarkdownFile> files = files(12);
+
+        for (int page = 1; page <= PostPage.lastPage(files.size()); page++) {
+            assertEquals(mapper.writeValueAsString(postPage(files, page)), PageJsonWriter.postPage(files, page));
+        }
+    }
+
+    @Test
+    @DisplayName("카테고리 페이지는 CategoryPage 를 직렬화한 결과와 같음")
+    void testCategoryPageMatchesRecordSerialization() throws IOException {
+        CategoryIndex index = CategoryIndex.build(files(12));
+
+        assertEquals(mapper.writeValueAsString(categoryPage(index.root(), 1, CategoryPage.UNPAGED)),
+                PageJsonWriter.categoryPage(index.root()));
+        for (String path : index.paths()) {
+            assertEquals(mapper.writeValueAsString(categoryPage(index.get(path), 1, CategoryPage.UNPAGED)),
+                    PageJsonWriter.categoryPage(index.get(path)));
+        }
+    }
+
+    @Test
+    @DisplayName("카테고리를 페이지로 나누면 각 페이지가 해당 페이지의 CategoryPage 를 직렬화한 결과와 같음")
+    void testPagedCategoryMatchesRecordSerialization() throws IOException {
+        CategoryIndex index = CategoryIndex.build(files(23));
+
+        for (int pageSize : new int[]{1, 2, 50}) {
+            int lastPage = CategoryPage.lastPage(index.root().posts().size(), pageSize);
+            for (int page = 1; page <= lastPage; page++) {
+                assertEquals(mapper.writeValueAsString(categoryPage(index.root(), page, pageSize)),
+                        PageJsonWriter.categoryPage(index.root(), page, pageSize));
+            }
+            assertThrows(IllegalArgumentException.class,
+                    () -> PageJsonWriter.categoryPage(index.root(), lastPage + 1, pageSize));
+        }
+    }
+
+    @Test
+    @DisplayName("카테고리 페이지는 게시글, 모든 하위 카테고리 요약, 페이지 정보, 카테고리 정보 순서로 기록")
+    void testCategoryPageJson() {
+        CategoryIndex index = CategoryIndex.build(files(5));
+        CategoryInfo category = index.get("개발/Java");
+
+        assertEquals("""
+                {"posts":[{"title":"제목 \\"2\\" \\\\ </script>","path":"post-2.html","date":"2024-01-03",\
+                "categoryPath":"개발/Java","description":"설명\\n줄바꿈\\t탭"}],\
+                "subCategories":[{"name":"Spring","fullPath":"개발/Java/Spring","postCount":1}],\
+                "page":{"current":1,"last":1,"count":1,"hasNext":false,"hasPrev":false},\
+                "categoryPath":"개발/Java","categoryName":"Java"}""", PageJsonWriter.categoryPage(category, 1, 1));
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 페이지 번호는 예외 발생")
+    void testInvalidPage() {
+        List<MarkdownFile> files = files(3);
+        CategoryInfo root = CategoryIndex.build(files).root();
+
+        assertThrows(IllegalArgumentException.class, () -> PageJsonWriter.postPage(files, 0));
+        assertThrows(IllegalArgumentException.class, () -> PageJsonWriter.postPage(files, 2));
+        assertThrows(IllegalArgumentException.class, () -> PageJsonWriter.categoryPage(root, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> PageJsonWriter.categoryPage(root, 1, -1));
+    }
+
+    @Test
+    @DisplayName("기록이 끝나도 출력 대상은 닫지 않음")
+    void testDoesNotCloseTarget() throws IOException {
+        boolean[] closed = {false};
+        StringWriter target = new StringWriter();
+        FilterWriter out = new FilterWriter(target) {
+            @Override
+            public void close() throws IOException {
+                closed[0] = true;
+                super.close();
+            }
+        };
+
+        PageJsonWriter.writePostPage(files(1), 1, out);
+
+        assertFalse(closed[0]);
+        assertTrue(target.toString().startsWith("{\"posts\":["));
+    }
+
+    /**
+     * 비교 기준으로 쓸 목록 페이지 레코드 생성
+     */
+    private static PostPage postPage(List<MarkdownFile> files, int page) {
+        int lastPage = PostPage.lastPage(files.size());
+        List<PostPageItem> items = files.subList((page - 1) * PostPage.PAGE_SIZE,
+                        Math.min(page * PostPage.PAGE_SIZE, files.size())).stream()
+                .map(PostPageItem::new)
+                .toList();
+        return new PostPage(items, new PostPageInfo(page, lastPage, files.size(), page < lastPage, page > 1));
+    }
+
+    /**
+     * 비교 기준으로 쓸 카테고리 페이지 레코드 생성
+     */
+    private static CategoryPage categoryPage(CategoryInfo category, int page, int pageSize) {
+        List<MarkdownFile> posts = category.posts();
+        int lastPage = CategoryPage.lastPage(posts.size(), pageSize);
+        List<MarkdownFile> pagePosts = pageSize == CategoryPage.UNPAGED
+                ? posts
+                : posts.subList((page - 1) * pageSize, Math.min(page * pageSize, posts.size()));
+        return new CategoryPage(
+                pagePosts.stream().map(CategoryPageItem::new).toList(),
+                category.subCategories().stream().map(CategorySummary::from).toList(),
+                new PostPageInfo(page, lastPage, posts.size(), page < lastPage, page > 1),
+                category.fullPath(),
+                category.name()
+        );
+    }
+
+    /**
+     * 이스케이프가 필요한 문자와 여러 단계의 카테고리를 포함한 게시글 목록
+     */
+    private static List<MarkdownFile> files(int count) {
+        String[] paths = {"", "개발", "개발/Java", "일상/\"따옴표\"", "개발/Java/Spring"};
+        List<MarkdownFile> files = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            MarkdownProperties properties = new MarkdownProperties(true, "제목 \"" + i + "\" \\ </script>",
+                    LocalDate.of(2024, 1, 1).plusDays(i), i % 2 == 0 ? "설명\n줄바꿈\t탭" : "",
+                    "", paths[i % paths.length]);
+            files.add(new MarkdownFile(properties, "본문", "post-" + i + ".html"));
+        }
+        return files;
+    }
+}
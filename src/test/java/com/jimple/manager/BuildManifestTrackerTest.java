@@ -0,0 +1,97 @@
+package com.jimple.manager;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BuildManifestTracker 클래스에 대한 단위 테스트
+ */
+class BuildManifestTrackerTest {
+
+    @TempDir
+    Path resultDir;
+
+    @Test
+    void 매니페스트가_없으면_모든_출력을_다시_생성() throws IOException {
+        Files.writeString(resultDir.resolve("a.html"), "a");
+
+        BuildManifestTracker tracker = BuildManifestTracker.load(resultDir, "gen");
+
+        assertFalse(tracker.isUpToDate("a.html", "hash-a"));
+    }
+
+    @Test
+    void 저장한_매니페스트와_해시가_같으면_최신_상태() throws IOException {
+        Files.writeString(resultDir.resolve("a.html"), "a");
+        BuildManifestTracker first = BuildManifestTracker.load(resultDir, "gen");
+        first.record("a.html", "hash-a");
+        first.save();
+
+        BuildManifestTracker second = BuildManifestTracker.load(resultDir, "gen");
+
+        assertTrue(second.isUpToDate("a.html", "hash-a"));
+        assertFalse(second.isUpToDate("a.html", "hash-b"));
+    }
+
+    @Test
+    void 출력_파일이_사라졌으면_다시_생성() throws IOException {
+        Files.writeString(resultDir.resolve("a.html"), "a");
+        BuildManifestTracker first = BuildManifestTracker.load(resultDir, "gen");
+        first.record("a.html", "hash-a");
+        first.save();
+        Files.delete(resultDir.resolve("a.html"));
+
+        BuildManifestTracker second = BuildManifestTracker.load(resultDir, "gen");
+
+        assertFalse(second.isUpToDate("a.html", "hash-a"));
+    }
+
+    @Test
+    void 템플릿_또는_설정_해시가_바뀌면_이전_빌드를_무시() throws IOException {
+        Files.writeString(resultDir.resolve("a.html"), "a");
+        BuildManifestTracker first = BuildManifestTracker.load(resultDir, "gen-1");
+        first.record("a.html", "hash-a");
+        first.save();
+
+        BuildManifestTracker second = BuildManifestTracker.load(resultDir, "gen-2");
+
+        assertFalse(second.isUpToDate("a.html", "hash-a"));
+    }
+
+    @Test
+    void 손상된_매니페스트는_무시하고_전체_빌드() throws IOException {
+        Files.writeString(resultDir.resolve("a.html"), "a");
+        Files.writeString(resultDir.resolve(BuildManifestTracker.MANIFEST_FILE), "{not json");
+
+        BuildManifestTracker tracker = BuildManifestTracker.load(resultDir, "gen");
+
+        assertFalse(tracker.isUpToDate("a.html", "hash-a"));
+    }
+
+    @Test
+    void 이번_빌드에서_생성되지_않은_출력은_고아로_삭제() throws IOException {
+        Files.writeString(resultDir.resolve("kept.html"), "kept");
+        Files.writeString(resultDir.resolve("removed.html"), "removed");
+        Files.writeString(resultDir.resolve("untracked.css"), "css");
+        BuildManifestTracker first = BuildManifestTracker.load(resultDir, "gen");
+        first.record("kept.html", "k");
+        first.record("removed.html", "r");
+        first.save();
+
+        BuildManifestTracker second = BuildManifestTracker.load(resultDir, "gen");
+        second.record("kept.html", "k");
+        List<String> deleted = second.deleteOrphans();
+
+        assertEquals(List.of("removed.html"), deleted);
+        assertTrue(Files.exists(resultDir.resolve("kept.html")));
+        assertFalse(Files.exists(resultDir.resolve("removed.html")));
+        assertTrue(Files.exists(resultDir.resolve("untracked.css")));
+    }
+}
@@ -0,0 +1,140 @@
+package com.jimple.manager;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GzipSidecarWriter 테스트")
+class GzipSidecarWriterTest {
+    @TempDir
+    Path resultDir;
+
+    private final ExecutorService executor = new ForkJoinPool(4);
+    private final GzipSidecarWriter writer = new GzipSidecarWriter(100);
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("HTML/JSON/CSS 파일마다 원본으로 복원되는 .gz 파일 생성")
+    void testWritesSidecarsThatDecompressToOriginal() throws IOException {
+        String html = "<html><body>" + "<p>반복되는 본문</p>".repeat(50) + "</body></html>";
+        Files.writeString(resultDir.resolve("post.html"), html);
+        Files.writeString(resultDir.resolve("post-list-1.json"), "{\"title\":\"제목\"}".repeat(20));
+        Files.createDirectories(resultDir.resolve("assets"));
+        Files.writeString(resultDir.resolve("assets/jimple.css"), "body { margin: 0; }\n".repeat(20));
+        Files.writeString(resultDir.resolve("notes.txt"), "text ".repeat(100));
+        Files.writeString(resultDir.resolve(BuildManifestTracker.MANIFEST_FILE), "{}".repeat(100));
+
+        GzipSidecarWriter.Summary summary = writer.compressAll(resultDir, executor);
+
+        assertCounts(3, 0, 0, summary);
+        assertEquals(OutputChange.ADDED, summary.changes().get("assets/jimple.css.gz"));
+        assertEquals(html, gunzip(resultDir.resolve("post.html.gz")));
+        assertTrue(Files.exists(resultDir.resolve("post-list-1.json.gz")));
+        assertTrue(Files.exists(resultDir.resolve("assets/jimple.css.gz")));
+        assertFalse(Files.exists(resultDir.resolve("notes.txt.gz")));
+        assertFalse(Files.exists(resultDir.resolve(BuildManifestTracker.MANIFEST_FILE + ".gz")));
+        assertEquals(Files.getLastModifiedTime(resultDir.resolve("post.html")),
+                Files.getLastModifiedTime(resultDir.resolve("post.html.gz")));
+        // 웹 서버가 읽을 수 있도록 원본과 같은 기본 권한으로 생성
+        if (Files.getFileStore(resultDir).supportsFileAttributeView("posix")) {
+            assertEquals(Files.getPosixFilePermissions(resultDir.resolve("post.html")),
+                    Files.getPosixFilePermissions(resultDir.resolve("post.html.gz")));
+        }
+    }
+
+    @Test
+    @DisplayName("작거나 압축 효과가 없는 파일은 건너뛰고 이전 .gz 파일을 삭제")
+    void testSkipsSmallAndIncompressibleFiles() throws IOException {
+        byte[] random = new byte[4096];
+        new Random(42).nextBytes(random);
+        Files.write(resultDir.resolve("random.css"), random);
+        Files.writeString(resultDir.resolve("small.html"), "<p>짧음</p>");
+        Files.writeString(resultDir.resolve("small.html.gz"), "이전 결과");
+
+        GzipSidecarWriter.Summary summary = writer.compressAll(resultDir, executor);
+
+        assertCounts(0, 0, 2, summary);
+        assertEquals(Map.of("small.html.gz", OutputChange.DELETED), summary.changes());
+        assertFalse(Files.exists(resultDir.resolve("random.css.gz")));
+        assertFalse(Files.exists(resultDir.resolve("small.html.gz")));
+    }
+
+    @Test
+    @DisplayName("바뀌지 않은 파일은 다시 압축하지 않고 원본이 없는 .gz 파일은 삭제")
+    void testKeepsUpToDateSidecarsAndDeletesOrphans() throws IOException {
+        Path page = resultDir.resolve("page.html");
+        Path removed = resultDir.resolve("removed.html");
+        Files.writeString(page, "<p>내용</p>".repeat(50));
+        Files.writeString(removed, "<p>삭제될 글</p>".repeat(50));
+        writer.compressAll(resultDir, executor);
+
+        Files.delete(removed);
+        GzipSidecarWriter.Summary summary = writer.compressAll(resultDir, executor);
+
+        assertCounts(0, 1, 0, summary);
+        assertEquals(Map.of("removed.html.gz", OutputChange.DELETED), summary.changes());
+        assertFalse(Files.exists(resultDir.resolve("removed.html.gz")));
+
+        Files.writeString(page, "<p>바뀐 내용</p>".repeat(50));
+        Files.setLastModifiedTime(page, FileTime.fromMillis(
+                Files.getLastModifiedTime(page).toMillis() + 2000));
+        summary = writer.compressAll(resultDir, executor);
+        assertCounts(1, 0, 0, summary);
+        assertEquals(Map.of("page.html.gz", OutputChange.MODIFIED), summary.changes());
+        assertEquals("<p>바뀐 내용</p>".repeat(50), gunzip(resultDir.resolve("page.html.gz")));
+    }
+
+    @Test
+    @DisplayName("수정 시각이 같아도 원본 크기가 .gz 파일의 ISIZE 와 다르면 다시 압축")
+    void testRecompressesWhenSizeDiffersWithSameTimestamp() throws IOException {
+        Path page = resultDir.resolve("page.html");
+        Files.writeString(page, "<p>내용</p>".repeat(50));
+        writer.compressAll(resultDir, executor);
+        FileTime modified = Files.getLastModifiedTime(page);
+
+        // 같은 시각 단위 안에 다시 저장했거나 수정 시각을 유지하며 복사한 경우
+        Files.writeString(page, "<p>더 긴 새 내용</p>".repeat(50));
+        Files.setLastModifiedTime(page, modified);
+        GzipSidecarWriter.Summary summary = writer.compressAll(resultDir, executor);
+
+        assertCounts(1, 0, 0, summary);
+        assertEquals(Map.of("page.html.gz", OutputChange.MODIFIED), summary.changes());
+        assertEquals("<p>더 긴 새 내용</p>".repeat(50), gunzip(resultDir.resolve("page.html.gz")));
+
+        // 깨진 .gz 파일도 다시 압축
+        Files.writeString(resultDir.resolve("page.html.gz"), "깨짐");
+        Files.setLastModifiedTime(resultDir.resolve("page.html.gz"), modified);
+        assertCounts(1, 0, 0, writer.compressAll(resultDir, executor));
+    }
+
+    private static void assertCounts(int written, int upToDate, int skipped, GzipSidecarWriter.Summary summary) {
+        assertEquals(written, summary.written());
+        assertEquals(upToDate, summary.upToDate());
+        assertEquals(skipped, summary.skipped());
+    }
+
+    private static String gunzip(Path file) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
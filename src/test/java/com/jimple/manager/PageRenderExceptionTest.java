@@ -0,0 +1,56 @@
+package com.jimple.manager;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PageRenderException 테스트")
+class PageRenderExceptionTest {
+
+    @Test
+    @DisplayName("첫 번째 실패를 원인으로, 나머지를 suppressed 로 입력 순서대로 보관")
+    void testKeepsFailuresInOrder() {
+        Map<String, Throwable> failures = new LinkedHashMap<>();
+        failures.put("b.html", new IllegalStateException("b"));
+        failures.put("a.html", new IllegalStateException("a"));
+
+        PageRenderException exception = new PageRenderException(failures);
+        failures.clear();
+
+        assertEquals(List.of("b.html", "a.html"), List.copyOf(exception.getFailures().keySet()));
+        assertEquals("b", exception.getCause().getMessage());
+        assertEquals("a", exception.getSuppressed()[0].getMessage());
+        assertThrows(UnsupportedOperationException.class, () -> exception.getFailures().clear());
+    }
+
+    @Test
+    @DisplayName("직렬화하면 경로별 원인 목록은 빠지고 원인 예외는 유지")
+    void testSerializesCauses() throws IOException, ClassNotFoundException {
+        Map<String, Throwable> failures = new LinkedHashMap<>();
+        failures.put("a.html", new IllegalStateException("a"));
+        failures.put("b.html", new IllegalStateException("b"));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(new PageRenderException(failures));
+        }
+        PageRenderException restored;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (PageRenderException) in.readObject();
+        }
+
+        assertEquals(Map.of(), restored.getFailures());
+        assertEquals("a", restored.getCause().getMessage());
+        assertEquals("b", restored.getSuppressed()[0].getMessage());
+    }
+}
@@ -3,22 +3,29 @@ package com.jimple.manager;
 import com.jimple.collector.MarkdownFileMapper;
 import com.jimple.finder.MarkdownFinder;
 import com.jimple.generator.MarkdownGenerator;
+import com.jimple.generator.SimpleMarkdownGenerator;
+import com.jimple.generator.converter.SimpleMd2HtmlConverter;
+import com.jimple.model.build.BuildOptions;
+import com.jimple.model.build.OutputFormat;
+import com.jimple.model.config.BlogProperties;
 import com.jimple.model.generator.GenerateType;
 import com.jimple.model.md.MarkdownFile;
 import com.jimple.model.md.MarkdownProperties;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
+import com.jimple.parser.template.SimpleTemplateEngine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.file.Files;
+import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -46,7 +53,8 @@ class ResultManagerTest {
     void setUp() {
         mockFinder = mock(MarkdownFinder.class);
         mockMapper = mock(MarkdownFileMapper.class);
-        mockGenerator = mock(MarkdownGenerator.class);
+        // 스트리밍 메서드의 기본 구현이 문자열 메서드를 호출하도록 실제 기본 메서드를 사용
+        mockGenerator = mock(MarkdownGenerator.class, CALLS_REAL_METHODS);
         mockResultDir = mock(Path.class);
 
         // Files 클래스의 정적 메서드를 모킹하여 exists 메서드가 true를 반환하도록 설정
@@ -89,49 +97,33 @@ class ResultManagerTest {
         // 모의 객체 동작 정의
         when(mockFinder.findAll(mockSourceDir)).thenReturn(markdownFiles);
         when(mockMapper.collectPublishedMarkdownFiles(markdownFiles)).thenReturn(publishedItems);
-        when(mockGenerator.generateToHtml(Mockito.eq(mockMarkdownFile))).thenReturn("<html>File1</html>");
+        when(mockGenerator.generateToHtml(Mockito.eq(mockMarkdownFile), eq(GenerateType.ARTICLE))).thenReturn("<html>File1</html>");
         when(mockGenerator.generateMainPage(Mockito.eq(mockMainPage), Mockito.any())).thenReturn("<html>Index</html>");
         when(mockGenerator.generateToHtml(any(), eq(GenerateType.LIST))).thenReturn("<html>File1</html>");
         when(mockGenerator.generateArchivePage(any())).thenReturn("<html>Archive</html>");
 
         try (MockedStatic<Files> mockedFiles = Mockito.mockStatic(Files.class)) {
-            mockedFiles.when(() -> Files.writeString(any(Path.class), anyString())).thenReturn(mock(Path.class));
+            List<StringWriter> writers = captureWriters(mockedFiles);
 
             // 테스트 대상 메서드 실행
             resultManager.processAndSaveResults(mockSourceDir);
 
-            // 저장될 HTML 내용을 캡처하기 위한 ArgumentCaptor 설정
-            ArgumentCaptor<String> contentCaptor = ArgumentCaptor.forClass(String.class);
-
             // 메서드 호출 검증
             verify(mockResultDir).resolve("file1.html");
             verify(mockResultDir).resolve("index.html");
 
-            verify(mockGenerator).generateToHtml(Mockito.eq(mockMarkdownFile));
+            verify(mockGenerator).generateToHtml(Mockito.eq(mockMarkdownFile), eq(GenerateType.ARTICLE));
             verify(mockGenerator).generateMainPage(Mockito.eq(mockMainPage), Mockito.any());
 
-            // Files 클래스의 정적 메서드 호출 검증
-            // PostList JSON(1번) + Category JSON(1번) + HTML파일들(4번: file1, index, list, archive) = 총 6번
-            verify(Files.class, times(6));
-            Files.writeString(Mockito.any(), contentCaptor.capture());
-
-            // 캡처된 HTML 내용 검증
-            List<String> capturedContent = contentCaptor.getAllValues();
-            // PostList JSON(0), Category JSON(1), HTML 파일들(2,3,4)
-            assertEquals("""
-                    <html>
-                        <head></head>
-                        <body>
-                            File1
-                        </body>
-                    </html>""", capturedContent.get(2)); // HTML 파일 인덱스 조정
-            assertEquals("""
-                    <html>
-                        <head></head>
-                        <body>
-                            Index
-                        </body>
-                    </html>""", capturedContent.get(3)); // HTML 파일 인덱스 조정
+            // PostList JSON(1번) + Category JSON(1번) + HTML파일들(4번: file1, index, list, archive) 은 Writer 로 스트리밍
+            mockedFiles.verify(() -> Files.writeString(any(), anyString()), never());
+            assertEquals(6, writers.size());
+            assertTrue(writers.get(0).toString().contains("\"current\":1"));
+            assertTrue(writers.get(1).toString().contains("\"categoryPath\":\"\""));
+
+            // 저장된 HTML 내용 검증 (하위 블록 요소가 없으면 한 줄로 유지)
+            assertEquals("<html>File1</html>", writers.get(2).toString());
+            assertEquals("<html>Index</html>", writers.get(3).toString());
         }
     }
 
@@ -160,14 +152,17 @@ class ResultManagerTest {
         // 모의 객체 동작 정의
         when(mockFinder.findAll(mockSourceDir)).thenReturn(markdownFiles);
         when(mockMapper.collectPublishedMarkdownFiles(markdownFiles)).thenReturn(publishedItems);
-        when(mockGenerator.generateToHtml(eq(mockMarkdownFile))).thenReturn("<html>ErrorFile</html>");
+        when(mockGenerator.generateToHtml(eq(mockMarkdownFile), eq(GenerateType.ARTICLE))).thenReturn("<html>ErrorFile</html>");
         when(mockResultDir.resolve(anyString())).thenReturn(mock(Path.class));
-        when(mockResultDir.resolve(eq(mockMarkdownFile.path()))).thenReturn(mockResultPath);
+        // 페이지는 임시 파일에 기록한 뒤 교체됨
+        when(mockResultDir.resolve(eq(mockMarkdownFile.path() + ".jimple-tmp"))).thenReturn(mockResultPath);
 
 
-        // Files.writeString 메서드 호출 시 IOException 발생하도록 설정
+        // 게시글 파일 Writer 를 열 때 IOException 발생하도록 설정
         try (MockedStatic<Files> mockedFiles = Mockito.mockStatic(Files.class)) {
-            mockedFiles.when(() -> Files.writeString(eq(mockResultPath), anyString())).thenThrow(new IOException("Write failed"));
+            captureWriters(mockedFiles);
+            mockedFiles.when(() -> Files.newBufferedWriter(eq(mockResultPath), any(OpenOption[].class)))
+                    .thenThrow(new IOException("Write failed"));
 
             // 예외 발생 검증
             RuntimeException exception = assertThrows(
@@ -181,7 +176,8 @@ class ResultManagerTest {
             // 메서드 호출 검증
             verify(mockFinder).findAll(mockSourceDir);
             verify(mockMapper).collectPublishedMarkdownFiles(markdownFiles);
-            verify(mockGenerator).generateToHtml(eq(mockMarkdownFile));
+            // 파일을 열지 못하면 페이지를 렌더링하지 않음
+            verify(mockGenerator, never()).generateToHtml(eq(mockMarkdownFile), eq(GenerateType.ARTICLE));
         }
     }
     /**
@@ -209,14 +205,15 @@ class ResultManagerTest {
         // 모의 객체 동작 정의
         when(mockFinder.findAll(mockSourceDir)).thenReturn(markdownFiles);
         when(mockMapper.collectPublishedMarkdownFiles(markdownFiles)).thenReturn(publishedItems);
-        when(mockGenerator.generateToHtml(eq(mockMarkdownFile))).thenReturn("<html>ErrorFile</html>");
+        when(mockGenerator.generateToHtml(eq(mockMarkdownFile), eq(GenerateType.ARTICLE))).thenReturn("<html>ErrorFile</html>");
         when(mockResultDir.resolve(anyString())).thenReturn(mockResultPath);
         when(mockResultDir.resolve(eq(mockMarkdownFile.path()))).thenReturn(mock(Path.class));
 
 
-        // Files.writeString 메서드 호출 시 IOException 발생하도록 설정
+        // JSON 파일 Writer 를 열 때 IOException 발생하도록 설정
         try (MockedStatic<Files> mockedFiles = Mockito.mockStatic(Files.class)) {
-            mockedFiles.when(() -> Files.writeString(eq(mockResultPath), anyString())).thenThrow(new IOException("Write failed"));
+            mockedFiles.when(() -> Files.newBufferedWriter(eq(mockResultPath), any(OpenOption[].class)))
+                    .thenThrow(new IOException("Write failed"));
 
             // 예외 발생 검증
             RuntimeException exception = assertThrows(
@@ -346,16 +343,16 @@ class ResultManagerTest {
         when(mockFinder.findAll(mockSourceDir)).thenReturn(List.of());
         when(mockMapper.collectPublishedMarkdownFiles(any())).thenReturn(publishedItems);
         when(mockGenerator.generateMainPage(eq(mainPageFile), any())).thenReturn("<html>메인 페이지</html>");
-        when(mockGenerator.generateToHtml(articleFile)).thenReturn("<html>일반 게시글</html>");
+        when(mockGenerator.generateToHtml(articleFile, GenerateType.ARTICLE)).thenReturn("<html>일반 게시글</html>");
         when(mockGenerator.generateToHtml(any(), eq(GenerateType.LIST))).thenReturn("<html>File1</html>");
         when(mockGenerator.generateMainPage(any(), any())).thenReturn("<html>Index</html>");
         when(mockGenerator.generateArchivePage(any())).thenReturn("<html>Archive</html>");
-        when(mockResultDir.resolve("index.html")).thenReturn(mockIndexPath);
-        when(mockResultDir.resolve("article.html")).thenReturn(mockArticlePath);
+        when(mockResultDir.resolve("index.html.jimple-tmp")).thenReturn(mockIndexPath);
+        when(mockResultDir.resolve("article.html.jimple-tmp")).thenReturn(mockArticlePath);
 
         // Files 정적 메서드 모킹
         try (MockedStatic<Files> mockedFiles = Mockito.mockStatic(Files.class)) {
-            mockedFiles.when(() -> Files.writeString(any(Path.class), anyString())).thenReturn(null);
+            captureWriters(mockedFiles);
 
             // 테스트 대상 메서드 실행
             resultManager.processAndSaveResults(mockSourceDir);
@@ -364,31 +361,34 @@ class ResultManagerTest {
             verify(mockGenerator, times(1)).generateMainPage(eq(mainPageFile), any());
 
             // 일반 게시글에 대해 generateToHtml이 호출되었는지 검증
-            verify(mockGenerator, times(1)).generateToHtml(articleFile);
+            verify(mockGenerator, times(1)).generateToHtml(articleFile, GenerateType.ARTICLE);
 
             // 두 파일이 모두 저장되었는지 검증
-            mockedFiles.verify(() -> Files.writeString(eq(mockIndexPath), anyString()), times(1));
-            mockedFiles.verify(() -> Files.writeString(eq(mockArticlePath), anyString()), times(1));
+            mockedFiles.verify(() -> Files.newBufferedWriter(eq(mockIndexPath), any(OpenOption[].class)), times(1));
+            mockedFiles.verify(() -> Files.newBufferedWriter(eq(mockArticlePath), any(OpenOption[].class)), times(1));
         }
     }
 
     /**
      * HTML 변환 및 포맷팅 테스트
-     * Jsoup 파서를 통한 HTML 포맷팅이 올바르게 적용되는지 검증
+     * 기본 출력 형식(pretty)으로 블록 요소마다 줄을 바꾸고 4칸씩 들여쓰기 되는지 검증
      */
     @Test
-    void testHtmlFormattingWithJsoup() {
+    void testHtmlFormattingWithPrettyFormatter() {
         // 모의 객체 설정
         Path mockSourceDir = mock(Path.class);
         Path virtualFilePath = Path.of("/virtual/path/test.html");
 
         // 테스트할 HTML 내용
         String rawHtml = "<html><body><div><p>테스트</p></div></body></html>";
-        Document expectedFormattedDoc = Jsoup.parse(rawHtml);
-        expectedFormattedDoc.outputSettings().prettyPrint(true);
-        expectedFormattedDoc.outputSettings().indentAmount(4);
-
-        String expectedFormattedHtml = expectedFormattedDoc.outerHtml();
+        String expectedFormattedHtml = """
+                <html>
+                    <body>
+                        <div>
+                            <p>테스트</p>
+                        </div>
+                    </body>
+                </html>""";
 
         // 마크다운 파일 객체 생성
         MarkdownFile testFile = new MarkdownFile(
@@ -400,29 +400,25 @@ class ResultManagerTest {
         // 모의 객체 동작 정의
         when(mockFinder.findAll(mockSourceDir)).thenReturn(List.of());
         when(mockMapper.collectPublishedMarkdownFiles(any())).thenReturn(new ArrayList<>(List.of(testFile)));
-        when(mockGenerator.generateToHtml(testFile)).thenReturn(rawHtml);
+        when(mockGenerator.generateToHtml(testFile, GenerateType.ARTICLE)).thenReturn(rawHtml);
         when(mockGenerator.generateToHtml(any(), eq(GenerateType.LIST))).thenReturn("<html>File1</html>");
         when(mockGenerator.generateMainPage(any(), any())).thenReturn(rawHtml);
         when(mockGenerator.generateArchivePage(any())).thenReturn(rawHtml);
-        when(mockResultDir.resolve("test.html")).thenReturn(virtualFilePath);
-
-        // 파일 저장 시 전달되는 HTML 캡처를 위한 ArgumentCaptor 설정
-        ArgumentCaptor<String> htmlCaptor = ArgumentCaptor.forClass(String.class);
+        when(mockResultDir.resolve("test.html.jimple-tmp")).thenReturn(virtualFilePath);
 
         // Files 정적 메서드 모킹
         try (MockedStatic<Files> mockedFiles = Mockito.mockStatic(Files.class)) {
-            mockedFiles.when(() -> Files.writeString(eq(virtualFilePath), htmlCaptor.capture())).thenReturn(null);
+            captureWriters(mockedFiles);
+            // 파일 저장 시 스트리밍되는 HTML 캡처
+            StringWriter html = new StringWriter();
+            mockedFiles.when(() -> Files.newBufferedWriter(eq(virtualFilePath), any(OpenOption[].class)))
+                    .thenReturn(new BufferedWriter(html));
 
             // 테스트 대상 메서드 실행
             resultManager.processAndSaveResults(mockSourceDir);
 
-            // 캡처된 HTML이 예상대로 포맷팅되었는지 검증
-            String capturedHtml = htmlCaptor.getValue();
-            assertEquals(expectedFormattedHtml, capturedHtml);
-
-            // Jsoup 파싱 및 포맷팅 설정이 적용되었는지 확인
-            Document doc = Jsoup.parse(capturedHtml);
-            assertTrue(doc.outputSettings().prettyPrint());
+            // 스트리밍된 HTML이 예상대로 포맷팅되었는지 검증
+            assertEquals(expectedFormattedHtml, html.toString());
         }
     }
 
@@ -489,32 +485,24 @@ class ResultManagerTest {
         when(mockFinder.findAll(mockSourceDir)).thenReturn(markdownFilePaths);
         when(mockMapper.collectPublishedMarkdownFiles(markdownFilePaths)).thenReturn(markdownFiles);
         when(mockGenerator.generateToHtml(any(), eq(GenerateType.LIST))).thenReturn("<html>File1</html>");
-        when(mockGenerator.generateToHtml(any())).thenReturn("<html>File1</html>");
+        when(mockGenerator.generateToHtml(any(), eq(GenerateType.ARTICLE))).thenReturn("<html>File1</html>");
         when(mockGenerator.generateMainPage(Mockito.eq(mockMainPage), Mockito.any())).thenReturn("<html>Index</html>");
         when(mockGenerator.generateArchivePage(any())).thenReturn("<html>Archive</html>");
 
         try (MockedStatic<Files> mockedFiles = Mockito.mockStatic(Files.class)) {
-            mockedFiles.when(() -> Files.writeString(any(Path.class), anyString())).thenReturn(mock(Path.class));
+            List<StringWriter> jsonWriters = captureWriters(mockedFiles);
 
             // 테스트 대상 메서드 실행
             resultManager.processAndSaveResults(mockSourceDir);
 
-            // 저장될 HTML 내용을 캡처하기 위한 ArgumentCaptor 설정
-            ArgumentCaptor<String> contentCaptor = ArgumentCaptor.forClass(String.class);
-
             // 메서드 호출 검증
             verify(mockResultDir).resolve("post-list-1.json");
             verify(mockResultDir).resolve("post-list-2.json");
 
-            // Files 클래스의 정적 메서드 호출 검증
-            // PostList JSON(3번) + Category JSON(1번) + HTML파일들(14번: 11개 파일 + index + list + archive) = 총 18번
-            verify(Files.class, times(18));
-            Files.writeString(Mockito.any(), contentCaptor.capture());
-
-            // 캡처된 HTML 내용 검증
-            List<String> capturedContent = contentCaptor.getAllValues();
-            assertTrue(capturedContent.get(0).contains("\"current\":1"));
-            assertTrue(capturedContent.get(1).contains("\"current\":2"));
+            // PostList JSON(3번) + Category JSON(1번) + HTML파일들(14번: 11개 파일 + index + list + archive) 은 Writer 로 스트리밍
+            assertEquals(18, jsonWriters.size());
+            assertTrue(jsonWriters.get(0).toString().contains("\"current\":1"));
+            assertTrue(jsonWriters.get(1).toString().contains("\"current\":2"));
         }
     }
 
@@ -547,9 +535,10 @@ class ResultManagerTest {
         when(mockResultDir.resolve(eq(mockMarkdownFile.path()))).thenReturn(mockResultPath);
 
 
-        // Files.writeString 메서드 호출 시 IOException 발생하도록 설정
+        // 모든 파일 Writer 를 열 때 IOException 발생하도록 설정
         try (MockedStatic<Files> mockedFiles = Mockito.mockStatic(Files.class)) {
-            mockedFiles.when(() -> Files.writeString(any(), anyString())).thenThrow(new IOException("Write failed"));
+            mockedFiles.when(() -> Files.newBufferedWriter(any(), any(OpenOption[].class)))
+                    .thenThrow(new IOException("Write failed"));
 
             // 예외 발생 검증
             RuntimeException exception = assertThrows(
@@ -593,31 +582,250 @@ class ResultManagerTest {
         when(mockFinder.findAll(mockSourceDir)).thenReturn(markdownFilePaths);
         when(mockMapper.collectPublishedMarkdownFiles(markdownFilePaths)).thenReturn(markdownFiles);
         when(mockGenerator.generateToHtml(any(), eq(GenerateType.LIST))).thenReturn("<html>File1</html>");
-        when(mockGenerator.generateToHtml(any())).thenReturn("<html>File1</html>");
+        when(mockGenerator.generateToHtml(any(), eq(GenerateType.ARTICLE))).thenReturn("<html>File1</html>");
         when(mockGenerator.generateMainPage(Mockito.eq(mockMainPage), Mockito.any())).thenReturn("<html>Index</html>");
         when(mockGenerator.generateArchivePage(any())).thenReturn("<html>Archive</html>");
 
         try (MockedStatic<Files> mockedFiles = Mockito.mockStatic(Files.class)) {
-            mockedFiles.when(() -> Files.writeString(any(Path.class), anyString())).thenReturn(mock(Path.class));
+            List<StringWriter> jsonWriters = captureWriters(mockedFiles);
 
             // 테스트 대상 메서드 실행
             resultManager.processAndSaveResults(mockSourceDir);
 
-            // 저장될 HTML 내용을 캡처하기 위한 ArgumentCaptor 설정
-            ArgumentCaptor<String> contentCaptor = ArgumentCaptor.forClass(String.class);
-
             // 메서드 호출 검증
             verify(mockResultDir).resolve("post-list-1.json");
 
-            // PostList JSON(1번) + Category JSON(1번) + HTML파일들(4번: 1개 파일 + index + list + archive) = 총 6번
-            verify(Files.class, times(6));
-            Files.writeString(Mockito.any(), contentCaptor.capture());
+            // 스트리밍된 PostList JSON(1번) + Category JSON(1번) + HTML파일들(4번: 1개 파일 + index + list + archive) 내용 검증
+            assertEquals(6, jsonWriters.size());
+            assertEquals( "{\"posts\":[{\"title\":\"title\",\"path\":\"/title.html\",\"date\":\"2025-01-01\"}],\"page\":{\"current\":1,\"last\":1,\"count\":1,\"hasNext\":false,\"hasPrev\":false}}", jsonWriters.getFirst().toString());
+        }
+    }
+
+    /**
+     * 카테고리 JSON 페이지 크기를 지정하면 카테고리마다 페이지별 파일을 저장하는지 테스트
+     */
+    @Test
+    void testCategoryJsonIsPaginated(@TempDir Path tempDir) throws IOException {
+        List<MarkdownFile> markdownFiles = Stream.of("0", "1", "2", "3", "4").map(x -> new MarkdownFile(
+                        new MarkdownProperties(true, "title-" + x, LocalDate.of(2025, 1, 1), "", "", "dev"),
+                        "",
+                        "title-" + x + ".html"
+                ))
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        Path mockSourceDir = mock(Path.class);
+        when(mockFinder.findAll(mockSourceDir)).thenReturn(List.of());
+        when(mockMapper.collectPublishedMarkdownFiles(any())).thenReturn(markdownFiles);
+        when(mockGenerator.generateToHtml(any(), eq(GenerateType.ARTICLE))).thenReturn("<html>Post</html>");
+        when(mockGenerator.generateToHtml(any(), eq(GenerateType.LIST))).thenReturn("<html>List</html>");
+        when(mockGenerator.generateMainPage(any(), any())).thenReturn("<html>Index</html>");
+        when(mockGenerator.generateArchivePage(any())).thenReturn("<html>Archive</html>");
+
+        ResultManager pagedManager = new ResultManager(mockFinder, mockMapper, mockGenerator, tempDir,
+                new BuildOptions().withCategoryPageSize(2));
+        pagedManager.processAndSaveResults(mockSourceDir);
+
+        String firstPage = Files.readString(tempDir.resolve("category-dev.json"));
+        assertTrue(firstPage.contains("\"page\":{\"current\":1,\"last\":3,\"count\":5,\"hasNext\":true"));
+        assertTrue(Files.readString(tempDir.resolve("category-dev.page-3.json")).contains("\"title\":\"title-4\""));
+        assertFalse(Files.exists(tempDir.resolve("category-dev.page-4.json")));
+        // 게시글이 없는 루트 카테고리는 하위 카테고리만 담은 첫 페이지만 저장
+        assertTrue(Files.exists(tempDir.resolve("category-root.json")));
+        assertFalse(Files.exists(tempDir.resolve("category-root.page-2.json")));
+    }
+
+    /**
+     * 병렬 렌더링 모드 테스트
+     * 모든 페이지가 실제 디렉토리에 순차 처리와 동일한 내용으로 저장되는지 검증
+     */
+    @Test
+    void testParallelRenderingWritesAllPages(@TempDir Path tempDir) throws IOException {
+        List<MarkdownFile> markdownFiles = Stream.of("0", "1", "2", "3", "4", "5", "6", "7").map(x -> new MarkdownFile(
+                        new MarkdownProperties(true, "title-" + x, LocalDate.of(2025, 1, 1)),
+                        "",
+                        "title-" + x + ".html"
+                ))
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        Path mockSourceDir = mock(Path.class);
+        when(mockFinder.findAll(mockSourceDir)).thenReturn(List.of());
+        when(mockMapper.collectPublishedMarkdownFiles(any(), any())).thenReturn(markdownFiles);
+        when(mockGenerator.generateToHtml(any(), eq(GenerateType.ARTICLE))).thenAnswer(invocation ->
+                "<html><body>" + invocation.<MarkdownFile>getArgument(0).properties().title() + "</body></html>");
+        when(mockGenerator.generateToHtml(any(), eq(GenerateType.LIST))).thenReturn("<html>List</html>");
+        when(mockGenerator.generateMainPage(any(), any())).thenReturn("<html>Index</html>");
+        when(mockGenerator.generateArchivePage(any())).thenReturn("<html>Archive</html>");
+
+        ResultManager parallelManager = new ResultManager(mockFinder, mockMapper, mockGenerator, tempDir,
+                new BuildOptions().withThreads(4));
+        parallelManager.processAndSaveResults(mockSourceDir);
+
+        for (int i = 0; i < 8; i++) {
+            String html = Files.readString(tempDir.resolve("title-" + i + ".html"));
+            assertTrue(html.contains("title-" + i));
+        }
+        assertTrue(Files.exists(tempDir.resolve("index.html")));
+        assertTrue(Files.exists(tempDir.resolve("list.html")));
+        assertTrue(Files.exists(tempDir.resolve("archive.html")));
+    }
+
+    /**
+     * HTML 정리를 끄면 페이지를 파일에 바로 스트리밍하는지 테스트
+     * 스트리밍 결과는 문자열로 생성한 결과와 같아야 함
+     */
+    @Test
+    void testStreamingRenderingMatchesStringRendering(@TempDir Path tempDir) throws IOException {
+        MarkdownGenerator generator = new SimpleMarkdownGenerator(
+                new SimpleMd2HtmlConverter(), new BlogProperties(), new SimpleTemplateEngine());
+        MarkdownFile article = new MarkdownFile(
+                new MarkdownProperties(true, "title", LocalDate.of(2025, 1, 1)),
+                "# 제목\n\n| a | b |\n|---|---|\n| 1 | 2 |",
+                "article.html"
+        );
+
+        Path mockSourceDir = mock(Path.class);
+        when(mockFinder.findAll(mockSourceDir)).thenReturn(List.of());
+        when(mockMapper.collectPublishedMarkdownFiles(any(), any())).thenReturn(new ArrayList<>(List.of(article)));
+
+        ResultManager streamingManager = new ResultManager(mockFinder, mockMapper, generator, tempDir,
+                new BuildOptions().withOutputFormat(OutputFormat.NONE).withThreads(2));
+        streamingManager.processAndSaveResults(mockSourceDir);
+
+        MarkdownFile indexPage = new MarkdownFile(new MarkdownProperties(true, "index", LocalDate.now()), "", "index.html");
+        MarkdownFile listPage = new MarkdownFile(new MarkdownProperties(true, "list", LocalDate.now()), "", "list.html");
+        MarkdownFile archivePage = new MarkdownFile(new MarkdownProperties(true, "archive", LocalDate.now()), "", "archive.html");
+
+        assertEquals(generator.generateToHtml(article), Files.readString(tempDir.resolve("article.html")));
+        assertEquals(generator.generateMainPage(indexPage, article), Files.readString(tempDir.resolve("index.html")));
+        assertEquals(generator.generateToHtml(listPage, GenerateType.LIST), Files.readString(tempDir.resolve("list.html")));
+        assertEquals(generator.generateArchivePage(archivePage), Files.readString(tempDir.resolve("archive.html")));
+    }
+
+    /**
+     * 스트리밍 렌더링이 도중에 실패하는 경우 테스트
+     * 절반만 렌더링된 내용으로 기존 페이지를 덮어쓰지 않고, 임시 파일도 남지 않아야 함
+     */
+    @Test
+    void testFailedStreamingRenderKeepsExistingPage(@TempDir Path tempDir) throws IOException {
+        MarkdownFile article = new MarkdownFile(
+                new MarkdownProperties(true, "article", LocalDate.of(2025, 1, 1)), "", "article.html");
+        Path page = tempDir.resolve("article.html");
+        Files.writeString(page, "<html>이전</html>");
+
+        SyncSiteOutput syncOutput = new SyncSiteOutput(tempDir);
+        DiskSiteOutput diskOutput = new DiskSiteOutput(tempDir);
+        MemorySiteOutput memoryOutput = new MemorySiteOutput();
+        memoryOutput.write("article.html", "<html>이전</html>");
+
+        Path mockSourceDir = mock(Path.class);
+        when(mockFinder.findAll(mockSourceDir)).thenReturn(List.of());
+        when(mockMapper.collectPublishedMarkdownFiles(any())).thenAnswer(invocation -> new ArrayList<>(List.of(article)));
+        doAnswer(invocation -> {
+            invocation.<Appendable>getArgument(2).append("<html><body>절반");
+            throw new IllegalStateException("render failed");
+        }).when(mockGenerator).generateToHtml(eq(article), eq(GenerateType.ARTICLE), any(Appendable.class));
+
+        for (SiteOutput output : List.of(syncOutput, diskOutput, memoryOutput)) {
+            ResultManager streamingManager = new ResultManager(mockFinder, mockMapper, mockGenerator, output,
+                    new BuildOptions().withOutputFormat(OutputFormat.MINIFY));
+
+            assertThrows(IllegalStateException.class, () -> streamingManager.processAndSaveResults(mockSourceDir));
+            assertEquals("<html>이전</html>", output.read("article.html"));
+        }
 
-            // 캡처된 HTML 내용 검증
-            List<String> capturedContent = contentCaptor.getAllValues();
-            assertEquals( "{\"posts\":[{\"title\":\"title\",\"path\":\"/title.html\",\"date\":\"2025-01-01\"}],\"page\":{\"current\":1,\"last\":1,\"count\":1,\"hasNext\":false,\"hasPrev\":false}}", capturedContent.getFirst());
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(List.of(), files.filter(file -> file.getFileName().toString().endsWith(".jimple-tmp")).toList());
         }
     }
 
+    /**
+     * 병렬 렌더링 중 일부 페이지가 실패하는 경우 테스트
+     * 나머지 페이지는 저장되고, 실패한 페이지는 PageRenderException 으로 모아서 보고되어야 함
+     */
+    @Test
+    void testParallelRenderingCollectsFailures(@TempDir Path tempDir) {
+        MarkdownFile okFile = new MarkdownFile(
+                new MarkdownProperties(true, "ok", LocalDate.of(2025, 1, 2)), "", "ok.html");
+        MarkdownFile brokenFile = new MarkdownFile(
+                new MarkdownProperties(true, "broken", LocalDate.of(2025, 1, 1)), "", "broken.html");
 
-}
\ No newline at end of file
+        Path mockSourceDir = mock(Path.class);
+        when(mockFinder.findAll(mockSourceDir)).thenReturn(List.of());
+        when(mockMapper.collectPublishedMarkdownFiles(any(), any())).thenReturn(new ArrayList<>(List.of(okFile, brokenFile)));
+        when(mockGenerator.generateToHtml(okFile, GenerateType.ARTICLE)).thenReturn("<html>OK</html>");
+        when(mockGenerator.generateToHtml(brokenFile, GenerateType.ARTICLE)).thenThrow(new IllegalStateException("render failed"));
+        when(mockGenerator.generateToHtml(any(), eq(GenerateType.LIST))).thenReturn("<html>List</html>");
+        when(mockGenerator.generateMainPage(any(), any())).thenReturn("<html>Index</html>");
+        when(mockGenerator.generateArchivePage(any())).thenReturn("<html>Archive</html>");
+
+        ResultManager parallelManager = new ResultManager(mockFinder, mockMapper, mockGenerator, tempDir,
+                new BuildOptions().withThreads(BuildOptions.VIRTUAL_THREADS));
+
+        PageRenderException exception = assertThrows(
+                PageRenderException.class,
+                () -> parallelManager.processAndSaveResults(mockSourceDir)
+        );
+
+        assertEquals(List.of("broken.html"), List.copyOf(exception.getFailures().keySet()));
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        assertTrue(Files.exists(tempDir.resolve("ok.html")));
+        assertTrue(Files.exists(tempDir.resolve("index.html")));
+    }
+
+    /**
+     * 증분 빌드 모드 테스트
+     * 두 번째 빌드에서는 변경된 게시글만 다시 렌더링하고, 사라진 게시글의 출력은 삭제되어야 함
+     */
+    @Test
+    void testIncrementalBuildRendersOnlyChangedPages(@TempDir Path tempDir) throws IOException {
+        MarkdownFile unchanged = new MarkdownFile(
+                new MarkdownProperties(true, "unchanged", LocalDate.of(2025, 1, 3)), "same", "unchanged.html");
+        MarkdownFile edited = new MarkdownFile(
+                new MarkdownProperties(true, "edited", LocalDate.of(2025, 1, 2)), "before", "edited.html");
+        MarkdownFile removed = new MarkdownFile(
+                new MarkdownProperties(true, "removed", LocalDate.of(2025, 1, 1)), "gone", "removed.html");
+        MarkdownFile editedAfter = new MarkdownFile(edited.properties(), "after", "edited.html");
+
+        Path mockSourceDir = mock(Path.class);
+        when(mockFinder.findAll(mockSourceDir)).thenReturn(List.of());
+        when(mockMapper.collectPublishedMarkdownFiles(any()))
+                .thenReturn(new ArrayList<>(List.of(unchanged, edited, removed)))
+                .thenReturn(new ArrayList<>(List.of(unchanged, editedAfter)));
+        when(mockGenerator.fingerprint()).thenReturn("generator");
+        when(mockGenerator.generateToHtml(any(), eq(GenerateType.ARTICLE))).thenAnswer(invocation ->
+                "<html><body>" + invocation.<MarkdownFile>getArgument(0).contents() + "</body></html>");
+        when(mockGenerator.generateToHtml(any(), eq(GenerateType.LIST))).thenReturn("<html>List</html>");
+        when(mockGenerator.generateMainPage(any(), any())).thenReturn("<html>Index</html>");
+        when(mockGenerator.generateArchivePage(any())).thenReturn("<html>Archive</html>");
+
+        ResultManager incrementalManager = new ResultManager(mockFinder, mockMapper, mockGenerator, tempDir,
+                new BuildOptions().withIncremental(true));
+
+        incrementalManager.processAndSaveResults(mockSourceDir);
+        incrementalManager.processAndSaveResults(mockSourceDir);
+
+        verify(mockGenerator, times(1)).generateToHtml(unchanged, GenerateType.ARTICLE);
+        verify(mockGenerator, times(1)).generateToHtml(edited, GenerateType.ARTICLE);
+        verify(mockGenerator, times(1)).generateToHtml(editedAfter, GenerateType.ARTICLE);
+        verify(mockGenerator, times(1)).generateToHtml(any(), eq(GenerateType.LIST));
+        verify(mockGenerator, times(1)).generateArchivePage(any());
+
+        assertTrue(Files.readString(tempDir.resolve("edited.html")).contains("after"));
+        assertTrue(Files.exists(tempDir.resolve("unchanged.html")));
+        assertFalse(Files.exists(tempDir.resolve("removed.html")));
+        assertTrue(Files.exists(tempDir.resolve(BuildManifestTracker.MANIFEST_FILE)));
+    }
+
+    /**
+     * JSON 은 파일 Writer 로 스트리밍되므로 Files.newBufferedWriter 를 메모리 Writer 로 대체하고 기록된 내용을 순서대로 모음
+     */
+    private static List<StringWriter> captureWriters(MockedStatic<Files> mockedFiles) {
+        List<StringWriter> writers = new ArrayList<>();
+        mockedFiles.when(() -> Files.newBufferedWriter(any(), any(OpenOption[].class))).thenAnswer(invocation -> {
+            StringWriter writer = new StringWriter();
+            writers.add(writer);
+            return new BufferedWriter(writer);
+        });
+        return writers;
+    }
+}
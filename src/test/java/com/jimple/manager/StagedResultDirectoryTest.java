@@ -0,0 +1,131 @@
+package com.jimple.manager;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StagedResultDirectory 테스트")
+class StagedResultDirectoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("결과 디렉토리가 없으면 새 세대를 가리키는 심볼릭 링크를 생성")
+    void testPublishCreatesSymbolicLink() throws IOException {
+        Path resultDir = tempDir.resolve("site");
+
+        StagedResultDirectory staged = StagedResultDirectory.prepare(resultDir, true);
+        new SyncSiteOutput(staged.stagingDir()).write("index.html", "<p>첫 빌드</p>");
+        assertFalse(Files.exists(resultDir));
+
+        staged.publish();
+
+        assertTrue(Files.isSymbolicLink(resultDir));
+        assertEquals(staged.stagingDir().getFileName(), Files.readSymbolicLink(resultDir));
+        assertEquals("<p>첫 빌드</p>", Files.readString(resultDir.resolve("index.html")));
+    }
+
+    @Test
+    @DisplayName("새 세대는 이전 결과를 하드 링크로 공유하고, 바뀐 파일은 교체 전까지 현재 결과에 보이지 않음")
+    void testStagingSharesUnchangedFilesAndIsolatesChanges() throws IOException {
+        Path resultDir = tempDir.resolve("site");
+        publish(resultDir, "index.html", "<p>이전</p>", "post.html", "<p>글</p>");
+
+        StagedResultDirectory staged = StagedResultDirectory.prepare(resultDir, true);
+        Path stagingDir = staged.stagingDir();
+        assertTrue(Files.isSameFile(resultDir.resolve("post.html"), stagingDir.resolve("post.html")));
+
+        SyncSiteOutput output = new SyncSiteOutput(stagingDir);
+        output.write("post.html", "<p>글</p>");
+        output.write("index.html", "<p>이후</p>");
+
+        assertEquals(List.of("index.html"), List.copyOf(output.changes().keySet()));
+        assertTrue(Files.isSameFile(resultDir.resolve("post.html"), stagingDir.resolve("post.html")));
+        assertEquals("<p>이전</p>", Files.readString(resultDir.resolve("index.html")));
+
+        staged.publish();
+
+        assertEquals("<p>이후</p>", Files.readString(resultDir.resolve("index.html")));
+    }
+
+    @Test
+    @DisplayName("교체 후에는 현재 세대와 바로 이전 세대만 남김")
+    void testPublishKeepsCurrentAndPreviousGenerations() throws IOException {
+        Path resultDir = tempDir.resolve("site");
+        publish(resultDir, "index.html", "1");
+        Path first = resultDir.toRealPath();
+        publish(resultDir, "index.html", "2");
+        Path second = resultDir.toRealPath();
+        publish(resultDir, "index.html", "3");
+        Path third = resultDir.toRealPath();
+
+        assertEquals(List.of(second, third).stream().sorted().toList(), generations());
+        assertFalse(Files.exists(first));
+        assertEquals("2", Files.readString(second.resolve("index.html")));
+    }
+
+    @Test
+    @DisplayName("실제 디렉토리인 결과는 이전 세대로 옮기고 심볼릭 링크로 전환")
+    void testConvertsExistingDirectory() throws IOException {
+        Path resultDir = tempDir.resolve("site");
+        Files.createDirectories(resultDir.resolve("assets"));
+        Files.writeString(resultDir.resolve("assets/jimple.css"), "body{}");
+
+        StagedResultDirectory staged = StagedResultDirectory.prepare(resultDir, true);
+        assertEquals("body{}", Files.readString(staged.stagingDir().resolve("assets/jimple.css")));
+        staged.publish();
+
+        assertTrue(Files.isSymbolicLink(resultDir));
+        assertEquals("body{}", Files.readString(resultDir.resolve("assets/jimple.css")));
+        assertEquals(2, generations().size());
+    }
+
+    @Test
+    @DisplayName("채우지 않거나 버린 새 세대는 현재 결과에 영향을 주지 않음")
+    void testDiscardKeepsCurrentResult() throws IOException {
+        Path resultDir = tempDir.resolve("site");
+        publish(resultDir, "index.html", "<p>현재</p>");
+
+        StagedResultDirectory staged = StagedResultDirectory.prepare(resultDir, false);
+        try (Stream<Path> files = Files.list(staged.stagingDir())) {
+            assertEquals(0, files.count());
+        }
+        staged.discard();
+
+        assertFalse(Files.exists(staged.stagingDir()));
+        assertEquals("<p>현재</p>", Files.readString(resultDir.resolve("index.html")));
+    }
+
+    private static void publish(Path resultDir, String... pathsAndContents) throws IOException {
+        StagedResultDirectory staged = StagedResultDirectory.prepare(resultDir, true);
+        SyncSiteOutput output = new SyncSiteOutput(staged.stagingDir());
+        for (int i = 0; i < pathsAndContents.length; i += 2) {
+            output.write(pathsAndContents[i], pathsAndContents[i + 1]);
+        }
+        staged.publish();
+    }
+
+    private List<Path> generations() throws IOException {
+        try (Stream<Path> paths = Files.list(tempDir)) {
+            return paths.filter(path -> path.getFileName().toString().startsWith("site.gen-"))
+                    .map(path -> {
+                        try {
+                            return path.toRealPath();
+                        } catch (IOException e) {
+                            throw new RuntimeException(e);
+                        }
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.jimple.manager;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SyncSiteOutput 테스트")
+class SyncSiteOutputTest {
+    private static final FileTime OLD_TIME = FileTime.fromMillis(1_000_000_000_000L);
+
+    @TempDir
+    Path resultDir;
+
+    @Test
+    @DisplayName("내용이 같은 파일은 다시 쓰지 않고 바뀐 파일만 기록")
+    void testWritesOnlyChangedFiles() throws IOException {
+        Path same = write("same.html", "<p>같음</p>");
+        Path changed = write("changed.json", "{\"a\":1}");
+
+        SyncSiteOutput output = new SyncSiteOutput(resultDir);
+        output.write("same.html", "<p>같음</p>");
+        output.write("changed.json", "{\"a\":2}");
+        output.write("assets/fonts/new.woff2", new byte[]{1, 2, 3});
+
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(same));
+        assertNotEquals(OLD_TIME, Files.getLastModifiedTime(changed));
+        assertEquals("{\"a\":2}", Files.readString(changed));
+        assertEquals(Map.of(
+                "changed.json", OutputChange.MODIFIED,
+                "assets/fonts/new.woff2", OutputChange.ADDED
+        ), output.changes());
+    }
+
+    @Test
+    @DisplayName("Writer 로 기록한 내용도 작업이 끝나면 비교하여 다를 때만 교체")
+    void testWriterReplacesOnlyWhenContentsDiffer() throws IOException {
+        Path same = write("same.html", "<html>같음</html>");
+        Path changed = write("changed.html", "<html>이전</html>");
+
+        SyncSiteOutput output = new SyncSiteOutput(resultDir);
+        output.write("same.html", writer -> {
+            writer.write("<html>");
+            writer.write("같음</html>");
+        });
+        output.write("changed.html", writer -> writer.write("<html>이후</html>"));
+
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(same));
+        assertEquals("<html>이후</html>", Files.readString(changed));
+        assertEquals(Map.of("changed.html", OutputChange.MODIFIED), output.changes());
+        try (var files = Files.list(resultDir)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Writer 로 기록하다 실패하면 임시 파일만 지우고 기존 파일을 그대로 둠")
+    void testFailedWriterKeepsExistingFile() throws IOException {
+        Path page = write("page.html", "<html>이전</html>");
+
+        SyncSiteOutput output = new SyncSiteOutput(resultDir);
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () ->
+                output.write("page.html", writer -> {
+                    writer.write("<html>절반");
+                    writer.flush();
+                    throw new IllegalStateException("render failed");
+                }));
+
+        assertEquals("render failed", exception.getMessage());
+        assertEquals("<html>이전</html>", Files.readString(page));
+        assertEquals(OLD_TIME, Files.getLastModifiedTime(page));
+        assertEquals(Map.of(), output.changes());
+        try (var files = Files.list(resultDir)) {
+            assertEquals(List.of(page), files.toList());
+        }
+    }
+
+    @Test
+    @DisplayName("이번 빌드에서 쓰지 않은 파일과 빈 디렉토리만 삭제하고 변경 목록에 기록")
+    void testDeletesOrphansAndWritesChangeList() throws IOException {
+        write("kept.html", "유지");
+        write("kept.html.gz", "압축");
+        write("old/removed.json", "삭제");
+
+        SyncSiteOutput output = new SyncSiteOutput(resultDir);
+        output.write("kept.html", "유지");
+        output.write("new.html", "추가");
+
+        List<String> deleted = output.deleteOrphans(path -> path.endsWith(".gz"));
+
+        assertEquals(List.of("old/removed.json"), deleted);
+        assertTrue(Files.exists(resultDir.resolve("kept.html.gz")));
+        assertFalse(Files.exists(resultDir.resolve("old")));
+
+        Path listFile = resultDir.resolveSibling(resultDir.getFileName() + "-changes.txt");
+        try {
+            output.writeChangeList(listFile, Map.of("new.html.gz", OutputChange.ADDED));
+            assertEquals("A\tnew.html\nA\tnew.html.gz\nD\told/removed.json\n", Files.readString(listFile));
+        } finally {
+            Files.deleteIfExists(listFile);
+        }
+    }
+
+    private Path write(String path, String contents) throws IOException {
+        Path file = resultDir.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, contents);
+        Files.setLastModifiedTime(file, OLD_TIME);
+        return file;
+    }
+}
@@ -0,0 +1,118 @@
+package com.jimple.model.category;
+
+import com.jimple.model.md.MarkdownFile;
+import com.jimple.model.md.MarkdownProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CategoryIndex 클래스에 대한 단위 테스트
+ */
+class CategoryIndexTest {
+
+    @Test
+    void build_전체_경로로_카테고리를_바로_조회() {
+        // given
+        List<MarkdownFile> files = List.of(
+                createMarkdownFile("Spring", "개발/Java/Spring"),
+                createMarkdownFile("Java 기초", "개발/Java"),
+                createMarkdownFile("여행기", "일상"),
+                createMarkdownFile("공지", "")
+        );
+
+        // when
+        CategoryIndex index = CategoryIndex.build(files);
+
+        // then
+        assertSame(index.root(), index.get(""));
+        assertSame(index.root(), index.get(null));
+        assertEquals("Spring", index.get("개발/Java/Spring").name());
+        assertEquals(2, index.get("개발/Java/Spring").level());
+        assertEquals(1, index.get("개발/Java").posts().size());
+        assertNull(index.get("없는/카테고리"));
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    void build_조회한_카테고리는_트리의_노드와_같은_인스턴스() {
+        // given
+        List<MarkdownFile> files = List.of(createMarkdownFile("Spring", "개발/Java/Spring"));
+
+        // when
+        CategoryIndex index = CategoryIndex.build(files);
+
+        // then
+        CategoryInfo java = index.root().subCategories().getFirst().subCategories().getFirst();
+        assertSame(java, index.get("개발/Java"));
+        assertSame(java.subCategories().getFirst(), index.get("개발/Java/Spring"));
+    }
+
+    @Test
+    void paths_루트를_제외한_경로를_사전순으로_반환() {
+        // given
+        List<MarkdownFile> files = List.of(
+                createMarkdownFile("글1", "일상"),
+                createMarkdownFile("글2", "개발/Java"),
+                createMarkdownFile("글3", " 개발 / Python ")
+        );
+
+        // when
+        CategoryIndex index = CategoryIndex.build(files);
+
+        // then
+        assertEquals(List.of("개발", "개발/Java", "개발/Python", "일상"), index.paths());
+    }
+
+    @Test
+    void build_하위_카테고리를_포함한_게시글_수() {
+        // given
+        List<MarkdownFile> files = List.of(
+                createMarkdownFile("글1", "개발"),
+                createMarkdownFile("글2", "개발/Java"),
+                createMarkdownFile("글3", "개발/Java/Spring"),
+                createMarkdownFile("글4", "일상"),
+                createMarkdownFile("글5", "")
+        );
+
+        // when
+        CategoryIndex index = CategoryIndex.build(files);
+
+        // then
+        assertEquals(5, index.root().getTotalPostCount());
+        assertEquals(3, index.get("개발").getTotalPostCount());
+        assertEquals(2, index.get("개발/Java").getTotalPostCount());
+        assertEquals(1, index.get("일상").getTotalPostCount());
+    }
+
+    @Test
+    void build_하위_카테고리는_이름순_게시글은_제목순으로_정렬() {
+        // given
+        List<MarkdownFile> files = new ArrayList<>(List.of(
+                createMarkdownFile("나", "개발/Python"),
+                createMarkdownFile("다", "개발/Java"),
+                createMarkdownFile("가", "개발/Java")
+        ));
+
+        // when
+        CategoryIndex index = CategoryIndex.build(files);
+
+        // then
+        assertEquals(List.of("Java", "Python"),
+                index.get("개발").subCategories().stream().map(CategoryInfo::name).toList());
+        assertEquals(List.of("가", "다"),
+                index.get("개발/Java").posts().stream().map(file -> file.properties().title()).toList());
+    }
+
+    private MarkdownFile createMarkdownFile(String title, String path) {
+        return new MarkdownFile(
+                new MarkdownProperties(true, title, LocalDate.of(2025, 1, 1), "", "", path),
+                "내용",
+                title + ".html"
+        );
+    }
+}
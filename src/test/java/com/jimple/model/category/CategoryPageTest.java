@@ -0,0 +1,29 @@
+package com.jimple.model.category;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CategoryPage 클래스에 대한 단위 테스트
+ */
+class CategoryPageTest {
+
+    @Test
+    void fileName_첫_페이지는_기존_이름_이후_페이지는_번호를_붙임() {
+        assertEquals("category-root.json", CategoryPage.fileName(""));
+        assertEquals("category-개발-Java.json", CategoryPage.fileName("개발/Java"));
+        assertEquals("category-개발-Java.json", CategoryPage.fileName("개발/Java", 1));
+        assertEquals("category-개발-Java.page-2.json", CategoryPage.fileName("개발/Java", 2));
+        assertEquals("category-root.page-3.json", CategoryPage.fileName("", 3));
+        assertThrows(IllegalArgumentException.class, () -> CategoryPage.fileName("개발", 0));
+    }
+
+    @Test
+    void lastPage_게시글이_없어도_첫_페이지는_있음() {
+        assertEquals(1, CategoryPage.lastPage(0, 10));
+        assertEquals(1, CategoryPage.lastPage(10, 10));
+        assertEquals(2, CategoryPage.lastPage(11, 10));
+        assertEquals(1, CategoryPage.lastPage(1000, CategoryPage.UNPAGED));
+    }
+}
@@ -4,6 +4,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -11,6 +13,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.PosixFilePermission;
 import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Arrays;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -105,6 +108,135 @@ class SimpleMarkdownExtractorTest {
         }
     }
 
+    @Nested
+    @DisplayName("ReadFrontMatter")
+    class ReadFrontMatterTests {
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "---\ntitle: 테스트\npublish: true\n---\n본문",
+                "\uFEFF---\ntitle: BOM\n---\n본문",
+                "\n\n  ---\ntitle: 앞쪽 공백\n---\n본문",
+                "---\ntitle: 닫히지 않은 머리말\n본문",
+                "머리말 없는 본문\n---\n",
+                "",
+                "--",
+                "---\ntitle: a---b\n---\n본문"
+        })
+        void testReadFrontMatterMatchesFullRead(String contents, @TempDir Path tempDir) throws IOException {
+            // Arrange
+            Path testFile = tempDir.resolve("post.md");
+            Files.writeString(testFile, contents, StandardCharsets.UTF_8);
+
+            // Act
+            String result = extractor.readFrontMatter(testFile);
+
+            // Assert
+            assertEquals(extractor.extractFrontMatter(extractor.extractFullContents(testFile)), result);
+        }
+
+        @Test
+        void testReadFrontMatterWithLongFrontMatter(@TempDir Path tempDir) throws IOException {
+            // Arrange
+            String frontMatter = "title: 긴 머리말\ndescription: " + "가".repeat(10_000);
+            Path testFile = tempDir.resolve("long.md");
+            Files.writeString(testFile, "---\n" + frontMatter + "\n---\n본문", StandardCharsets.UTF_8);
+
+            // Act
+            String result = extractor.readFrontMatter(testFile);
+
+            // Assert
+            assertEquals(frontMatter, result);
+        }
+
+        @Test
+        void testReadFrontMatterDoesNotReadBody(@TempDir Path tempDir) throws IOException {
+            // Arrange: 머리말 뒤 멀리 떨어진 본문에 잘못된 UTF-8 바이트를 넣어 본문을 읽으면 실패하도록 구성
+            Path testFile = tempDir.resolve("draft.md");
+            byte[] head = ("---\ntitle: 초안\npublish: false\n---\n" + "본문 ".repeat(20_000))
+                    .getBytes(StandardCharsets.UTF_8);
+            byte[] contents = Arrays.copyOf(head, head.length + 2);
+            contents[head.length] = (byte) 0xC3;
+            contents[head.length + 1] = (byte) 0x28;
+            Files.write(testFile, contents);
+
+            // Act
+            String result = extractor.readFrontMatter(testFile);
+
+            // Assert
+            assertEquals("title: 초안\npublish: false", result);
+            assertThrows(RuntimeException.class, () -> extractor.extractFullContents(testFile));
+        }
+
+        @Test
+        void testReadFrontMatterWithNonexistentFile() {
+            // Act & Assert
+            Exception exception = assertThrows(RuntimeException.class,
+                    () -> extractor.readFrontMatter(Path.of("doesNotExist.md")));
+
+            assertTrue(exception.getMessage().contains("파일을 읽는 중 오류가 발생했습니다"));
+            assertInstanceOf(IOException.class, exception.getCause());
+        }
+    }
+
+    @Nested
+    @DisplayName("Open")
+    class OpenTests {
+        @ParameterizedTest
+        @ValueSource(strings = {
+                "---\ntitle: 테스트\npublish: true\n---\n본문",
+                "\uFEFF---\ntitle: BOM\n---\n본문",
+                "---\ntitle: 닫히지 않은 머리말\n본문",
+                "머리말 없는 본문\n---\n",
+                "",
+                "--"
+        })
+        void testOpenMatchesFullRead(String contents, @TempDir Path tempDir) throws IOException {
+            // Arrange
+            Path testFile = tempDir.resolve("post.md");
+            Files.writeString(testFile, contents, StandardCharsets.UTF_8);
+            String fullContents = extractor.extractFullContents(testFile);
+
+            // Act & Assert
+            try (MarkdownSource source = extractor.open(testFile)) {
+                assertEquals(extractor.extractFrontMatter(fullContents), source.frontMatter());
+                assertEquals(extractor.extractContent(fullContents), source.content());
+            }
+        }
+
+        @Test
+        void testOpenContinuesBodyAfterFrontMatter(@TempDir Path tempDir) throws IOException {
+            // Arrange: 머리말과 본문이 모두 읽기 단위보다 길도록 구성
+            String frontMatter = "title: 긴 머리말\ndescription: " + "가".repeat(5_000);
+            String body = "본문 😀 ".repeat(20_000).trim();
+            Path testFile = tempDir.resolve("long.md");
+            Files.writeString(testFile, "---\n" + frontMatter + "\n---\n" + body, StandardCharsets.UTF_8);
+
+            // Act & Assert
+            try (MarkdownSource source = extractor.open(testFile)) {
+                assertEquals(frontMatter, source.frontMatter());
+                assertEquals(body, source.content());
+            }
+        }
+
+        @Test
+        void testOpenWithMalformedBody(@TempDir Path tempDir) throws IOException {
+            // Arrange: 본문 끝에 잘못된 UTF-8 바이트
+            Path testFile = tempDir.resolve("broken.md");
+            byte[] head = ("---\ntitle: 깨진 본문\n---\n" + "본문 ".repeat(20_000)).getBytes(StandardCharsets.UTF_8);
+            byte[] contents = Arrays.copyOf(head, head.length + 2);
+            contents[head.length] = (byte) 0xC3;
+            contents[head.length + 1] = (byte) 0x28;
+            Files.write(testFile, contents);
+
+            // Act & Assert: 전체 읽기와 같이 본문을 읽을 때 예외 발생
+            try (MarkdownSource source = extractor.open(testFile)) {
+                assertEquals("title: 깨진 본문", source.frontMatter());
+                Exception exception = assertThrows(RuntimeException.class, source::content);
+                assertInstanceOf(IOException.class, exception.getCause());
+            }
+        }
+    }
+
     @Nested
     @DisplayName("ExtractFullContents")
     class ExtractFullContentsTests {
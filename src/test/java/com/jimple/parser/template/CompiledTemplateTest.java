@@ -0,0 +1,198 @@
+package com.jimple.parser.template;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CompiledTemplate 클래스에 대한 단위 테스트
+ * 기존 정규식 기반 구현을 기준으로 결과가 같은지 비교한다.
+ */
+class CompiledTemplateTest {
+    private static final Pattern LEGACY_VARIABLE_PATTERN = Pattern.compile("\\{\\{([^}]+)}}");
+    private static final Pattern LEGACY_SECTION_PATTERN = Pattern.compile(
+            "\\{\\{#([^}]+)}}([\\s\\S]*?)\\{\\{/\\1}}",
+            Pattern.DOTALL
+    );
+
+    @Test
+    void compile_리터럴_변수_섹션_노드로_분리() {
+        CompiledTemplate template = CompiledTemplate.compile("Hi {{name}}!{{#vip}} VIP{{/vip}}");
+
+        assertEquals(List.of(
+                new TemplateNode.Literal("Hi "),
+                new TemplateNode.Variable("name"),
+                new TemplateNode.Literal("!"),
+                new TemplateNode.Section("vip", List.of(new TemplateNode.Literal(" VIP")))
+        ), template.nodes());
+    }
+
+    @Test
+    void render_값을_문자열로_변환하여_치환() {
+        CompiledTemplate template = CompiledTemplate.compile("{{count}}개, {{missing}}끝");
+
+        assertEquals("3개, 끝", template.render(Map.of("count", 3)));
+    }
+
+    @Test
+    void render_값_안의_태그는_다시_치환하지_않음() {
+        CompiledTemplate template = CompiledTemplate.compile("{{a}}");
+
+        assertEquals("{{b}}", template.render(Map.of("a", "{{b}}", "b", "x")));
+    }
+
+    @Test
+    void render_Appendable_에_문자열_결과와_같은_내용을_기록() throws IOException {
+        CompiledTemplate template = CompiledTemplate.compile("<h1>{{title}}</h1>{{#show}}<p>{{body}}</p>{{/show}}");
+        Map<String, Object> data = Map.of("title", "제목", "show", true, "body", "본문");
+        StringWriter out = new StringWriter();
+
+        template.render(data, out);
+
+        assertEquals(template.render(data), out.toString());
+    }
+
+    @Test
+    void render_TemplateFragment_값은_직접_기록() throws IOException {
+        CompiledTemplate template = CompiledTemplate.compile("<main>{{content}}</main>");
+        TemplateFragment content = target -> target.append("<p>").append("스트리밍").append("</p>");
+        StringWriter out = new StringWriter();
+
+        template.render(Map.of("content", content), out);
+
+        assertEquals("<main><p>스트리밍</p></main>", out.toString());
+        assertEquals("<main><p>스트리밍</p></main>", template.render(Map.of("content", content)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "plain text",
+            "{{name}}",
+            "{{ name }}",
+            "{{}}",
+            "{{name}",
+            "{{{name}}}",
+            "{{#flag}}on{{/flag}}",
+            "{{#flag}}on",
+            "{{/flag}}",
+            "{{#flag}}{{#other}}nested{{/other}}{{/flag}}",
+            "{{#flag}}a{{/flag}}b{{/flag}}",
+            "{{#flag}}{{#flag}}x{{/flag}}{{/flag}}",
+            "{{#zero}}zero{{/zero}}{{#empty}}empty{{/empty}}{{#text}}{{text}}{{/text}}",
+            "a {{name}} b {{#flag}}\n  multi\n  {{name}}\n{{/flag}} c {{#missing}}hidden{{/missing}}",
+            "{{#}}x{{/}}",
+            "}}{{name}}{{"
+    })
+    void render_기존_정규식_구현과_동일한_결과(String template) {
+        Map<String, Object> data = sampleData();
+
+        assertEquals(legacyProcess(template, data), CompiledTemplate.compile(template).render(data));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "templates/article.html",
+            "templates/list.html",
+            "templates/index.html",
+            "templates/archive.html",
+            "templates/latest-article.html",
+            "templates/profile.html"
+    })
+    @DisplayName("리소스 템플릿 렌더링 결과가 기존 구현과 동일")
+    void render_리소스_템플릿이_기존_구현과_동일(String resourcePath) throws IOException {
+        String template = new SimpleTemplateEngine().loadTemplate(resourcePath);
+
+        for (boolean flag : List.of(true, false)) {
+            Map<String, Object> data = sampleData();
+            data.put("showDate", flag);
+            data.put("thumbnailUrl", flag ? "thumb.png" : "");
+            if (flag) {
+                data.put("descriptionHtml", "<p>설명</p>");
+            }
+
+            assertEquals(legacyProcess(template, data), CompiledTemplate.compile(template).render(data));
+        }
+    }
+
+    @Test
+    void render_여러_스레드에서_동시에_렌더링() throws Exception {
+        CompiledTemplate template = CompiledTemplate.compile("<p>{{name}}</p>{{#flag}}<b>{{name}}</b>{{/flag}}");
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String name = "n" + i;
+                results.add(executor.submit(() -> template.render(Map.of("name", name, "flag", true))));
+            }
+
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals("<p>n" + i + "</p><b>n" + i + "</b>", results.get(i).get());
+            }
+        }
+    }
+
+    private Map<String, Object> sampleData() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("name", "John");
+        data.put(" name ", "Spaced");
+        data.put("flag", true);
+        data.put("other", false);
+        data.put("zero", 0);
+        data.put("empty", "");
+        data.put("text", "value");
+        data.put("title", "제목");
+        data.put("content", "<p>본문</p>");
+        data.put("blogTitle", "블로그");
+        data.put("menuPosition", "top");
+        return data;
+    }
+
+    /**
+     * 컴파일 엔진 도입 전 SimpleTemplateEngine.processTemplate 의 정규식 기반 구현
+     */
+    private String legacyProcess(String template, Map<String, Object> data) {
+        Matcher sectionMatcher = LEGACY_SECTION_PATTERN.matcher(template);
+        StringBuilder sb = new StringBuilder();
+
+        while (sectionMatcher.find()) {
+            Object conditionValue = data.get(sectionMatcher.group(1));
+            boolean condition = switch (conditionValue) {
+                case Boolean b -> b;
+                case String s -> !s.isEmpty();
+                case Number number -> number.doubleValue() != 0;
+                case null, default -> conditionValue != null;
+            };
+
+            String replacement = condition ? sectionMatcher.group(2) : "";
+            sectionMatcher.appendReplacement(sb, Matcher.quoteReplacement(replacement));
+        }
+        sectionMatcher.appendTail(sb);
+
+        Matcher matcher = LEGACY_VARIABLE_PATTERN.matcher(sb.toString());
+        StringBuilder result = new StringBuilder();
+
+        while (matcher.find()) {
+            Object value = data.get(matcher.group(1));
+            matcher.appendReplacement(result, Matcher.quoteReplacement(value != null ? value.toString() : ""));
+        }
+        matcher.appendTail(result);
+
+        return result.toString();
+    }
+}
@@ -0,0 +1,115 @@
+package com.jimple.parser.template;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TemplateRepository 클래스에 대한 단위 테스트
+ */
+class TemplateRepositoryTest {
+
+    @TempDir
+    Path overrideDir;
+
+    @Test
+    void load_클래스패스_템플릿을_한_번만_읽어_캐시() throws IOException {
+        TemplateRepository repository = new TemplateRepository();
+
+        String first = repository.load("templates/example_template.txt");
+        String second = repository.load("templates/example_template.txt");
+
+        assertEquals("This is a test template.", first);
+        assertSame(first, second);
+        assertSame(repository.loadCompiled("templates/example_template.txt"),
+                repository.loadCompiled("templates/example_template.txt"));
+    }
+
+    @Test
+    void load_없는_템플릿은_IOException() {
+        TemplateRepository repository = new TemplateRepository();
+
+        IOException exception = assertThrows(IOException.class, () -> repository.load("templates/none.html"));
+
+        assertEquals("템플릿 파일을 찾을 수 없습니다: templates/none.html", exception.getMessage());
+    }
+
+    @Test
+    void load_덮어쓰기_파일이_클래스패스보다_우선() throws IOException {
+        writeOverride("templates/example_template.txt", "overridden {{name}}", Instant.parse("2025-01-01T00:00:00Z"));
+        TemplateRepository repository = new TemplateRepository(overrideDir);
+
+        assertEquals("overridden {{name}}", repository.load("templates/example_template.txt"));
+    }
+
+    @Test
+    void load_덮어쓰기_파일의_수정_시각이_바뀌면_다시_읽음() throws IOException {
+        writeOverride("templates/example_template.txt", "v1", Instant.parse("2025-01-01T00:00:00Z"));
+        TemplateRepository repository = new TemplateRepository(overrideDir);
+        String first = repository.load("templates/example_template.txt");
+
+        writeOverride("templates/example_template.txt", "v2", Instant.parse("2025-01-02T00:00:00Z"));
+        String second = repository.load("templates/example_template.txt");
+
+        assertEquals("v1", first);
+        assertEquals("v2", second);
+    }
+
+    @Test
+    void load_수정_시각이_같으면_캐시된_템플릿_사용() throws IOException {
+        Instant modified = Instant.parse("2025-01-01T00:00:00Z");
+        writeOverride("templates/example_template.txt", "v1", modified);
+        TemplateRepository repository = new TemplateRepository(overrideDir);
+        String first = repository.load("templates/example_template.txt");
+
+        assertSame(first, repository.load("templates/example_template.txt"));
+    }
+
+    @Test
+    void load_덮어쓰기_파일이_삭제되면_클래스패스로_복귀() throws IOException {
+        Path override = writeOverride("templates/example_template.txt", "v1", Instant.parse("2025-01-01T00:00:00Z"));
+        TemplateRepository repository = new TemplateRepository(overrideDir);
+        repository.load("templates/example_template.txt");
+
+        Files.delete(override);
+
+        assertEquals("This is a test template.", repository.load("templates/example_template.txt"));
+    }
+
+    @Test
+    void load_여러_스레드에서_동시에_읽어도_같은_인스턴스() throws Exception {
+        TemplateRepository repository = new TemplateRepository();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                results.add(executor.submit(() -> repository.load("templates/example_template.txt")));
+            }
+
+            String expected = repository.load("templates/example_template.txt");
+            for (Future<String> result : results) {
+                assertSame(expected, result.get());
+            }
+        }
+    }
+
+    private Path writeOverride(String resourcePath, String contents, Instant modified) throws IOException {
+        Path file = overrideDir.resolve(resourcePath);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, contents);
+        Files.setLastModifiedTime(file, FileTime.from(modified));
+        return file;
+    }
+}
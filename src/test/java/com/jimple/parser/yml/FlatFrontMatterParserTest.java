@@ -0,0 +1,170 @@
+package com.jimple.parser.yml;
+
+import com.jimple.model.md.MarkdownProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FlatFrontMatterParser 테스트")
+class FlatFrontMatterParserTest {
+
+    private static final List<String> KEYS = List.of("publish", "title", "date", "description", "thumbnailUrl", "path");
+
+    // 일반적인 값과 YAML 1.1 의 타입 판별/문법 경계에 걸리는 값
+    private static final List<String> VALUES = List.of(
+            "", "plain text", "한글 제목", "  spaced  ", "with # comment", "with#hash", "'single'", "'it''s'",
+            "\"double\"", "\"esc\\\"aped\"", "\"unclosed", "'unclosed", "'a' trailing", "\"a\" # c",
+            "true", "True", "TRUE", "false", "yes", "No", "on", "OFF", "y", "n",
+            "null", "Null", "~", "123", "-1", "0x1F", "1_000", "1:20", "3.14", ".inf", ".NaN", "1e3",
+            "2024-01-05", "2024-1-5", "2024-02-30", "1500-03-01", "2024-01-05 10:00:00", "2024-01-05T10:00:00Z",
+            "'2024-01-05'", "[a, b]", "{a: 1}", "&anchor value", "*alias", "!!str 1", "|", ">", "- item",
+            "? key", ": value", "a: b", "ends:", "http://example.com/a.png", "a,b", "%x", "@x", "`x`",
+            "#only comment", ",x", "개발/Java/스프링부트", "<<", "=", "a\tb"
+    );
+
+    @Test
+    @DisplayName("각 키에 여러 형태의 값을 넣어도 SnakeYAML 경로와 결과가 같음")
+    void testMatchesYamlPathForEachKeyAndValue() {
+        for (String key : KEYS) {
+            for (String value : VALUES) {
+                StringBuilder frontmatter = new StringBuilder();
+                for (String other : KEYS) {
+                    frontmatter.append(other).append(": ")
+                            .append(other.equals(key) ? value : defaultValue(other)).append('\n');
+                }
+                assertSameResult(frontmatter.toString());
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "title: 제목\npublish: true\ndate: 2023-10-10",
+            "title: 제목\r\npublish: true\r\ndate: 2023-10-10\r\n",
+            "# 주석\ntitle: 제목\n\npublish: true # 게시\n",
+            "title: 첫 번째\ntitle: 두 번째\npublish: true",
+            "title : 제목\npublish   : true",
+            "publish: false\ntitle: 123",
+            "publish: true",
+            "publish: true\ntitle:",
+            "publish: true\ntitle: 제목\ndescription:",
+            "publish: true\ntitle: 제목\ntags: [a, b]",
+            "publish: true\ntitle: 제목\ntags:\n  - a\n  - b",
+            "publish: true\ntitle: |\n  여러 줄\n  제목",
+            "publish: true\ntitle: 제목\n  이어지는 줄",
+            "publish: true\ntitle: &t 제목\ndescription: *t",
+            "publish: true\n\"title\": 제목",
+            "publish: true\ntitle:제목",
+            "publish: true\ntitle: 제목\n---\nother: doc",
+            "---\npublish: true\ntitle: 제목",
+            "publish: true\ntitle: 제목\n...",
+            "# 주석만 있음",
+            "just a scalar",
+            "publish: true\ntitle: a\u0085b",
+            "publish: true\ntitle: a\u0001b",
+            "\tpublish: true\ntitle: 제목",
+            "publish: true\ntitle: 제목\nkey with space: x",
+            "publish: true\ntitle: 제목\n한글키: 값",
+            "publish: true\ntitle: 제목\non: x\nyes: y"
+    })
+    @DisplayName("문서 전체 형태에 따라 SnakeYAML 경로와 결과가 같음")
+    void testMatchesYamlPathForWholeDocuments(String frontmatter) {
+        assertSameResult(frontmatter);
+    }
+
+    @Test
+    @DisplayName("UTC 보다 늦은 시간대에서도 날짜 변환 결과가 SnakeYAML 경로와 같음")
+    void testDateConversionMatchesYamlPathInOtherTimeZone() {
+        TimeZone original = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("America/Los_Angeles"));
+            assertSameResult("title: 제목\npublish: true\ndate: 2023-10-10");
+
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Seoul"));
+            assertSameResult("title: 제목\npublish: true\ndate: 2023-10-10");
+        } finally {
+            TimeZone.setDefault(original);
+        }
+    }
+
+    @Test
+    @DisplayName("일반적인 머리말은 SnakeYAML 없이 처리")
+    void testHandlesTypicalFrontMatterWithoutFallback() {
+        String frontmatter = """
+                title: 'Spring: 시작하기'
+                publish: true
+                date: 2023-10-10
+                description: "스프링 부트 입문"
+                thumbnailUrl: https://example.com/image.jpg
+                path: 개발/Java/스프링부트
+                """;
+
+        MarkdownProperties properties = FlatFrontMatterParser.parse(frontmatter);
+
+        assertNotNull(properties);
+        assertEquals("Spring: 시작하기", properties.title());
+        assertEquals("스프링 부트 입문", properties.description());
+        assertEquals("개발/Java/스프링부트", properties.path());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "publish: true\ntitle: [a, b]",
+            "publish: true\ntitle: |\n  여러 줄",
+            "publish: true\ntitle: &a 제목",
+            "publish: true\ntitle: \"esc\\\"aped\"",
+            "publish: true\ntitle: 제목\ndate: 2024-01-05 10:00:00",
+            "publish: true\ntitle: 123"
+    })
+    @DisplayName("처리할 수 없는 YAML 은 null 을 반환하여 SnakeYAML 경로로 넘김")
+    void testReturnsNullForUnsupportedYaml(String frontmatter) {
+        assertNull(FlatFrontMatterParser.parse(frontmatter));
+    }
+
+    private static String defaultValue(String key) {
+        return switch (key) {
+            case "publish" -> "true";
+            case "title" -> "기본 제목";
+            case "date" -> "2024-05-06";
+            case "description" -> "기본 설명";
+            case "thumbnailUrl" -> "https://example.com/a.png";
+            default -> "개발/Java";
+        };
+    }
+
+    /**
+     * 기본 경로(단순 파서 + SnakeYAML 대체)와 SnakeYAML 전용 경로의 결과 또는 예외가 같은지 확인
+     */
+    private static void assertSameResult(String frontmatter) {
+        SimpleMarkdownYmlParser parser = new SimpleMarkdownYmlParser();
+        assertEquals(outcome(() -> parser.getPropertiesWithYaml(frontmatter)),
+                outcome(() -> parser.getProperties(frontmatter)),
+                () -> "머리말: " + frontmatter);
+    }
+
+    private static List<Object> outcome(Supplier<MarkdownProperties> parse) {
+        List<Object> result = new ArrayList<>();
+        try {
+            MarkdownProperties properties = parse.get();
+            result.add(properties.publish());
+            result.add(properties.title());
+            result.add(properties.date() == null ? null : properties.date().equals(LocalDate.now()) ? "now" : properties.date());
+            result.add(properties.description());
+            result.add(properties.thumbnailUrl());
+            result.add(properties.path());
+        } catch (RuntimeException e) {
+            result.add(e.getClass());
+            result.add(e.getMessage());
+        }
+        return result;
+    }
+}
@@ -4,6 +4,11 @@ import com.jimple.model.md.MarkdownProperties;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -313,4 +318,33 @@ class SimpleMarkdownYmlParserTest {
         assertEquals("https://example.com/image.jpg", properties.thumbnailUrl());
         assertEquals("개발/Java/스프링부트", properties.path());
     }
-}
\ No newline at end of file
+
+    /**
+     * 한 파서 인스턴스를 여러 스레드에서 동시에 사용해도 각 머리말이 올바르게 파싱되는지 검증
+     * 잘못된 머리말로 파싱이 실패한 뒤에도 재사용되는 Yaml 인스턴스가 정상 동작해야 함
+     */
+    @Test
+    void testConcurrentParsingWithSharedParser() throws Exception {
+        SimpleMarkdownYmlParser parser = new SimpleMarkdownYmlParser();
+        List<Future<MarkdownProperties>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 200; i++) {
+                String frontmatter = i % 10 == 0
+                        ? "title: [unclosed\npublish: true"
+                        : "title: Post " + i + "\npublish: true\ndate: 2024-01-" + String.format("%02d", i % 28 + 1);
+                futures.add(executor.submit(() -> parser.getProperties(frontmatter)));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                MarkdownProperties properties = futures.get(i).get();
+                if (i % 10 == 0) {
+                    assertFalse(properties.publish());
+                } else {
+                    assertEquals("Post " + i, properties.title());
+                    assertEquals(LocalDate.of(2024, 1, i % 28 + 1), properties.date());
+                }
+            }
+        }
+    }
+}
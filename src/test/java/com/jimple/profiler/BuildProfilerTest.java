@@ -0,0 +1,156 @@
+package com.jimple.profiler;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jimple.manager.MemorySiteOutput;
+import com.jimple.manager.ProfilingSiteOutput;
+import com.jimple.manager.SiteOutput;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BuildProfiler 테스트")
+class BuildProfilerTest {
+
+    @Test
+    @DisplayName("중첩된 작업은 안쪽 작업을 실행하는 동안 바깥 작업의 시간을 세지 않음")
+    void testNestedStagesMeasureExclusiveTime() throws InterruptedException {
+        BuildProfiler profiler = BuildProfiler.create();
+
+        profiler.page("post.html", () -> profiler.time(BuildProfiler.Stage.CONVERSION, () -> {
+            Thread.sleep(30);
+            profiler.time(BuildProfiler.Stage.WRITING, () -> Thread.sleep(30));
+        }));
+
+        BuildReport report = profiler.report(10);
+        double conversion = report.stages().get("conversion").millis();
+        double writing = report.stages().get("writing").millis();
+        double templating = report.stages().get("templating").millis();
+        double page = report.pages().getFirst().millis();
+
+        assertTrue(conversion >= 30 && writing >= 30, () -> report.stages().toString());
+        assertTrue(templating < 30, () -> report.stages().toString());
+        // 작업 시간의 합은 페이지 전체 시간을 넘지 않음
+        assertTrue(conversion + writing + templating <= page + 0.01, () -> report.pages().toString());
+    }
+
+    @Test
+    @DisplayName("출력 대상에 기록한 바이트 수를 UTF-8 기준으로 페이지와 전체에 기록")
+    void testRecordsBytesWrittenPerPage() throws IOException {
+        BuildProfiler profiler = BuildProfiler.create();
+        SiteOutput output = new ProfilingSiteOutput(new MemorySiteOutput(), profiler);
+
+        output.write("post-list-1.json", "{}");
+        profiler.page("a.html", () -> output.write("a.html", "<p>한글</p>"));
+        profiler.page("b.html", () -> output.write("b.html", writer -> {
+            writer.write("<p>");
+            writer.write('é');
+            writer.write("😀</p>".toCharArray());
+        }));
+
+        BuildReport report = profiler.report(10);
+
+        assertEquals(2, report.pageCount());
+        assertEquals(List.of(new PageBytes("a.html", 13), new PageBytes("b.html", 13)),
+                report.pages().stream().map(page -> new PageBytes(page.path(), page.bytes())).toList());
+        assertEquals(2 + 13 + 13, report.bytesWritten());
+        // 쓰기 횟수는 기록 호출 수가 아니라 파일 수
+        assertEquals(3, report.stages().get("writing").count());
+    }
+
+    @Test
+    @DisplayName("측정기로 나누어 잰 작업은 시간을 모두 더하고 횟수는 한 번으로 기록")
+    void testTimerCountsOnce() throws IOException {
+        BuildProfiler profiler = BuildProfiler.create();
+        StringBuilder out = new StringBuilder();
+
+        profiler.page("a.html", () -> {
+            BuildProfiler.Timer formatting = profiler.timer(BuildProfiler.Stage.FORMATTING);
+            Writer timed = formatting.timed(out);
+            timed.append("<p>").append('a').append("</p>", 0, 4);
+            // 버퍼에 모았다가 flush 할 때 넘김
+            assertEquals("", out.toString());
+            timed.flush();
+            formatting.time(() -> out.append('\n'));
+        });
+
+        BuildReport report = profiler.report(10);
+        assertEquals("<p>a</p>\n", out.toString());
+        assertEquals(1, report.stages().get("formatting").count());
+        assertEquals(1, report.stages().get("templating").count());
+    }
+
+    @Test
+    @DisplayName("가장 느린 페이지를 시간 역순으로 지정한 수만큼 보고")
+    void testReportsSlowestPages() throws InterruptedException {
+        BuildProfiler profiler = BuildProfiler.create();
+        for (String path : List.of("fast.html", "slow.html", "medium.html")) {
+            profiler.page(path, () -> Thread.sleep(switch (path) {
+                case "slow.html" -> 40;
+                case "medium.html" -> 20;
+                default -> 0;
+            }));
+        }
+
+        BuildReport report = profiler.report(2);
+
+        assertEquals(List.of("slow.html", "medium.html"),
+                report.slowestPages().stream().map(BuildReport.Page::path).toList());
+        assertEquals(List.of("fast.html", "medium.html", "slow.html"),
+                report.pages().stream().map(BuildReport.Page::path).toList());
+    }
+
+    @Test
+    @DisplayName("단계 시간은 실행 순서대로 기록하고 보고서를 JSON 으로 저장")
+    void testWritesReportJson(@TempDir Path tempDir) throws IOException {
+        BuildProfiler profiler = BuildProfiler.create();
+        List<String> found = profiler.phase("discovery", () -> List.of("a.md"));
+        profiler.phase("collection", () -> { });
+        profiler.phase("discovery", () -> { });
+
+        Path file = tempDir.resolve("reports/build-report.json");
+        profiler.report(5).write(file);
+
+        JsonNode json = new ObjectMapper().readTree(file.toFile());
+        assertEquals(List.of("a.md"), found);
+        assertEquals(List.of("discovery", "collection"), iterate(json.get("phases").fieldNames()));
+        assertEquals(List.of("conversion", "templating", "formatting", "writing"),
+                iterate(json.get("stages").fieldNames()));
+        assertTrue(json.get("slowestPages").isArray());
+    }
+
+    @Test
+    @DisplayName("비활성 프로파일러는 출력 대상을 감싸지 않고 아무것도 기록하지 않음")
+    void testDisabledProfilerRecordsNothing() throws IOException {
+        BuildProfiler profiler = BuildProfiler.disabled();
+        StringBuilder out = new StringBuilder();
+
+        // 비활성이면 버퍼 없이 바로 넘김
+        profiler.timer(BuildProfiler.Stage.FORMATTING).timed(out).append("<p>");
+        profiler.page("a.html", () -> profiler.addBytesWritten(100));
+
+        BuildReport report = profiler.report(10);
+        assertFalse(profiler.enabled());
+        assertEquals(0, report.pageCount());
+        assertEquals(0, report.bytesWritten());
+        assertEquals("<p>", out.toString());
+    }
+
+    private static List<String> iterate(Iterator<String> iterator) {
+        List<String> values = new ArrayList<>();
+        iterator.forEachRemaining(values::add);
+        return values;
+    }
+
+    private record PageBytes(String path, long bytes) {
+    }
+}
@@ -0,0 +1,98 @@
+package com.jimple.profiler;
+
+import com.jimple.generator.converter.CachingMd2HtmlConverter;
+import com.jimple.generator.converter.ConverterCache;
+import com.jimple.generator.converter.SimpleMd2HtmlConverter;
+import com.jimple.manager.SyncSiteOutput;
+import com.jimple.parser.template.CompiledTemplate;
+import com.jimple.parser.template.SimpleTemplateEngine;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JFR 이벤트 테스트")
+class JimpleEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("파일 저장은 경로, 크기, 변경 여부와 함께 기록")
+    void testRecordsFileWrites() throws IOException {
+        SyncSiteOutput output = new SyncSiteOutput(tempDir.resolve("site"));
+
+        List<RecordedEvent> events = record(FileWriteEvent.class, () -> {
+            output.write("a.html", "<p>a</p>");
+            output.write("a.html", "<p>a</p>");
+            output.write("b.html", writer -> writer.write("<p>bb</p>"));
+        });
+
+        assertEquals(List.of("a.html:8:true", "a.html:8:false", "b.html:9:true"), events.stream()
+                .map(event -> event.getString("path") + ":" + event.getLong("bytes") + ":" + event.getBoolean("changed"))
+                .toList());
+    }
+
+    @Test
+    @DisplayName("본문 변환은 실제 변환과 캐시에서 찾은 결과를 구분하여 기록")
+    void testRecordsConversionsWithCacheHitFlag() throws IOException {
+        CachingMd2HtmlConverter converter = new CachingMd2HtmlConverter(new SimpleMd2HtmlConverter(),
+                ConverterCache.open(tempDir.resolve("cache"), ConverterCache.DEFAULT_MAX_BYTES));
+
+        List<RecordedEvent> events = record(MarkdownConversionEvent.class, () -> {
+            converter.convertBodyToHtml("# 제목");
+            converter.convertBodyToHtml("# 제목");
+        });
+
+        assertEquals(List.of(false, true), events.stream().map(event -> event.getBoolean("cacheHit")).toList());
+        assertEquals(4, events.getFirst().getLong("markdownChars"));
+        assertEquals("<h1>제목</h1>\n".length(), events.getLast().getLong("htmlChars"));
+    }
+
+    @Test
+    @DisplayName("템플릿 렌더링과 빌드 단계를 기록")
+    void testRecordsTemplatesAndStages() throws IOException {
+        SimpleTemplateEngine engine = new SimpleTemplateEngine();
+
+        List<RecordedEvent> templates = record(TemplateRenderEvent.class, () -> {
+            // 문자열 템플릿은 렌더링할 때 컴파일하고, 저장소의 템플릿은 읽을 때 컴파일한 결과를 사용
+            engine.processTemplate("<p>{{title}}</p>", Map.of("title", "제목"));
+            engine.render(CompiledTemplate.compile("<p>{{title}}</p>"), Map.of("title", "제목"), new StringBuilder());
+        });
+        List<RecordedEvent> stages = record(BuildStageEvent.class,
+                () -> BuildProfiler.disabled().phase("discovery", () -> { }));
+
+        assertEquals(List.of(false, true), templates.stream().map(event -> event.getBoolean("cacheHit")).toList());
+        assertEquals(List.of(9L, -1L), templates.stream().map(event -> event.getLong("outputChars")).toList());
+        assertEquals(List.of("discovery"), stages.stream().map(event -> event.getString("stage")).toList());
+    }
+
+    private List<RecordedEvent> record(Class<? extends Event> eventType, Action action) throws IOException {
+        Path file = tempDir.resolve(eventType.getSimpleName() + ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventType).withoutThreshold();
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        return RecordingFile.readAllEvents(file).stream()
+                .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                .toList();
+    }
+
+    private interface Action {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,104 @@
+package com.jimple.server;
+
+import com.jimple.manager.MemorySiteOutput;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DevServer 테스트")
+class DevServerTest {
+    private final HttpClient client = HttpClient.newHttpClient();
+    private MemorySiteOutput site;
+    private DevServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        site = new MemorySiteOutput();
+        server = new DevServer(site, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("메모리의 HTML 을 새로고침 스크립트와 함께 제공")
+    void testServesHtmlWithLiveReloadScript() throws Exception {
+        site.write("index.html", "<html><body><h1>홈</h1></body></html>");
+        site.write("자바-입문.html", "<html><body>글</body></html>");
+
+        HttpResponse<String> index = get("/");
+        HttpResponse<String> article = get("/%EC%9E%90%EB%B0%94-%EC%9E%85%EB%AC%B8");
+
+        assertEquals(200, index.statusCode());
+        assertEquals("text/html; charset=utf-8", index.headers().firstValue("Content-Type").orElseThrow());
+        assertTrue(index.body().startsWith("<html><body><h1>홈</h1><script>new EventSource('" + DevServer.LIVE_RELOAD_PATH));
+        assertTrue(index.body().endsWith("</script></body></html>"));
+        assertEquals(200, article.statusCode());
+        assertTrue(article.body().contains("글"));
+    }
+
+    @Test
+    @DisplayName("HTML 이 아닌 파일은 그대로 제공하고 없는 파일은 404")
+    void testServesOtherFilesAndNotFound() throws Exception {
+        site.write("post-list-1.json", "{\"items\":[]}");
+
+        HttpResponse<String> json = get("/post-list-1.json");
+        HttpResponse<String> missing = get("/missing.html");
+        HttpResponse<String> outside = get("/../index.html");
+
+        assertEquals("{\"items\":[]}", json.body());
+        assertEquals("application/json; charset=utf-8", json.headers().firstValue("Content-Type").orElseThrow());
+        assertEquals(404, missing.statusCode());
+        assertEquals(404, outside.statusCode());
+    }
+
+    @Test
+    @DisplayName("재생성 알림을 SSE 로 연결된 브라우저에 전송")
+    void testNotifyReloadSendsServerSentEvent() throws Exception {
+        var connection = URI.create("http://localhost:" + server.port() + DevServer.LIVE_RELOAD_PATH).toURL().openConnection();
+        connection.setReadTimeout(5000);
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8))) {
+            // 첫 줄은 연결이 등록된 뒤에 전송됨
+            assertEquals("retry: 1000", reader.readLine());
+            assertEquals("", reader.readLine());
+            assertEquals(1, server.clientCount());
+
+            CompletableFuture<String> event = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return reader.readLine();
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            server.notifyReload();
+
+            assertEquals("data: reload", event.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.port() + path)).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,161 @@
+package com.jimple.server;
+
+import com.jimple.collector.MarkdownFileMapper;
+import com.jimple.finder.SimpleMarkdownFinder;
+import com.jimple.generator.MarkdownGenerator;
+import com.jimple.model.build.OutputFormat;
+import com.jimple.model.md.MarkdownFile;
+import com.jimple.parser.extractor.SimpleMarkdownExtractor;
+import com.jimple.parser.yml.SimpleMarkdownYmlParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("OnDemandSite 테스트")
+class OnDemandSiteTest {
+    @TempDir
+    Path sourceDir;
+
+    private MarkdownGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        generator = mock(MarkdownGenerator.class);
+        when(generator.generateToHtml(any(MarkdownFile.class)))
+                .thenAnswer(invocation -> "<p>" + invocation.<MarkdownFile>getArgument(0).contents() + "</p>");
+        when(generator.generateMainPage(any(), any()))
+                .thenAnswer(invocation -> "<main>" + invocation.<MarkdownFile>getArgument(1).contents() + "</main>");
+    }
+
+    @Test
+    @DisplayName("게시글은 처음 요청될 때 원본을 읽어 렌더링하고 이후에는 캐시를 사용")
+    void testRendersPostOnFirstRequestAndCachesIt() throws IOException {
+        Path post = write("java.md", "자바 입문", "2024-01-01", "", "초기 본문");
+        PageCache cache = new PageCache(1024);
+        OnDemandSite site = index(cache);
+
+        // 인덱스 이후에 바뀐 본문이 첫 요청에 반영됨
+        Files.writeString(post, markdown("자바 입문", "2024-01-01", "", "바뀐 본문"));
+        assertEquals("<p>바뀐 본문</p>", read(site, "자바-입문.html"));
+        assertEquals(1, cache.size());
+
+        Files.writeString(post, markdown("자바 입문", "2024-01-01", "", "다시 바뀐 본문"));
+        assertEquals("<p>바뀐 본문</p>", read(site, "자바-입문.html"));
+        verify(generator, times(1)).generateToHtml(any(MarkdownFile.class));
+    }
+
+    @Test
+    @DisplayName("요청하지 않은 게시글은 본문을 읽지 않음")
+    void testDoesNotReadUnrequestedPosts() throws IOException {
+        write("a.md", "첫 글", "2024-01-01", "", "본문 A");
+        Path other = write("b.md", "둘째 글", "2024-01-02", "", "본문 B");
+        OnDemandSite site = index(new PageCache(1024));
+
+        Files.delete(other);
+
+        assertEquals("<p>본문 A</p>", read(site, "첫-글.html"));
+        assertEquals(2, site.postCount());
+        assertNull(site.get("없는-글.html"));
+    }
+
+    @Test
+    @DisplayName("메인 페이지는 최신 게시글 본문을 포함")
+    void testMainPageUsesLatestPost() throws IOException {
+        write("a.md", "예전 글", "2024-01-01", "", "예전 본문");
+        write("b.md", "최신 글", "2024-03-01", "", "최신 본문");
+        Files.writeString(sourceDir.resolve("draft.md"), "---\ntitle: 초안\npublish: false\n---\n초안 본문");
+
+        OnDemandSite site = index(new PageCache(1024));
+
+        assertEquals("<main>최신 본문</main>", read(site, "index.html"));
+        assertNull(site.get("초안.html"));
+    }
+
+    @Test
+    @DisplayName("목록과 카테고리 JSON 을 메모리 인덱스로 생성")
+    void testServesListAndCategoryJsonFromIndex() throws IOException {
+        for (int i = 1; i <= 6; i++) {
+            write("post" + i + ".md", "글 " + i, "2024-01-0" + i, i % 2 == 0 ? "개발/Java" : "", "본문");
+        }
+        OnDemandSite site = index(new PageCache(1024 * 1024));
+
+        String firstPage = read(site, "post-list-1.json");
+        String secondPage = read(site, "post-list-2.json");
+        String category = read(site, "category-개발-Java.json");
+
+        assertTrue(firstPage.startsWith("{\"posts\":[{\"title\":\"글 6\""));
+        assertTrue(firstPage.endsWith("\"page\":{\"current\":1,\"last\":2,\"count\":6,\"hasNext\":true,\"hasPrev\":false}}"),
+                firstPage);
+        assertTrue(secondPage.contains("\"title\":\"글 1\""));
+        assertTrue(category.contains("\"categoryPath\":\"개발/Java\""));
+        assertTrue(read(site, "category-root.json").contains("\"name\":\"개발\""));
+        assertNull(site.get("post-list-3.json"));
+        assertNull(site.get("post-list-01.json"));
+        assertNull(site.get("category-없음.json"));
+        verify(generator, never()).generateToHtml(any(MarkdownFile.class));
+    }
+
+    @Test
+    @DisplayName("카테고리 JSON 은 지정한 페이지 크기로 나누어 제공")
+    void testServesPagedCategoryJson() throws IOException {
+        for (int i = 1; i <= 5; i++) {
+            write("post" + i + ".md", "글 " + i, "2024-01-0" + i, "개발", "본문");
+        }
+        OnDemandSite site = OnDemandSite.index(sourceDir, new SimpleMarkdownFinder(),
+                new MarkdownFileMapper(new SimpleMarkdownYmlParser(), new SimpleMarkdownExtractor()), generator,
+                OutputFormat.NONE, 2, new PageCache(1024 * 1024));
+
+        assertTrue(read(site, "category-개발.json").contains("\"page\":{\"current\":1,\"last\":3,\"count\":5"));
+        assertTrue(read(site, "category-개발.page-3.json").contains("\"posts\":[{\"title\":\"글 5\""));
+        assertNull(site.get("category-개발.page-4.json"));
+        assertNull(site.get("category-root.page-2.json"));
+    }
+
+    @Test
+    @DisplayName("캐시 크기를 넘으면 오래 사용하지 않은 페이지부터 버림")
+    void testEvictsLeastRecentlyUsedPages() {
+        PageCache cache = new PageCache(10);
+
+        cache.put("a", new byte[4]);
+        cache.put("b", new byte[4]);
+        cache.get("a");
+        cache.put("c", new byte[4]);
+        cache.put("big", new byte[11]);
+
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("c"));
+        assertNull(cache.get("big"));
+        assertEquals(8, cache.totalBytes());
+    }
+
+    private OnDemandSite index(PageCache cache) {
+        MarkdownFileMapper mapper = new MarkdownFileMapper(new SimpleMarkdownYmlParser(), new SimpleMarkdownExtractor());
+        return OnDemandSite.index(sourceDir, new SimpleMarkdownFinder(), mapper, generator, OutputFormat.NONE, cache);
+    }
+
+    private Path write(String name, String title, String date, String path, String body) throws IOException {
+        return Files.writeString(sourceDir.resolve(name), markdown(title, date, path, body));
+    }
+
+    private static String markdown(String title, String date, String path, String body) {
+        return "---\ntitle: " + title + "\npublish: true\ndate: " + date
+                + (path.isEmpty() ? "" : "\npath: " + path) + "\n---\n" + body;
+    }
+
+    private static String read(OnDemandSite site, String path) {
+        byte[] contents = site.get(path);
+        assertNotNull(contents, path);
+        return new String(contents, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,68 @@
+package com.jimple.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LayeredMap 클래스에 대한 단위 테스트
+ */
+class LayeredMapTest {
+
+    @Test
+    void get_상위_계층이_없으면_하위_계층에서_조회() {
+        Map<String, Object> layered = new LayeredMap<>(Map.of("blogTitle", "블로그", "title", "기본 제목"));
+        layered.put("title", "게시글 제목");
+
+        assertEquals("블로그", layered.get("blogTitle"));
+        assertEquals("게시글 제목", layered.get("title"));
+        assertNull(layered.get("missing"));
+    }
+
+    @Test
+    void put_null_값도_하위_계층을_가림() {
+        Map<String, Object> layered = new LayeredMap<>(Map.of("date", "2025-01-01"));
+        layered.put("date", null);
+
+        assertTrue(layered.containsKey("date"));
+        assertNull(layered.get("date"));
+    }
+
+    @Test
+    void put_하위_맵은_변경하지_않음() {
+        Map<String, Object> base = new HashMap<>(Map.of("title", "기본 제목"));
+        Map<String, Object> first = new LayeredMap<>(base);
+        Map<String, Object> second = new LayeredMap<>(base);
+
+        Object previous = first.put("title", "첫 번째");
+        second.put("content", "본문");
+
+        assertEquals("기본 제목", previous);
+        assertEquals(Map.of("title", "기본 제목"), base);
+        assertEquals("기본 제목", second.get("title"));
+        assertNull(first.get("content"));
+    }
+
+    @Test
+    void remove_상위_계층만_제거() {
+        Map<String, Object> layered = new LayeredMap<>(Map.of("title", "기본 제목"));
+        layered.put("title", "게시글 제목");
+
+        layered.remove("title");
+
+        assertEquals("기본 제목", layered.get("title"));
+    }
+
+    @Test
+    void entrySet_두_계층을_합친_결과() {
+        Map<String, Object> layered = new LayeredMap<>(Map.of("title", "기본 제목", "blogTitle", "블로그"));
+        layered.put("title", "게시글 제목");
+        layered.put("content", "본문");
+
+        assertEquals(Map.of("title", "게시글 제목", "blogTitle", "블로그", "content", "본문"), layered);
+        assertEquals(3, layered.size());
+    }
+}
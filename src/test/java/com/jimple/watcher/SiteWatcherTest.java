@@ -0,0 +1,125 @@
+package com.jimple.watcher;
+
+import com.jimple.collector.MarkdownFileMapper;
+import com.jimple.finder.SimpleMarkdownFinder;
+import com.jimple.generator.MarkdownGenerator;
+import com.jimple.manager.ResultManager;
+import com.jimple.model.build.BuildOptions;
+import com.jimple.model.generator.GenerateType;
+import com.jimple.model.md.MarkdownFile;
+import com.jimple.parser.extractor.SimpleMarkdownExtractor;
+import com.jimple.parser.yml.SimpleMarkdownYmlParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SiteWatcher 테스트")
+class SiteWatcherTest {
+
+    @TempDir
+    Path sourceDir;
+
+    @TempDir
+    Path resultDir;
+
+    private MarkdownGenerator generator;
+    private SiteWatcher watcher;
+
+    @BeforeEach
+    void setUp() {
+        generator = mock(MarkdownGenerator.class, CALLS_REAL_METHODS);
+        when(generator.fingerprint()).thenReturn("generator");
+        when(generator.generateToHtml(any(), eq(GenerateType.ARTICLE))).thenAnswer(invocation ->
+                "<html><body>" + invocation.<MarkdownFile>getArgument(0).contents() + "</body></html>");
+        when(generator.generateToHtml(any(), eq(GenerateType.LIST))).thenReturn("<html>List</html>");
+        when(generator.generateMainPage(any(), any())).thenReturn("<html>Index</html>");
+        when(generator.generateArchivePage(any())).thenReturn("<html>Archive</html>");
+
+        SimpleMarkdownFinder finder = new SimpleMarkdownFinder();
+        MarkdownFileMapper mapper = new MarkdownFileMapper(new SimpleMarkdownYmlParser(), new SimpleMarkdownExtractor());
+        ResultManager resultManager = new ResultManager(finder, mapper, generator, resultDir,
+                new BuildOptions().withIncremental(true));
+
+        watcher = new SiteWatcher(sourceDir, finder, mapper, resultManager);
+    }
+
+    @Test
+    @DisplayName("rebuild - 수정된 파일의 페이지만 다시 생성")
+    void rebuild_ShouldRenderOnlyChangedPage() throws IOException {
+        Path first = writePost("first.md", "First", "2025-01-01", "첫 번째");
+        writePost("second.md", "Second", "2025-01-02", "두 번째");
+        watcher.buildAll();
+
+        writePost("first.md", "First", "2025-01-01", "수정됨");
+        boolean updated = watcher.rebuild(Set.of(first));
+
+        assertTrue(updated);
+        assertTrue(Files.readString(resultDir.resolve("First.html")).contains("수정됨"));
+        verify(generator, times(1)).generateToHtml(argThat(file -> file.path().equals("Second.html")), eq(GenerateType.ARTICLE));
+        verify(generator, times(2)).generateToHtml(argThat(file -> file.path().equals("First.html")), eq(GenerateType.ARTICLE));
+    }
+
+    @Test
+    @DisplayName("rebuild - 삭제된 파일의 결과와 목록 페이지 갱신")
+    void rebuild_ShouldRemoveOutputsOfDeletedFile() throws IOException {
+        writePost("first.md", "First", "2025-01-01", "첫 번째");
+        Path second = writePost("second.md", "Second", "2025-01-02", "두 번째");
+        watcher.buildAll();
+
+        Files.delete(second);
+        watcher.rebuild(Set.of(second));
+
+        assertFalse(Files.exists(resultDir.resolve("Second.html")));
+        assertTrue(Files.exists(resultDir.resolve("First.html")));
+        assertFalse(Files.readString(resultDir.resolve("post-list-1.json")).contains("Second"));
+    }
+
+    @Test
+    @DisplayName("rebuild - 마크다운이 아닌 파일 변경은 무시")
+    void rebuild_ShouldIgnoreNonMarkdownFiles() throws IOException {
+        writePost("first.md", "First", "2025-01-01", "첫 번째");
+        watcher.buildAll();
+
+        Path image = Files.writeString(sourceDir.resolve("image.png"), "png");
+
+        assertFalse(watcher.rebuild(Set.of(image)));
+        verify(generator, times(1)).generateToHtml(any(), eq(GenerateType.ARTICLE));
+    }
+
+    @Test
+    @DisplayName("rebuild - 초안으로 바뀐 파일은 결과에서 제거하고, 초안 수정은 무시")
+    void rebuild_ShouldDropPostTurnedIntoDraft() throws IOException {
+        writePost("first.md", "First", "2025-01-01", "첫 번째");
+        Path second = writePost("second.md", "Second", "2025-01-02", "두 번째");
+        watcher.buildAll();
+
+        writePost("second.md", false, "Second", "2025-01-02", "초안");
+        assertTrue(watcher.rebuild(Set.of(second)));
+        assertFalse(Files.exists(resultDir.resolve("Second.html")));
+        assertFalse(Files.readString(resultDir.resolve("post-list-1.json")).contains("Second"));
+
+        writePost("second.md", false, "Second", "2025-01-02", "초안 수정");
+        assertFalse(watcher.rebuild(Set.of(second)));
+    }
+
+    private Path writePost(String fileName, String title, String date, String body) throws IOException {
+        return writePost(fileName, true, title, date, body);
+    }
+
+    private Path writePost(String fileName, boolean publish, String title, String date, String body) throws IOException {
+        String contents = "---\npublish: " + publish + "\ntitle: " + title + "\ndate: " + date + "\n---\n" + body + "\n";
+        return Files.writeString(sourceDir.resolve(fileName), contents);
+    }
+}